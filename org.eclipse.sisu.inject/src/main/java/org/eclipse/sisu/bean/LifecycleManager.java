@@ -15,21 +15,32 @@ package org.eclipse.sisu.bean;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.sisu.inject.BoundedCache;
 
 /**
  * {@link BeanManager} that manages JSR250 beans and schedules lifecycle events.
  */
 public final class LifecycleManager extends BeanScheduler implements BeanManager {
     // ----------------------------------------------------------------------
-    // Implementation fields
+    // Constants
     // ----------------------------------------------------------------------
 
-    private final LifecycleBuilder builder = new LifecycleBuilder();
+    /**
+     * Lifecycles per bean type; stored with the type so lifecycles (which refer back to it) won't prevent unloading.
+     */
+    private static final ClassValue<BeanLifecycle> LIFECYCLES = new ClassValue<BeanLifecycle>() {
+        @Override
+        protected BeanLifecycle computeValue(final Class<?> clazz) {
+            return new LifecycleBuilder().build(clazz);
+        }
+    };
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
 
-    private final Map<Class<?>, BeanLifecycle> lifecycles = //
-            new ConcurrentHashMap<>(16, 0.75f, 1);
+    // never evicted, as that would stop us from stopping beans; weakly held, so types don't pin their class loaders
+    private final BoundedCache<Class<?>, Boolean> managedTypes = BoundedCache.unboundedWeakKeys("bean.lifecycles");
 
     private final Deque<Object> stoppableBeans = new ArrayDeque<>();
 
@@ -95,12 +106,12 @@ public final class LifecycleManager extends BeanScheduler implements BeanManager
      * @return {@code true} if the bean defines a lifecycle; otherwise {@code false}
      */
     private boolean buildLifecycle(final Class<?> clazz) {
-        BeanLifecycle lifecycle = lifecycles.get(clazz);
-        if (null == lifecycle) {
-            lifecycle = builder.build(clazz);
-            lifecycles.put(clazz, lifecycle);
+        Boolean hasLifecycle = managedTypes.get(clazz);
+        if (null == hasLifecycle) {
+            hasLifecycle = Boolean.valueOf(LIFECYCLES.get(clazz) != BeanLifecycle.NO_OP);
+            managedTypes.put(clazz, hasLifecycle);
         }
-        return lifecycle != BeanLifecycle.NO_OP;
+        return hasLifecycle.booleanValue();
     }
 
     /**
@@ -113,9 +124,9 @@ public final class LifecycleManager extends BeanScheduler implements BeanManager
         if (null != bean) {
             // check the class hierarchy, just in case the bean instance has been proxied/enhanced
             for (Class<?> c = bean.getClass(); null != c && c != Object.class; c = c.getSuperclass()) {
-                final BeanLifecycle lifecycle = lifecycles.get(c);
-                if (null != lifecycle) {
-                    return lifecycle;
+                final Boolean hasLifecycle = managedTypes.get(c);
+                if (null != hasLifecycle) {
+                    return hasLifecycle.booleanValue() ? LIFECYCLES.get(c) : BeanLifecycle.NO_OP;
                 }
             }
         }
@@ -148,7 +159,7 @@ public final class LifecycleManager extends BeanScheduler implements BeanManager
      * @since 0.9.0.M3
      */
     public void flushCacheFor(ClassTester remove) {
-        for (Iterator<Class<?>> iterator = lifecycles.keySet().iterator(); iterator.hasNext(); ) {
+        for (Iterator<Class<?>> iterator = managedTypes.keySet().iterator(); iterator.hasNext(); ) {
             if (remove.shouldFlush(iterator.next())) {
                 iterator.remove();
             }
@@ -97,6 +97,23 @@ final class BeanCache<Q extends Annotation, T> {
         return newBean;
     }
 
+    /**
+     * Retrieves the {@link BeanEntry} currently associated with the given {@link Binding} reference.
+     *
+     * @param binding The binding
+     * @return Associated bean entry; {@code null} if there is none
+     */
+    public BeanEntry<Q, T> get(final Binding<T> binding) {
+        final Object o = mapping;
+        if (null == o) {
+            return null;
+        } else if (o instanceof LazyBeanEntry) {
+            return binding == ((LazyBeanEntry) o).binding ? (BeanEntry) o : null;
+        }
+        final Map<Binding<T>, BeanEntry<Q, T>> cache = flush();
+        return null != cache ? cache.get(binding) : null;
+    }
+
     /**
      * @return Read-only snapshot of the cache
      */
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.RandomAccess;
+import org.eclipse.sisu.BeanEntry;
+
+/**
+ * Immutable, random-access snapshot of {@link BeanEntry}s captured at a particular generation.
+ * <p>
+ * Entries are shared between clients of the same snapshot; use {@link BeanEntry#getProvider()} when each request
+ * must supply a new instance of an unscoped bean.
+ *
+ * @see MutableBeanLocator#locateSnapshot(com.google.inject.Key)
+ */
+public interface BeanSnapshot<Q extends Annotation, T> extends List<BeanEntry<Q, T>>, RandomAccess {
+    /**
+     * @return Generation of bindings captured by this snapshot
+     */
+    long generation();
+
+    /**
+     * Cheaply determines whether the located beans may have changed since this snapshot was captured.
+     *
+     * @return {@code true} if this snapshot is out-of-date; otherwise {@code false}
+     */
+    boolean isStale();
+}
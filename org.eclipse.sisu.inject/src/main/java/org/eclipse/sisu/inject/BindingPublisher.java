@@ -13,6 +13,7 @@
 package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
+import com.google.inject.TypeLiteral;
 
 /**
  * Publisher of {@link Binding}s to interested {@link BindingSubscriber}s.
@@ -39,6 +40,18 @@ public interface BindingPublisher {
      */
     int maxBindingRank();
 
+    /**
+     * Determines whether this publisher could publish a {@link Binding} of the given type under the given name; lets
+     * lookups by name skip publishers that know they don't have it. Assumes any name unless overridden.
+     *
+     * @param type The binding type
+     * @param name The binding name
+     * @return {@code true} if the publisher could have such a binding; otherwise {@code false}
+     */
+    default boolean mayPublish(final TypeLiteral<?> type, final String name) {
+        return true;
+    }
+
     /**
      * Attempts to adapt this publisher to the given type.
      *
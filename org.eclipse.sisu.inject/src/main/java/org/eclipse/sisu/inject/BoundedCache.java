@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe cache with optional size and time-to-live bounds, that keeps count of hits, misses, and evictions.
+ * <p>
+ * Bounds can be overridden with the <i>"sisu.cache.NAME.maxSize"</i> and <i>"sisu.cache.NAME.ttl"</i> (milliseconds)
+ * system properties, except for caches that are never evicted; zero or less means unbounded. When the size bound is
+ * exceeded the least recently used entries are evicted. Keys can be weakly held, so cached classes don't pin their
+ * class loaders, and values can be softly or weakly held, so the cache gives way to memory pressure. Entries whose
+ * values have been cleared by the garbage collector are purged on the next write.
+ */
+public final class BoundedCache<K, V> {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final int STRONG = 0;
+
+    private static final int SOFT = 1;
+
+    private static final int WEAK = 2;
+
+    private static final Collection<BoundedCache<?, ?>> CACHES = Weak.elements();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    private final String name;
+
+    private final ConcurrentMap<K, Slot<V>> map;
+
+    private final int valueStrength;
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private BoundedCache(
+            final String name,
+            final ConcurrentMap<K, Slot<V>> map,
+            final int valueStrength,
+            final int defaultMaxSize,
+            final boolean evictable) {
+        this.name = name;
+        this.map = map;
+        this.valueStrength = valueStrength;
+
+        if (evictable) {
+            maxSize = (int) longProperty("sisu.cache." + name + ".maxSize", defaultMaxSize);
+            ttlNanos = TimeUnit.MILLISECONDS.toNanos(longProperty("sisu.cache." + name + ".ttl", 0));
+        } else {
+            maxSize = 0; // never evicted, so ignore any overrides
+            ttlNanos = 0;
+        }
+
+        synchronized (CACHES) {
+            CACHES.add(this);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @param name The cache name
+     * @param maxSize The default size bound
+     * @return Cache whose keys and values are strongly held
+     */
+    public static <K, V> BoundedCache<K, V> strong(final String name, final int maxSize) {
+        return new BoundedCache<>(name, new ConcurrentHashMap<K, Slot<V>>(16, 0.75f, 1), STRONG, maxSize, true);
+    }
+
+    /**
+     * @param name The cache name
+     * @return Cache whose keys and values are strongly held, and never evicted
+     */
+    public static <K, V> BoundedCache<K, V> unbounded(final String name) {
+        return new BoundedCache<>(name, new ConcurrentHashMap<K, Slot<V>>(16, 0.75f, 1), STRONG, 0, false);
+    }
+
+    /**
+     * @param name The cache name
+     * @param maxSize The default size bound
+     * @return Cache whose keys are weakly held and compared by identity
+     */
+    public static <K, V> BoundedCache<K, V> weakKeys(final String name, final int maxSize) {
+        return new BoundedCache<>(name, Weak.<K, Slot<V>>concurrentKeys(), STRONG, maxSize, true);
+    }
+
+    /**
+     * @param name The cache name
+     * @return Cache whose keys are weakly held and compared by identity, and never evicted
+     */
+    public static <K, V> BoundedCache<K, V> unboundedWeakKeys(final String name) {
+        return new BoundedCache<>(name, Weak.<K, Slot<V>>concurrentKeys(), STRONG, 0, false);
+    }
+
+    /**
+     * @param name The cache name
+     * @param maxSize The default size bound
+     * @return Cache whose values are softly held
+     */
+    public static <K, V> BoundedCache<K, V> softValues(final String name, final int maxSize) {
+        return new BoundedCache<>(name, new ConcurrentHashMap<K, Slot<V>>(16, 0.75f, 1), SOFT, maxSize, true);
+    }
+
+    /**
+     * @param name The cache name
+     * @param maxSize The default size bound
+     * @return Cache whose values are weakly held
+     */
+    public static <K, V> BoundedCache<K, V> weakValues(final String name, final int maxSize) {
+        return new BoundedCache<>(name, new ConcurrentHashMap<K, Slot<V>>(16, 0.75f, 1), WEAK, maxSize, true);
+    }
+
+    /**
+     * @return Snapshot of the caches that are currently alive
+     */
+    public static List<BoundedCache<?, ?>> caches() {
+        synchronized (CACHES) {
+            return new ArrayList<>(CACHES);
+        }
+    }
+
+    /**
+     * @param key The key
+     * @return Cached value; {@code null} if there is no such value or it has expired
+     */
+    public V get(final Object key) {
+        final Slot<V> slot = map.get(key);
+        if (null != slot) {
+            final V value = slot.get();
+            if (null != value && !isExpired(slot)) {
+                hits.incrementAndGet();
+                if (maxSize > 0) {
+                    slot.accessed = System.nanoTime();
+                }
+                return value;
+            }
+            if (map.remove(key, slot)) {
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * @param key The key
+     * @param value The value
+     */
+    public void put(final K key, final V value) {
+        purge();
+        map.put(key, newSlot(key, value));
+        trim();
+    }
+
+    /**
+     * @param key The key
+     * @param value The value
+     * @return Value already cached for the key; {@code null} if the given value was cached
+     */
+    public V putIfAbsent(final K key, final V value) {
+        purge();
+        final Slot<V> newSlot = newSlot(key, value);
+        for (Slot<V> slot; null != (slot = map.putIfAbsent(key, newSlot)); ) {
+            final V oldValue = slot.get();
+            if (null != oldValue && !isExpired(slot)) {
+                return oldValue;
+            }
+            if (map.replace(key, slot, newSlot)) {
+                evictions.incrementAndGet();
+                break;
+            }
+        }
+        trim();
+        return null;
+    }
+
+    /**
+     * @param key The key
+     * @return Cached value that was removed; {@code null} if there was no such value
+     */
+    public V remove(final Object key) {
+        purge();
+        final Slot<V> slot = map.remove(key);
+        return null != slot ? slot.get() : null;
+    }
+
+    /**
+     * @return Live view of the cached keys; supports removal
+     */
+    public Set<K> keySet() {
+        return map.keySet();
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        map.clear();
+        purge();
+    }
+
+    /**
+     * @return Cache name, used to select its system properties
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return Number of cached values, including any that are due to be evicted
+     */
+    public int size() {
+        purge();
+        return map.size();
+    }
+
+    /**
+     * @return Number of lookups that found a live value
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return Number of lookups that didn't find a live value
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return Number of values evicted because of size or time bounds, or cleared by the garbage collector
+     */
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return name + "[size=" + size() + ", hits=" + hitCount() + ", misses=" + missCount() + ", evictions="
+                + evictionCount() + ']';
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static long longProperty(final String key, final long defaultValue) {
+        try {
+            final String value = System.getProperty(key);
+            if (null != value && value.trim().length() > 0) {
+                return Long.parseLong(value.trim());
+            }
+        } catch (final RuntimeException e) // NOSONAR
+        {
+            // couldn't access or parse system property, use default
+        }
+        return defaultValue;
+    }
+
+    private Slot<V> newSlot(final K key, final V value) {
+        if (SOFT == valueStrength) {
+            return new Slot<>(new SoftValue<>(key, value, queue));
+        }
+        if (WEAK == valueStrength) {
+            return new Slot<>(new WeakValue<>(key, value, queue));
+        }
+        return new Slot<>(value);
+    }
+
+    /**
+     * Removes entries whose values have been cleared by the garbage collector.
+     */
+    private void purge() {
+        for (Reference<? extends V> ref; null != (ref = queue.poll()); ) {
+            // only remove the entry if it still holds this specific value
+            final Object key = ((InverseMapping) ref).key();
+            final Slot<V> slot = map.get(key);
+            if (null != slot && slot.value == ref && map.remove(key, slot)) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean isExpired(final Slot<?> slot) {
+        return ttlNanos > 0 && System.nanoTime() - slot.created > ttlNanos;
+    }
+
+    /**
+     * Evicts the least recently used entries once the size bound is exceeded; evicts an extra eighth to amortize the
+     * cost of sorting.
+     */
+    private void trim() {
+        if (maxSize <= 0 || map.size() <= maxSize) {
+            return;
+        }
+        synchronized (this) {
+            final int excess = map.size() - (maxSize - maxSize / 8);
+            if (excess <= 0) {
+                return;
+            }
+            final List<Map.Entry<K, Slot<V>>> entries = new ArrayList<>(map.entrySet());
+            Collections.sort(entries, new Comparator<Map.Entry<K, Slot<V>>>() {
+                @Override
+                public int compare(final Map.Entry<K, Slot<V>> lhs, final Map.Entry<K, Slot<V>> rhs) {
+                    return Long.compare(lhs.getValue().accessed, rhs.getValue().accessed);
+                }
+            });
+            for (int i = 0; i < excess && i < entries.size(); i++) {
+                final Map.Entry<K, Slot<V>> e = entries.get(i);
+                if (map.remove(e.getKey(), e.getValue())) {
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Holds a cached value along with its creation and last access times.
+     */
+    private static final class Slot<V> {
+        final Object value;
+
+        private final boolean isReference;
+
+        final long created;
+
+        volatile long accessed; // NOSONAR
+
+        Slot(final Object value) {
+            this.value = value;
+            isReference = value instanceof InverseMapping;
+            created = System.nanoTime();
+            accessed = created;
+        }
+
+        @SuppressWarnings("unchecked")
+        V get() {
+            return (V) (isReference ? ((Reference<?>) value).get() : value);
+        }
+    }
+
+    /**
+     * Represents an inverse mapping from a value to its key.
+     */
+    private interface InverseMapping {
+        Object key();
+    }
+
+    /**
+     * Soft value with an {@link InverseMapping} back to its key.
+     */
+    private static final class SoftValue<V> extends SoftReference<V> implements InverseMapping {
+        private final Object key;
+
+        SoftValue(final Object key, final V value, final ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+
+        @Override
+        public Object key() {
+            return key;
+        }
+    }
+
+    /**
+     * Weak value with an {@link InverseMapping} back to its key.
+     */
+    private static final class WeakValue<V> extends WeakReference<V> implements InverseMapping {
+        private final Object key;
+
+        WeakValue(final Object key, final V value, final ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+
+        @Override
+        public Object key() {
+            return key;
+        }
+    }
+}
@@ -17,10 +17,14 @@ import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.inject.Inject;
@@ -41,8 +45,8 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
 
     private final ConcurrentMap<Long, RankedBindings> cachedBindings = Weak.concurrentValues(256, 1);
 
-    // reverse mapping; can't use watcher as key since it may not be unique
-    private final Map<WatchedBeans, Object> cachedWatchers = Weak.values();
+    // watchers grouped by type, so each type only subscribes once per publisher
+    private final Map<TypeLiteral, WatchedBindings> cachedWatchers = new HashMap<>();
 
     private final ImplicitBindings implicitBindings = new ImplicitBindings(publishers);
 
@@ -65,21 +69,28 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
 
     @Override
     public Iterable<BeanEntry> locate(final Key key) {
-        final TypeLiteral type = key.getTypeLiteral();
-        RankedBindings bindings = fetchBindings(type, null);
-        if (null == bindings) {
-            synchronized (cachedBindings) // perform new lookup
-            {
-                bindings = fetchBindings(type, typeIdHolder);
-                if (null == bindings) {
-                    // still not cached, so go ahead with assigned id
-                    bindings = new RankedBindings(type, publishers);
-                    cachedBindings.put(typeIdHolder[0], bindings);
-                }
-            }
+        final RankedBindings bindings = bindingsFor(key.getTypeLiteral());
+        LocatedBeans result = new LocatedBeans(key, bindings, implicitBindingsFor(key));
+        Supplier<Predicate> predicateSupplier = beanEntryPredicateSupplier.get();
+        if (null != predicateSupplier) {
+            return new FilteredBeans(predicateSupplier, result);
         }
-        final boolean isImplicit = key.getAnnotationType() == null && TypeArguments.isImplicit(type);
-        LocatedBeans result = new LocatedBeans(key, bindings, isImplicit ? implicitBindings : null);
+        return result;
+    }
+
+    /**
+     * Locates beans whose binding sources map to one of the supplied partitions, or to no partition at all. Lookups
+     * only visit bindings from the visible partitions, as each partition set gets its own view of the bindings.
+     *
+     * @param key The qualified key
+     * @param partitioner Maps binding sources to partitions; should be the same instance each time
+     * @param partitions Supplies the visible partitions on each iteration; {@code null} means everything is visible
+     * @return Sequence of visible beans
+     */
+    public Iterable<BeanEntry> locate(
+            final Key key, final Function<Object, ?> partitioner, final Supplier<? extends Set<?>> partitions) {
+        final RankedBindings bindings = bindingsFor(key.getTypeLiteral());
+        LocatedBeans result = new LocatedBeans(key, bindings, implicitBindingsFor(key), partitioner, partitions);
         Supplier<Predicate> predicateSupplier = beanEntryPredicateSupplier.get();
         if (null != predicateSupplier) {
             return new FilteredBeans(predicateSupplier, result);
@@ -87,17 +98,54 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
         return result;
     }
 
+    @Override
+    public long generation(final TypeLiteral type) {
+        return bindingsFor(type).generation();
+    }
+
+    @Override
+    public BeanSnapshot locateSnapshot(final Key key) {
+        final RankedBindings bindings = bindingsFor(key.getTypeLiteral());
+        final Supplier<Predicate> predicateSupplier = beanEntryPredicateSupplier.get();
+        final Predicate predicate = null != predicateSupplier ? predicateSupplier.get() : null;
+        final SnapshotBeans snapshot = bindings.snapshot(key, implicitBindingsFor(key));
+        // filtered results depend on the calling context, so they're cached against the predicate used to filter
+        return null != predicate ? snapshot.filter(predicate) : snapshot;
+    }
+
+    @Override
+    public BeanEntry locateFirst(final Key key) {
+        if (null != beanEntryPredicateSupplier.get()) {
+            // filtered results depend on the calling context, so look again each time
+            final Iterator<BeanEntry> itr = locate(key).iterator();
+            return itr.hasNext() ? itr.next() : null;
+        }
+        return bindingsFor(key.getTypeLiteral()).first(key, implicitBindingsFor(key));
+    }
+
     @Override
     public void watch(final Key key, final Mediator mediator, final Object watcher) {
         publisherLock.readLock().lock();
         try {
-            // subscribe new watcher to existing publishers while holding the read-lock
-            final WatchedBeans beans = new WatchedBeans(key, mediator, watcher);
-            for (final BindingPublisher p : publishers()) {
-                p.subscribe(beans);
-            }
+            final TypeLiteral type = key.getTypeLiteral();
+            final WatchedBindings bindings;
+            final boolean isNewType;
             synchronized (cachedWatchers) {
-                cachedWatchers.put(beans, watcher);
+                WatchedBindings existing = cachedWatchers.get(type);
+                isNewType = null == existing;
+                if (isNewType) {
+                    existing = new WatchedBindings(type);
+                    cachedWatchers.put(type, existing);
+                }
+                bindings = existing;
+            }
+            // join the type's group first, so it receives everything published from now on
+            bindings.watch(new WatchedBeans(key, mediator, watcher), watcher);
+            if (isNewType) {
+                // subscribe new type to existing publishers while holding the read-lock
+                for (final BindingPublisher p : publishers()) {
+                    p.subscribe(bindings);
+                }
             }
         } finally {
             publisherLock.readLock().unlock();
@@ -106,7 +154,7 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
 
     @Override
     public boolean add(final BindingPublisher publisher) {
-        final WatchedBeans[] currentWatchers;
+        final WatchedBindings[] currentWatchers;
         publisherLock.writeLock().lock();
         try {
             if (publishers.contains(publisher)) {
@@ -121,18 +169,16 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
                     bindings.add(publisher, rank);
                 }
             }
-            synchronized (cachedWatchers) {
-                // capture snapshot of current watchers while we hold the write-lock
-                currentWatchers = cachedWatchers.keySet().toArray(new WatchedBeans[0]);
-            }
+            // capture snapshot of current watchers while we hold the write-lock
+            currentWatchers = watchedTypes();
             publisherLock.readLock().lock(); // begin downgrade to the read-lock
         } finally {
             publisherLock.writeLock().unlock();
         }
         try {
-            // subscribe watchers to the new publisher while holding the read-lock
-            for (final WatchedBeans beans : currentWatchers) {
-                publisher.subscribe(beans);
+            // subscribe watched types to the new publisher while holding the read-lock
+            for (final WatchedBindings bindings : currentWatchers) {
+                publisher.subscribe(bindings);
             }
         } finally {
             publisherLock.readLock().unlock();
@@ -143,7 +189,7 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
     @Override
     public boolean remove(final BindingPublisher publisher) {
         final BindingPublisher oldPublisher;
-        final WatchedBeans[] currentWatchers;
+        final WatchedBindings[] currentWatchers;
         publisherLock.writeLock().lock();
         try {
             synchronized (cachedBindings) // block new lookup while we update the cache
@@ -157,18 +203,16 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
                     bindings.remove(oldPublisher);
                 }
             }
-            synchronized (cachedWatchers) {
-                // capture snapshot of current watchers while we hold the write-lock
-                currentWatchers = cachedWatchers.keySet().toArray(new WatchedBeans[0]);
-            }
+            // capture snapshot of current watchers while we hold the write-lock
+            currentWatchers = watchedTypes();
             publisherLock.readLock().lock(); // begin downgrade to the read-lock
         } finally {
             publisherLock.writeLock().unlock();
         }
         try {
-            // unsubscribe watchers from the old publisher while holding the read-lock
-            for (final WatchedBeans beans : currentWatchers) {
-                oldPublisher.unsubscribe(beans);
+            // unsubscribe watched types from the old publisher while holding the read-lock
+            for (final WatchedBindings bindings : currentWatchers) {
+                oldPublisher.unsubscribe(bindings);
             }
         } finally {
             publisherLock.readLock().unlock();
@@ -194,6 +238,36 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Returns the bindings associated with the given type, creating them on demand.
+     *
+     * @param type The generic type
+     * @return Associated bindings
+     */
+    private RankedBindings bindingsFor(final TypeLiteral type) {
+        RankedBindings bindings = fetchBindings(type, null);
+        if (null == bindings) {
+            synchronized (cachedBindings) // perform new lookup
+            {
+                bindings = fetchBindings(type, typeIdHolder);
+                if (null == bindings) {
+                    // still not cached, so go ahead with assigned id
+                    bindings = new RankedBindings(type, publishers);
+                    cachedBindings.put(typeIdHolder[0], bindings);
+                }
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * @return Implicit bindings to use as a last resort for the given key; {@code null} if not applicable
+     */
+    private ImplicitBindings implicitBindingsFor(final Key key) {
+        final boolean isImplicit = key.getAnnotationType() == null && TypeArguments.isImplicit(key.getTypeLiteral());
+        return isImplicit ? implicitBindings : null;
+    }
+
     /**
      * Fetches any bindings currently associated with the given type.
      *
@@ -217,6 +291,22 @@ public final class DefaultBeanLocator implements MutableBeanLocator {
         return result;
     }
 
+    /**
+     * Captures the currently watched types, discarding any types whose watchers have all gone.
+     *
+     * @return Snapshot of watched types
+     */
+    private WatchedBindings[] watchedTypes() {
+        synchronized (cachedWatchers) {
+            for (final Iterator<WatchedBindings> itr = cachedWatchers.values().iterator(); itr.hasNext(); ) {
+                if (itr.next().isEmpty()) {
+                    itr.remove();
+                }
+            }
+            return cachedWatchers.values().toArray(new WatchedBindings[0]);
+        }
+    }
+
     /**
      * Automatically publishes any {@link Injector} that contains a binding to this {@link BeanLocator}.<br>
      * <br>
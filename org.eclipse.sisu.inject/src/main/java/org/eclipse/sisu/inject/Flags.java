@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+/**
+ * Opt-in features that are switched on with boolean system properties; each flag is read once.
+ */
+public final class Flags {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    /**
+     * When {@code true} injected lists and maps are random-access snapshots instead of live views.
+     * <p>
+     * Set with the <i>"sisu.snapshot.collections"</i> system property.
+     */
+    public static final boolean SNAPSHOT_COLLECTIONS = isEnabled("sisu.snapshot.collections");
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private Flags() {
+        // static utility class, not allowed to create instances
+    }
+
+    // ----------------------------------------------------------------------
+    // Utility methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @param name The system property
+     * @return {@code true} if the system property is set to {@code "true"}; otherwise {@code false}
+     */
+    public static boolean isEnabled(final String name) {
+        try {
+            return Boolean.parseBoolean(System.getProperty(name, "false"));
+        } catch (final RuntimeException e) // NOSONAR
+        {
+            return false; // couldn't access system property, assume disabled
+        }
+    }
+}
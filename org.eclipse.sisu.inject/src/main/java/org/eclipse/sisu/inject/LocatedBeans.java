@@ -14,14 +14,22 @@ package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
 import com.google.inject.Key;
+import com.google.inject.Scopes;
+import com.google.inject.name.Named;
 import java.lang.annotation.Annotation;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.eclipse.sisu.BeanEntry;
 
 /**
  * Provides a sequence of {@link BeanEntry}s by iterating over qualified {@link Binding}s.
+ * <p>
+ * Entries for singleton {@link Binding}s are shared between all lookups of the same {@link Key}; other entries are
+ * local to this sequence, because each lookup must supply its own instances of unscoped beans.
  *
  * @see BeanLocator#locate(Key)
  */
@@ -38,20 +46,50 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
 
     final QualifyingStrategy strategy;
 
-    final BeanCache<Q, T> beans;
+    final String name;
+
+    final BeanCache<Q, T> sharedBeans;
+
+    final Function<Object, ?> partitioner;
+
+    final Supplier<? extends Set<?>> partitions;
+
+    final BeanCache<Q, T> beans = new BeanCache<>();
+
+    private volatile boolean registered;
 
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
 
     LocatedBeans(final Key<T> key, final RankedBindings<T> explicitBindings, final ImplicitBindings implicitBindings) {
+        this(key, explicitBindings, implicitBindings, null, null);
+    }
+
+    /**
+     * @param partitioner Maps binding sources to partitions
+     * @param partitions Supplies the visible partitions on each iteration; {@code null} means everything is visible
+     */
+    LocatedBeans(
+            final Key<T> key,
+            final RankedBindings<T> explicitBindings,
+            final ImplicitBindings implicitBindings,
+            final Function<Object, ?> partitioner,
+            final Supplier<? extends Set<?>> partitions) {
         this.key = key;
+        this.partitioner = partitioner;
+        this.partitions = partitions;
 
         this.explicitBindings = explicitBindings;
         this.implicitBindings = implicitBindings;
 
         strategy = QualifyingStrategy.selectFor(key);
-        beans = explicitBindings.newBeanCache();
+        if (QualifyingStrategy.NAMED_WITH_ATTRIBUTES == strategy) {
+            name = ((Named) key.getAnnotation()).value();
+        } else {
+            name = null;
+        }
+        sharedBeans = explicitBindings.sharedBeanCache(key);
     }
 
     // ----------------------------------------------------------------------
@@ -63,6 +101,29 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
         return new Itr();
     }
 
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Creates a new {@link BeanEntry}, shared if the {@link Binding} is a singleton; otherwise local to this sequence.
+     */
+    BeanEntry<Q, T> createBean(final Q qualifier, final Binding<T> binding, final int rank) {
+        if (Scopes.isSingleton(binding)) {
+            return sharedBeans.create(qualifier, binding, rank);
+        }
+        if (!registered) {
+            synchronized (beans) {
+                if (!registered) {
+                    // only register local cache once it holds entries
+                    explicitBindings.register(beans);
+                    registered = true;
+                }
+            }
+        }
+        return beans.create(qualifier, binding, rank);
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
@@ -75,7 +136,9 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
         // Implementation fields
         // ----------------------------------------------------------------------
 
-        private final RankedBindings<T>.Itr itr = explicitBindings.iterator();
+        private final Set<?> visiblePartitions = null != partitions ? partitions.get() : null;
+
+        private final RankedBindings<T>.Itr itr = explicitBindings();
 
         private final Map<Binding<T>, BeanEntry<Q, T>> readCache = beans.flush();
 
@@ -95,20 +158,26 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
             }
             while (itr.hasNext()) {
                 final Binding<T> binding = itr.next();
+                if (null != name && !isVisible(binding)) {
+                    continue; // name index isn't partitioned
+                }
+                if (null != (nextBean = sharedBeans.get(binding))) {
+                    return true;
+                }
                 if (null != readCache && null != (nextBean = readCache.get(binding))) {
                     return true;
                 }
                 final Q qualifier = (Q) strategy.qualifies(key, binding);
                 if (null != qualifier) {
-                    nextBean = beans.create(qualifier, binding, itr.rank());
+                    nextBean = createBean(qualifier, binding, itr.rank());
                     return true;
                 }
             }
             if (checkImplicitBindings) {
                 // last-chance, see if we can locate a valid implicit binding somewhere
                 final Binding<T> binding = implicitBindings.get(key.getTypeLiteral());
-                if (null != binding) {
-                    nextBean = beans.create((Q) QualifyingStrategy.DEFAULT_QUALIFIER, binding, Integer.MIN_VALUE);
+                if (null != binding && isVisible(binding)) {
+                    nextBean = createBean((Q) QualifyingStrategy.DEFAULT_QUALIFIER, binding, Integer.MIN_VALUE);
                     return true;
                 }
             }
@@ -133,5 +202,23 @@ final class LocatedBeans<Q extends Annotation, T> implements Iterable<BeanEntry<
         public void remove() {
             throw new UnsupportedOperationException();
         }
+
+        // ----------------------------------------------------------------------
+        // Implementation methods
+        // ----------------------------------------------------------------------
+
+        private RankedBindings<T>.Itr explicitBindings() {
+            if (null != name) {
+                return explicitBindings.iterator(name);
+            }
+            if (null != visiblePartitions) {
+                return explicitBindings.iterator(partitioner, visiblePartitions);
+            }
+            return explicitBindings.iterator();
+        }
+
+        private boolean isVisible(final Binding<T> binding) {
+            return null == visiblePartitions || RankedBindings.isVisible(binding, partitioner, visiblePartitions);
+        }
     }
 }
@@ -14,6 +14,11 @@ package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
 import com.google.inject.ImplementedBy;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import java.lang.annotation.Annotation;
+import java.util.Iterator;
+import org.eclipse.sisu.BeanEntry;
 
 /**
  * Mutable {@link BeanLocator} that finds and tracks bindings across zero or more {@link BindingPublisher}s.
@@ -47,4 +52,39 @@ public interface MutableBeanLocator extends BeanLocator {
      * Removes all known {@link BindingPublisher}s and their {@link Binding}s.
      */
     void clear();
+
+    /**
+     * Returns the current generation of {@link Binding}s of the given type; increases whenever they change.
+     *
+     * @param type The binding type
+     * @return Current generation; {@code -1} if this locator doesn't track generations
+     */
+    default long generation(final TypeLiteral<?> type) {
+        return -1;
+    }
+
+    /**
+     * Locates beans that match the given qualified key and captures them in an immutable snapshot, which is reused
+     * until the generation of that type moves on. By default the snapshot is captured from {@link #locate(Key)} and
+     * is always stale.
+     *
+     * @param key The qualified key
+     * @return Snapshot of bean entries that match the given key
+     * @see #generation(TypeLiteral)
+     */
+    default <Q extends Annotation, T> BeanSnapshot<Q, T> locateSnapshot(final Key<T> key) {
+        return new SnapshotBeans<Q, T>(locate(key), null, -1);
+    }
+
+    /**
+     * Locates the first bean that matches the given qualified key; unlike {@link #locateSnapshot(Key)} this doesn't
+     * need to visit the rest of the matching beans. By default the first bean is located each time.
+     *
+     * @param key The qualified key
+     * @return First bean entry that matches the given key; {@code null} if there are no matching beans
+     */
+    default <Q extends Annotation, T> BeanEntry<Q, T> locateFirst(final Key<T> key) {
+        final Iterator<? extends BeanEntry<Q, T>> itr = this.<Q, T>locate(key).iterator();
+        return itr.hasNext() ? itr.next() : null;
+    }
 }
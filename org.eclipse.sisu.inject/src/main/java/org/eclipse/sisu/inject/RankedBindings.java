@@ -13,15 +13,32 @@
 package org.eclipse.sisu.inject;
 
 import com.google.inject.Binding;
+import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
+import com.google.inject.name.Named;
+import com.google.inject.spi.ConstructorBinding;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.eclipse.sisu.BeanEntry;
 
 /**
  * Ordered sequence of {@link Binding}s of a given type; subscribes to {@link BindingPublisher}s on demand.
  */
 final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber<T> {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    // global clock, so generations keep increasing even when a type's bindings are collected and re-created
+    private static final AtomicLong GENERATION_CLOCK = new AtomicLong();
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -34,6 +51,20 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
 
     final Collection<BeanCache<?, T>> cachedBeans = Weak.elements();
 
+    final ConcurrentMap<Key<T>, BeanCache<?, T>> sharedBeans = Soft.concurrentValues();
+
+    final ConcurrentMap<Key<T>, SnapshotBeans<?, T>> cachedSnapshots = Soft.concurrentValues();
+
+    final ConcurrentMap<Key<T>, FirstBean<?, T>> cachedFirsts = Soft.concurrentValues();
+
+    private volatile long generation = GENERATION_CLOCK.incrementAndGet();
+
+    // secondary index of bindings by name, built on first lookup of a specific name
+    volatile Map<String, RankedSequence<Binding<T>>> namedBindings; // NOSONAR
+
+    // secondary views of bindings visible from specific sets of partitions, built on first lookup of each set
+    private final Map<Set<?>, PartitionedBindings<T>> partitionedBindings = Weak.concurrentKeys();
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -55,11 +86,27 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
     @Override
     public void add(final Binding<T> binding, final int rank) {
         bindings.insert(binding, rank);
+        final Map<String, RankedSequence<Binding<T>>> index = namedBindings;
+        if (null != index) {
+            indexBinding(index, binding, rank);
+        }
+        if (!partitionedBindings.isEmpty()) {
+            addToPartitions(binding, rank);
+        }
+        advanceGeneration();
     }
 
     @Override
     public void remove(final Binding<T> binding) {
         if (bindings.removeThis(binding)) {
+            final Map<String, RankedSequence<Binding<T>>> index = namedBindings;
+            if (null != index) {
+                unindexBinding(index, binding);
+            }
+            if (!partitionedBindings.isEmpty()) {
+                removeFromPartitions(binding);
+            }
+            advanceGeneration();
             synchronized (cachedBeans) {
                 for (final BeanCache<?, T> beans : cachedBeans) {
                     beans.remove(binding);
@@ -75,19 +122,157 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
 
     @Override
     public Itr iterator() {
-        return new Itr();
+        return new Itr(bindings, null);
+    }
+
+    /**
+     * Iterates over the subset of {@link Binding}s that could qualify for the given name, including implementations
+     * with a matching @{@link javax.inject.Named} alias; uses a secondary index that is built on demand.
+     *
+     * @param name The binding name
+     * @return Ranked iterator over candidate bindings
+     */
+    public Itr iterator(final String name) {
+        Map<String, RankedSequence<Binding<T>>> index = namedBindings;
+        if (null == index) {
+            index = buildNameIndex();
+        }
+        RankedSequence<Binding<T>> candidates = index.get(name);
+        for (BindingPublisher publisher; null == candidates && null != (publisher = nextPublisher(name)); ) {
+            // nothing to position against yet, so subscribe in rank order until the name turns up
+            subscribe(publisher);
+            candidates = index.get(name);
+        }
+        if (null == candidates) {
+            // don't store placeholders for missing names, otherwise probing random names grows the index
+            return new Itr(new RankedSequence<>(), name);
+        }
+        return new Itr(candidates, name);
+    }
+
+    /**
+     * Iterates over the subset of {@link Binding}s visible from the given partitions, see
+     * {@link #isVisible(Binding, Function, Set)}; uses a secondary view per partition set that is built on demand.
+     *
+     * @param partitioner Maps binding sources to partitions
+     * @param partitions The visible partitions
+     * @return Ranked iterator over visible bindings
+     */
+    public Itr iterator(final Function<Object, ?> partitioner, final Set<?> partitions) {
+        PartitionedBindings<T> view = partitionedBindings.get(partitions);
+        if (null == view || view.partitioner != partitioner) {
+            view = buildPartitionView(partitioner, partitions);
+        }
+        return new Itr(view.bindings, null);
     }
 
     // ----------------------------------------------------------------------
     // Local methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Determines whether the given {@link Binding} is visible from the given partitions; bindings whose sources don't
+     * map to any partition are visible from everywhere.
+     *
+     * @param binding The binding
+     * @param partitioner Maps binding sources to partitions
+     * @param partitions The visible partitions
+     * @return {@code true} if the binding is visible; otherwise {@code false}
+     */
+    static boolean isVisible(final Binding<?> binding, final Function<Object, ?> partitioner, final Set<?> partitions) {
+        final Object partition = partitioner.apply(binding.getSource());
+        return null == partition || partitions.contains(partition);
+    }
+
     <Q extends Annotation> BeanCache<Q, T> newBeanCache() {
         final BeanCache<Q, T> beans = new BeanCache<>();
+        register(beans);
+        return beans;
+    }
+
+    /**
+     * Returns the {@link BeanCache} shared by all lookups of the given {@link Key}.
+     *
+     * @param key The qualified key
+     * @return Shared bean cache
+     */
+    @SuppressWarnings("unchecked")
+    <Q extends Annotation> BeanCache<Q, T> sharedBeanCache(final Key<T> key) {
+        BeanCache<Q, T> beans = (BeanCache<Q, T>) sharedBeans.get(key);
+        if (null == beans) {
+            // caches are weakly registered, so losing this race is harmless
+            final BeanCache<Q, T> newBeans = newBeanCache();
+            beans = (BeanCache<Q, T>) sharedBeans.putIfAbsent(key, newBeans);
+            if (null == beans) {
+                beans = newBeans;
+            }
+        }
+        return beans;
+    }
+
+    /**
+     * Registers the given {@link BeanCache} so it is notified when {@link Binding}s are removed.
+     *
+     * @param beans The bean cache
+     */
+    void register(final BeanCache<?, T> beans) {
         synchronized (cachedBeans) {
             cachedBeans.add(beans);
         }
-        return beans;
+    }
+
+    /**
+     * @return Current generation of these bindings
+     */
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * Returns a snapshot of the beans located by the given {@link Key}; reused until the generation moves on.
+     *
+     * @param key The qualified key
+     * @param implicitBindings Optional implicit bindings
+     * @return Snapshot of located beans
+     */
+    @SuppressWarnings("unchecked")
+    <Q extends Annotation> SnapshotBeans<Q, T> snapshot(final Key<T> key, final ImplicitBindings implicitBindings) {
+        SnapshotBeans<Q, T> snapshot = (SnapshotBeans<Q, T>) cachedSnapshots.get(key);
+        if (null == snapshot || snapshot.isStale()) {
+            // the snapshot visits every binding, so subscribe up-front to stop that moving the generation on
+            subscribeAll();
+            // capture generation first; any change while iterating leaves the snapshot stale
+            final long currentGeneration = generation;
+            snapshot =
+                    new SnapshotBeans<>(new LocatedBeans<Q, T>(key, this, implicitBindings), this, currentGeneration);
+            cachedSnapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the first bean located by the given {@link Key}; reused until the generation moves on. Unlike
+     * {@link #snapshot} this only subscribes to {@link BindingPublisher}s that could rank above the first bean.
+     *
+     * @param key The qualified key
+     * @param implicitBindings Optional implicit bindings
+     * @return First located bean; {@code null} if there are no matching beans
+     */
+    @SuppressWarnings("unchecked")
+    <Q extends Annotation> BeanEntry<Q, T> first(final Key<T> key, final ImplicitBindings implicitBindings) {
+        FirstBean<Q, T> first = (FirstBean<Q, T>) cachedFirsts.get(key);
+        if (null == first || first.generation != generation) {
+            long currentGeneration = generation;
+            BeanEntry<Q, T> bean = firstOf(new LocatedBeans<Q, T>(key, this, implicitBindings));
+            if (currentGeneration != generation) {
+                // subscribing along the way moves the generation on, so look again now those publishers are done
+                currentGeneration = generation;
+                bean = firstOf(new LocatedBeans<Q, T>(key, this, implicitBindings));
+            }
+            first = new FirstBean<>(bean, currentGeneration);
+            cachedFirsts.put(key, first);
+        }
+        return first.bean;
     }
 
     void add(final BindingPublisher publisher, final int rank) {
@@ -95,6 +280,7 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
          * No need to lock; ranked sequence is thread-safe.
          */
         pendingPublishers.insert(publisher, rank);
+        advanceGeneration();
     }
 
     void remove(final BindingPublisher publisher) {
@@ -107,12 +293,211 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
                 publisher.unsubscribe(this);
             }
         }
+        advanceGeneration();
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private void advanceGeneration() {
+        generation = GENERATION_CLOCK.incrementAndGet();
+    }
+
+    /**
+     * Indexes the {@link Binding}s received so far by name; bindings from publishers subscribed later are indexed as
+     * they arrive.
+     */
+    private synchronized Map<String, RankedSequence<Binding<T>>> buildNameIndex() {
+        if (null != namedBindings) {
+            return namedBindings;
+        }
+
+        final Map<String, RankedSequence<Binding<T>>> index = new ConcurrentHashMap<>();
+        namedBindings = index; // publish first, so concurrent updates are not lost
+        synchronized (index) {
+            for (final RankedSequence<Binding<T>>.Itr itr = bindings.iterator(); itr.hasNext(); ) {
+                final Binding<T> binding = itr.next();
+                indexBinding(index, binding, itr.rank());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Subscribes to all pending {@link BindingPublisher}s and builds a view of the {@link Binding}s visible from the
+     * given partitions; the view is then kept up-to-date until the partition set is collected.
+     */
+    private PartitionedBindings<T> buildPartitionView(final Function<Object, ?> partitioner, final Set<?> partitions) {
+        // any publisher could contribute visible bindings, so there's no benefit in subscribing lazily
+        subscribeAll();
+
+        final PartitionedBindings<T> view = new PartitionedBindings<>(partitioner);
+        synchronized (partitionedBindings) {
+            partitionedBindings.put(partitions, view); // publish first, so concurrent updates are not lost
+            for (final RankedSequence<Binding<T>>.Itr itr = bindings.iterator(); itr.hasNext(); ) {
+                final Binding<T> binding = itr.next();
+                if (isVisible(binding, partitioner, partitions) && !view.bindings.containsThis(binding)) {
+                    view.bindings.insert(binding, itr.rank());
+                }
+            }
+        }
+        return view;
+    }
+
+    private void addToPartitions(final Binding<T> binding, final int rank) {
+        synchronized (partitionedBindings) {
+            for (final Map.Entry<Set<?>, PartitionedBindings<T>> e : partitionedBindings.entrySet()) {
+                final RankedSequence<Binding<T>> view = e.getValue().bindings;
+                if (isVisible(binding, e.getValue().partitioner, e.getKey()) && !view.containsThis(binding)) {
+                    view.insert(binding, rank);
+                }
+            }
+        }
+    }
+
+    private void removeFromPartitions(final Binding<T> binding) {
+        synchronized (partitionedBindings) {
+            for (final PartitionedBindings<T> view : partitionedBindings.values()) {
+                view.bindings.removeThis(binding);
+            }
+        }
+    }
+
+    private static <Q extends Annotation, T> BeanEntry<Q, T> firstOf(final Iterable<BeanEntry<Q, T>> beans) {
+        final Iterator<BeanEntry<Q, T>> itr = beans.iterator();
+        return itr.hasNext() ? itr.next() : null;
+    }
+
+    /**
+     * Finds the highest ranked pending {@link BindingPublisher} that could contribute {@link Binding}s to the lookup.
+     *
+     * @param name Optional binding name
+     * @return Next publisher to subscribe; {@code null} if there are none left
+     */
+    BindingPublisher nextPublisher(final String name) {
+        if (null == name) {
+            return pendingPublishers.peek();
+        }
+        for (final BindingPublisher publisher : pendingPublishers) {
+            if (publisher.mayPublish(type, name)) {
+                return publisher;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Subscribes to the given pending {@link BindingPublisher}, unless another thread got there first.
+     *
+     * @param publisher The pending publisher
+     */
+    void subscribe(final BindingPublisher publisher) {
+        synchronized (publisher) {
+            // check in case subscribed by another thread
+            if (pendingPublishers.containsThis(publisher)) {
+                // only update list _after_ subscription
+                publisher.subscribe(this);
+                pendingPublishers.removeThis(publisher);
+            }
+        }
+    }
+
+    private void subscribeAll() {
+        for (BindingPublisher publisher; null != (publisher = pendingPublishers.peek()); ) {
+            subscribe(publisher);
+        }
+    }
+
+    private static <T> void indexBinding(
+            final Map<String, RankedSequence<Binding<T>>> index, final Binding<T> binding, final int rank) {
+        synchronized (index) {
+            for (final String name : namesOf(binding)) {
+                if (null != name) {
+                    final RankedSequence<Binding<T>> candidates =
+                            index.computeIfAbsent(name, k -> new RankedSequence<>());
+                    if (!candidates.containsThis(binding)) {
+                        candidates.insert(binding, rank);
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> void unindexBinding(
+            final Map<String, RankedSequence<Binding<T>>> index, final Binding<T> binding) {
+        synchronized (index) {
+            for (final String name : namesOf(binding)) {
+                if (null != name) {
+                    final RankedSequence<Binding<T>> candidates = index.get(name);
+                    if (null != candidates && candidates.removeThis(binding) && candidates.isEmpty()) {
+                        index.remove(name); // prune, so names that come and go don't accumulate
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines the names a {@link Binding} can be found under; mirrors {@link QualifyingStrategy}.
+     *
+     * @param binding The binding
+     * @return Binding name and any implementation alias; {@code null} if not applicable
+     */
+    private static String[] namesOf(final Binding<?> binding) {
+        final Annotation qualifier = QualifyingStrategy.qualify(binding.getKey());
+        final String name = qualifier instanceof Named ? ((Named) qualifier).value() : null;
+
+        String alias = null;
+        if (binding instanceof ConstructorBinding<?> && null == binding.getKey().getAnnotationType()) {
+            final Class<?> clazz = binding.getKey().getTypeLiteral().getRawType();
+            final javax.inject.Named named = clazz.getAnnotation(javax.inject.Named.class);
+            if (null != named && !named.value().equals(name) && clazz.equals(Implementations.find(binding))) {
+                alias = named.value();
+            }
+        }
+        return new String[] {name, alias};
     }
 
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
 
+    /**
+     * View of the {@link Binding}s visible from a set of partitions; doesn't refer to the set, which is its weak key.
+     */
+    static final class PartitionedBindings<T> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final RankedSequence<Binding<T>> bindings = new RankedSequence<>();
+
+        final Function<Object, ?> partitioner;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        PartitionedBindings(final Function<Object, ?> partitioner) {
+            this.partitioner = partitioner;
+        }
+    }
+
+    /**
+     * First located bean, along with the generation it was located at.
+     */
+    static final class FirstBean<Q extends Annotation, T> {
+        final BeanEntry<Q, T> bean;
+
+        final long generation;
+
+        FirstBean(final BeanEntry<Q, T> bean, final long generation) {
+            this.bean = bean;
+            this.generation = generation;
+        }
+    }
+
     /**
      * {@link Binding} iterator that only subscribes to {@link BindingPublisher}s as required.
      */
@@ -121,7 +506,18 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
         // Implementation fields
         // ----------------------------------------------------------------------
 
-        private final RankedSequence<Binding<T>>.Itr itr = bindings.iterator();
+        private final RankedSequence<Binding<T>>.Itr itr;
+
+        private final String name;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        Itr(final RankedSequence<Binding<T>> sequence, final String name) {
+            itr = sequence.iterator();
+            this.name = name;
+        }
 
         // ----------------------------------------------------------------------
         // Public methods
@@ -130,17 +526,10 @@ final class RankedBindings<T> implements Iterable<Binding<T>>, BindingSubscriber
         @Override
         public boolean hasNext() {
             // apply any publishers that could add bindings before the current position
-            BindingPublisher publisher = pendingPublishers.peek();
+            BindingPublisher publisher = nextPublisher(name);
             while (null != publisher && !itr.hasNext(publisher.maxBindingRank())) {
-                synchronized (publisher) {
-                    // check in case subscribed by another thread
-                    if (publisher == pendingPublishers.peek()) {
-                        // only update list _after_ subscription
-                        publisher.subscribe(RankedBindings.this);
-                        pendingPublishers.removeThis(publisher);
-                    }
-                }
-                publisher = pendingPublishers.peek();
+                subscribe(publisher);
+                publisher = nextPublisher(name);
             }
             return itr.hasNext();
         }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import java.lang.annotation.Annotation;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import org.eclipse.sisu.BeanEntry;
+
+/**
+ * Array-backed {@link BeanSnapshot} that becomes stale when the generation of its {@link RankedBindings} moves on.
+ */
+final class SnapshotBeans<Q extends Annotation, T> extends AbstractList<BeanEntry<Q, T>> implements BeanSnapshot<Q, T> {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final BeanEntry<Q, T>[] entries;
+
+    private final RankedBindings<T> bindings;
+
+    private final long generation;
+
+    private volatile ConcurrentMap<Predicate<?>, SnapshotBeans<Q, T>> filteredViews; // NOSONAR
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    /**
+     * @param beans The located beans
+     * @param bindings The tracked bindings; {@code null} if the snapshot is context-dependent and always stale
+     * @param generation The captured generation
+     */
+    @SuppressWarnings("unchecked")
+    SnapshotBeans(
+            final Iterable<? extends BeanEntry<Q, T>> beans, final RankedBindings<T> bindings, final long generation) {
+        final List<BeanEntry<Q, T>> list = new ArrayList<>();
+        for (final BeanEntry<Q, T> bean : beans) {
+            list.add(bean);
+        }
+        this.entries = list.toArray(new BeanEntry[list.size()]);
+        this.bindings = bindings;
+        this.generation = generation;
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public BeanEntry<Q, T> get(final int index) {
+        return entries[index];
+    }
+
+    @Override
+    public int size() {
+        return entries.length;
+    }
+
+    @Override
+    public long generation() {
+        return generation;
+    }
+
+    @Override
+    public boolean isStale() {
+        return null == bindings || generation != bindings.generation();
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the beans in this snapshot accepted by the given predicate. Views are cached against the predicate for
+     * as long as it's in use, so callers should reuse the same predicate for the same context.
+     *
+     * @param predicate The bean filter
+     * @return Context-dependent snapshot of filtered beans; always stale
+     */
+    SnapshotBeans<Q, T> filter(final Predicate<BeanEntry<Q, T>> predicate) {
+        ConcurrentMap<Predicate<?>, SnapshotBeans<Q, T>> views = filteredViews;
+        if (null == views) {
+            synchronized (this) {
+                views = filteredViews;
+                if (null == views) {
+                    filteredViews = views = Weak.concurrentKeys();
+                }
+            }
+        }
+        SnapshotBeans<Q, T> view = views.get(predicate);
+        if (null == view) {
+            view = new SnapshotBeans<>(new FilteredBeans<>(() -> predicate, this), null, generation);
+            final SnapshotBeans<Q, T> oldView = views.putIfAbsent(predicate, view);
+            if (null != oldView) {
+                view = oldView;
+            }
+        }
+        return view;
+    }
+}
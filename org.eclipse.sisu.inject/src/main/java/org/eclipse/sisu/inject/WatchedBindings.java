@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.inject;
+
+import com.google.inject.Binding;
+import com.google.inject.TypeLiteral;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered sequence of {@link Binding}s of a given type; shares each {@link BindingPublisher} subscription between all
+ * {@link WatchedBeans} watching that type.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class WatchedBindings<T> implements BindingSubscriber<T> {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final RankedSequence<Binding<T>> bindings = new RankedSequence<>();
+
+    // reverse mapping; can't use watcher as key since it may not be unique
+    private final Map<WatchedBeans<?, T, ?>, Object> watchers = Weak.values();
+
+    private final TypeLiteral<T> type;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    WatchedBindings(final TypeLiteral<T> type) {
+        this.type = type;
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public TypeLiteral<T> type() {
+        return type;
+    }
+
+    @Override
+    public void add(final Binding<T> binding, final int rank) {
+        final WatchedBeans<?, T, ?>[] currentWatchers;
+        synchronized (this) {
+            bindings.insert(binding, rank);
+            currentWatchers = currentWatchers();
+        }
+        // notify outside the lock, as mediators may call back into the locator
+        for (final WatchedBeans<?, T, ?> beans : currentWatchers) {
+            beans.add(binding, rank);
+        }
+    }
+
+    @Override
+    public void remove(final Binding<T> binding) {
+        final WatchedBeans<?, T, ?>[] currentWatchers;
+        synchronized (this) {
+            if (!bindings.removeThis(binding)) {
+                return;
+            }
+            currentWatchers = currentWatchers();
+        }
+        // notify outside the lock, as mediators may call back into the locator
+        for (final WatchedBeans<?, T, ?> beans : currentWatchers) {
+            beans.remove(binding);
+        }
+    }
+
+    @Override
+    public Iterable<Binding<T>> bindings() {
+        return bindings.snapshot();
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Adds the given {@link WatchedBeans} to this group and replays the {@link Binding}s seen so far.
+     *
+     * @param beans The watched beans
+     * @param watcher The bean watcher
+     */
+    void watch(final WatchedBeans<?, T, ?> beans, final Object watcher) {
+        final List<Binding<T>> replayBindings = new ArrayList<>();
+        final List<Integer> replayRanks = new ArrayList<>();
+        synchronized (this) {
+            watchers.put(beans, watcher);
+            for (final RankedSequence<Binding<T>>.Itr itr = bindings.iterator(); itr.hasNext(); ) {
+                replayBindings.add(itr.next());
+                replayRanks.add(Integer.valueOf(itr.rank()));
+            }
+        }
+        // replay outside the lock, as mediators may call back into the locator
+        for (int i = 0, size = replayBindings.size(); i < size; i++) {
+            beans.add(replayBindings.get(i), replayRanks.get(i).intValue());
+        }
+    }
+
+    /**
+     * @return {@code true} if this group has no more live watchers; otherwise {@code false}
+     */
+    synchronized boolean isEmpty() {
+        return watchers.isEmpty();
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return Snapshot of current watchers; protects against mediators that watch the same type
+     */
+    private WatchedBeans<?, T, ?>[] currentWatchers() {
+        return watchers.keySet().toArray(new WatchedBeans[0]);
+    }
+}
@@ -23,6 +23,7 @@ import javax.inject.Inject;
 import org.eclipse.sisu.Parameters;
 import org.eclipse.sisu.inject.MutableBeanLocator;
 import org.eclipse.sisu.space.BeanScanning;
+import org.eclipse.sisu.space.ScanPruning;
 import org.eclipse.sisu.space.SpaceModule;
 import org.eclipse.sisu.space.URLClassSpace;
 import org.eclipse.sisu.wire.ParameterKeys;
@@ -75,18 +76,22 @@ public final class Main implements Module {
         modules[0] = new Main(properties, args);
 
         final BeanScanning scanning = BeanScanning.select(properties);
-        final Module app = wire(scanning, modules);
+        final Module app = wire(scanning, ScanPruning.select(properties), modules);
         final Injector injector = Guice.createInjector(app);
 
         return injector;
     }
 
     public static Module wire(final BeanScanning scanning, final Module... bindings) {
+        return wire(scanning, ScanPruning.NONE, bindings);
+    }
+
+    public static Module wire(final BeanScanning scanning, final ScanPruning pruning, final Module... bindings) {
         final Module[] modules = new Module[bindings.length + 1];
         System.arraycopy(bindings, 0, modules, 0, bindings.length);
 
         final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
-        modules[bindings.length] = new SpaceModule(new URLClassSpace(tccl), scanning);
+        modules[bindings.length] = new SpaceModule(new URLClassSpace(tccl), scanning).with(pruning);
 
         return new WireModule(modules);
     }
@@ -16,7 +16,9 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.net.URLEncoder;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -37,6 +39,14 @@ abstract class AbstractSisuIndex {
 
     static final String NAMED = "javax.inject.Named";
 
+    static final String COMPONENT = "org.codehaus.plexus.component.annotations.Component";
+
+    static final String COMPONENT_DESC = "Lorg/codehaus/plexus/component/annotations/Component;";
+
+    private static final String DEFAULT_HINT = "default";
+
+    private static final String DEFAULT_STRATEGY = "singleton";
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -62,6 +72,29 @@ abstract class AbstractSisuIndex {
         table.add(String.valueOf(clazz));
     }
 
+    /**
+     * Adds a new Plexus component entry to the index.
+     * <p>
+     * Each entry lists the implementation, role, instantiation strategy, and hint separated by spaces, followed by an
+     * optional description. The hint and description are URL-encoded so they cannot break the line format.
+     *
+     * @param clazz The implementation name
+     * @param role The role name
+     * @param hint The role hint
+     * @param strategy The instantiation strategy
+     * @param description The description
+     */
+    protected final void addComponentToIndex(
+            final Object clazz, final String role, final String hint, final String strategy, final String description) {
+        final StringBuilder buf = new StringBuilder().append(clazz).append(' ').append(role);
+        buf.append(' ').append(isEmpty(strategy) ? DEFAULT_STRATEGY : strategy);
+        buf.append(' ').append(encode(isEmpty(hint) ? DEFAULT_HINT : hint));
+        if (!isEmpty(description)) {
+            buf.append(' ').append(encode(description));
+        }
+        addClassToIndex(COMPONENT, buf);
+    }
+
     /**
      * Writes the current index as a series of tables.
      */
@@ -109,6 +142,18 @@ abstract class AbstractSisuIndex {
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    private static boolean isEmpty(final String value) {
+        return null == value || value.isEmpty();
+    }
+
+    private static String encode(final String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e); // UTF-8 is always supported
+        }
+    }
+
     /**
      * Reads the given index table from disk to memory.
      *
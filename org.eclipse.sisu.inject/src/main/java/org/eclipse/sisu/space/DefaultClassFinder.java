@@ -55,4 +55,22 @@ public final class DefaultClassFinder implements ClassFinder {
     public Enumeration<URL> findClasses(final ClassSpace space) {
         return space.findEntries(path, "*.class", recurse);
     }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return Search path; {@code null} when searching the entire class space
+     */
+    String path() {
+        return path;
+    }
+
+    /**
+     * @return {@code true} when searching paths below the search path; otherwise {@code false}
+     */
+    boolean recurse() {
+        return recurse;
+    }
 }
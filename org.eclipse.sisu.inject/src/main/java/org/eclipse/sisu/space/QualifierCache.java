@@ -15,6 +15,7 @@ package org.eclipse.sisu.space;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Qualifier;
+import org.eclipse.sisu.inject.BoundedCache;
 
 /**
  * Caching {@link ClassVisitor} that maintains a map of known {@link Qualifier} annotations.
@@ -32,7 +33,9 @@ final class QualifierCache implements ClassVisitor {
     // Implementation fields
     // ----------------------------------------------------------------------
 
-    private static final Map<String, Boolean> cachedResults = seedResults();
+    private static final Map<String, Boolean> seededResults = seedResults();
+
+    private static final BoundedCache<String, Boolean> cachedResults = BoundedCache.strong("space.qualifiers", 4096);
 
     private boolean isQualified;
 
@@ -78,6 +81,9 @@ final class QualifierCache implements ClassVisitor {
         if (NAMED_DESC.equals(desc)) {
             return true;
         }
+        if (seededResults.containsKey(desc)) {
+            return true;
+        }
         final Boolean result = cachedResults.get(desc);
         if (null == result) {
             isQualified = false;
@@ -92,7 +98,8 @@ final class QualifierCache implements ClassVisitor {
     }
 
     /**
-     * Seeds the cache with the fully-qualified names listed in the 'sisu.qualifiers' system property.
+     * Seeds the cache with the fully-qualified names listed in the 'sisu.qualifiers' system property; seeded results
+     * are kept apart from the bounded cache so they're never evicted.
      *
      * @return Seeded results
      */
@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import org.eclipse.sisu.inject.Logs;
+import org.eclipse.sisu.inject.Soft;
+
+/**
+ * Pruning policy that skips jars and packages which can't contain beans, before any of their classes are read.
+ * <p>
+ * Jars are matched by file name against include/exclude globs; packages are matched by prefix against entry names.
+ * When automatic pruning is enabled, jars whose manifest declares {@code Sisu-Components: false} are skipped and jars
+ * that ship a Sisu index only have their indexed classes scanned.
+ *
+ * @see SpaceModule#with(ScanPruning)
+ */
+public final class ScanPruning {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final String[] NO_PATTERNS = {};
+
+    /**
+     * Policy that doesn't prune anything.
+     */
+    public static final ScanPruning NONE = new ScanPruning(null, null, null, null, false);
+
+    private static final String PROPERTY_PREFIX = ScanPruning.class.getName() + '.';
+
+    private static final String MANIFEST_HEADER = "Sisu-Components";
+
+    private static final String[] INDEX_NAMES = {
+        AbstractSisuIndex.INDEX_FOLDER + AbstractSisuIndex.NAMED,
+        AbstractSisuIndex.INDEX_FOLDER + AbstractSisuIndex.COMPONENT
+    };
+
+    // marker meaning the jar has no index, so all of its classes must be scanned
+    private static final Set<String> ALL_ENTRIES = Collections.unmodifiableSet(new HashSet<String>());
+
+    private static final ConcurrentMap<String, Set<String>> INDEXED_ENTRIES = Soft.concurrentValues();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final String[] includeJars;
+
+    private final String[] excludeJars;
+
+    private final String[] includePackages;
+
+    private final String[] excludePackages;
+
+    private final boolean automatic;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private ScanPruning(
+            final String[] includeJars,
+            final String[] excludeJars,
+            final String[] includePackages,
+            final String[] excludePackages,
+            final boolean automatic) {
+        this.includeJars = null != includeJars ? includeJars : NO_PATTERNS;
+        this.excludeJars = null != excludeJars ? excludeJars : NO_PATTERNS;
+        this.includePackages = null != includePackages ? includePackages : NO_PATTERNS;
+        this.excludePackages = null != excludePackages ? excludePackages : NO_PATTERNS;
+        this.automatic = automatic;
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Selects the properties prefixed with <i>"org.eclipse.sisu.space.ScanPruning."</i> and maps them to a pruning
+     * policy; <i>includeJars</i>, <i>excludeJars</i>, <i>includePackages</i>, and <i>excludePackages</i> take
+     * comma-separated lists while <i>automatic</i> takes a boolean. Defaults to {@link #NONE} when none are set.
+     *
+     * @param properties The properties
+     * @return Selected pruning policy
+     */
+    public static ScanPruning select(final Map<?, ?> properties) {
+        return NONE.includeJars(split(properties, "includeJars"))
+                .excludeJars(split(properties, "excludeJars"))
+                .includePackages(split(properties, "includePackages"))
+                .excludePackages(split(properties, "excludePackages"))
+                .automatic(Boolean.parseBoolean(property(properties, "automatic")));
+    }
+
+    /**
+     * Only scans jars whose file name matches one of the given globs; folders are always scanned.
+     *
+     * @param globs The jar name globs
+     * @return Updated policy
+     */
+    public ScanPruning includeJars(final String... globs) {
+        return new ScanPruning(globs, excludeJars, includePackages, excludePackages, automatic);
+    }
+
+    /**
+     * Never scans jars whose file name matches one of the given globs; takes precedence over included jars.
+     *
+     * @param globs The jar name globs
+     * @return Updated policy
+     */
+    public ScanPruning excludeJars(final String... globs) {
+        return new ScanPruning(includeJars, globs, includePackages, excludePackages, automatic);
+    }
+
+    /**
+     * Only scans classes whose package starts with one of the given prefixes.
+     *
+     * @param prefixes The package prefixes
+     * @return Updated policy
+     */
+    public ScanPruning includePackages(final String... prefixes) {
+        return new ScanPruning(includeJars, excludeJars, paths(prefixes), excludePackages, automatic);
+    }
+
+    /**
+     * Never scans classes whose package starts with one of the given prefixes; takes precedence over included
+     * packages.
+     *
+     * @param prefixes The package prefixes
+     * @return Updated policy
+     */
+    public ScanPruning excludePackages(final String... prefixes) {
+        return new ScanPruning(includeJars, excludeJars, includePackages, paths(prefixes), automatic);
+    }
+
+    /**
+     * Enables automatic pruning of jars based on their manifest and Sisu index.
+     *
+     * @param _automatic {@code true} to enable automatic pruning; otherwise {@code false}
+     * @return Updated policy
+     */
+    public ScanPruning automatic(final boolean _automatic) {
+        return new ScanPruning(includeJars, excludeJars, includePackages, excludePackages, _automatic);
+    }
+
+    /**
+     * @return {@code true} if this policy doesn't prune anything; otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return includeJars.length == 0
+                && excludeJars.length == 0
+                && includePackages.length == 0
+                && excludePackages.length == 0
+                && !automatic;
+    }
+
+    /**
+     * Applies this policy to the given {@link ClassFinder}.
+     *
+     * @param finder The class finder
+     * @return Pruned class finder
+     */
+    public ClassFinder apply(final ClassFinder finder) {
+        return isEmpty() ? finder : new PrunedClassFinder(finder);
+    }
+
+    @Override
+    public String toString() {
+        return "ScanPruning[includeJars=" + Arrays.toString(includeJars) + ", excludeJars="
+                + Arrays.toString(excludeJars) + ", includePackages=" + Arrays.toString(includePackages)
+                + ", excludePackages=" + Arrays.toString(excludePackages) + ", automatic=" + automatic + ']';
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static String property(final Map<?, ?> properties, final String name) {
+        final Object value = properties.get(PROPERTY_PREFIX + name);
+        return null != value ? value.toString() : null;
+    }
+
+    private static String[] split(final Map<?, ?> properties, final String name) {
+        final String value = property(properties, name);
+        if (null == value) {
+            return null;
+        }
+        final List<String> tokens = new ArrayList<>();
+        for (final String token : Tokens.splitByComma(value)) {
+            tokens.add(token);
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    private static String[] paths(final String[] prefixes) {
+        if (null == prefixes) {
+            return null;
+        }
+        final String[] paths = new String[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            String path = prefixes[i].replace('.', '/');
+            if (path.endsWith("*")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            paths[i] = path.endsWith("/") ? path : path + '/';
+        }
+        return paths;
+    }
+
+    /**
+     * @param jarName The jar file name
+     * @return {@code true} if classes in the named jar may be scanned; otherwise {@code false}
+     */
+    boolean includesJar(final String jarName) {
+        for (final String glob : excludeJars) {
+            if (GlobberStrategy.PATTERN.matches(glob, jarName)) {
+                return false;
+            }
+        }
+        for (final String glob : includeJars) {
+            if (GlobberStrategy.PATTERN.matches(glob, jarName)) {
+                return true;
+            }
+        }
+        return includeJars.length == 0;
+    }
+
+    /**
+     * @param entryName The class entry name
+     * @return {@code true} if the named class entry may be scanned; otherwise {@code false}
+     */
+    boolean includesEntry(final String entryName) {
+        for (final String path : excludePackages) {
+            if (entryName.startsWith(path)) {
+                return false;
+            }
+        }
+        for (final String path : includePackages) {
+            if (entryName.startsWith(path)) {
+                return true;
+            }
+        }
+        return includePackages.length == 0;
+    }
+
+    /**
+     * Determines which entries in the given jar may contain beans according to its manifest and Sisu index.
+     *
+     * @param location The jar location
+     * @return Indexed class entries; {@code null} if all classes in the jar should be scanned
+     */
+    static Set<String> indexedEntries(final String location) {
+        final String identity = ScannedJar.jarIdentity(location);
+        if (null == identity) {
+            return null; // not a local jar, no cheap way to check
+        }
+        Set<String> entries = INDEXED_ENTRIES.get(identity);
+        if (null == entries) {
+            entries = readIndexedEntries(location);
+            INDEXED_ENTRIES.putIfAbsent(identity, entries);
+        }
+        return ALL_ENTRIES == entries ? null : entries;
+    }
+
+    private static Set<String> readIndexedEntries(final String location) {
+        try (JarFile jar = new JarFile(new File(new URI(location)), false)) {
+            final Manifest manifest = jar.getManifest();
+            if (null != manifest
+                    && "false".equalsIgnoreCase(manifest.getMainAttributes().getValue(MANIFEST_HEADER))) {
+                return Collections.emptySet(); // jar says it has no components
+            }
+            Set<String> entries = null;
+            for (final String indexName : INDEX_NAMES) {
+                final ZipEntry index = jar.getEntry(indexName);
+                if (null != index) {
+                    if (null == entries) {
+                        entries = new HashSet<>();
+                    }
+                    readIndex(jar, index, entries);
+                }
+            }
+            return null != entries ? entries : ALL_ENTRIES;
+        } catch (final Exception e) { // NOPMD
+            Logs.debug("Problem reading: {}", location, e);
+            return ALL_ENTRIES; // fall back to scanning everything
+        }
+    }
+
+    private static void readIndex(final JarFile jar, final ZipEntry index, final Set<String> entries)
+            throws IOException {
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(jar.getInputStream(index), StandardCharsets.UTF_8))) {
+            // each index line starts with a class name, optionally followed by details or a comment
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                final int i = line.indexOf('#');
+                final String text = (i < 0 ? line : line.substring(0, i)).trim();
+                if (!text.isEmpty()) {
+                    final String[] tokens = text.split("\\s+", 2);
+                    entries.add(tokens[0].replace('.', '/') + ".class");
+                }
+            }
+        }
+    }
+
+    /**
+     * @param path The URL path
+     * @return File name at the end of the path
+     */
+    static String baseName(final String path) {
+        return path.substring(1 + path.lastIndexOf('/'));
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * {@link ClassFinder} that prunes the results of another {@link ClassFinder}.
+     */
+    private final class PrunedClassFinder implements ClassFinder {
+        private final ClassFinder finder;
+
+        PrunedClassFinder(final ClassFinder finder) {
+            this.finder = finder;
+        }
+
+        @Override
+        public Enumeration<URL> findClasses(final ClassSpace space) {
+            if (finder instanceof DefaultClassFinder && space instanceof URLClassSpace) {
+                // prune the class path itself, so skipped jars are never opened
+                return new PrunedPathEnumeration((DefaultClassFinder) finder, ((URLClassSpace) space).getURLs());
+            }
+            return new PrunedResultEnumeration(finder.findClasses(space));
+        }
+
+        @Override
+        public String toString() {
+            return finder + " pruned by " + ScanPruning.this;
+        }
+    }
+
+    /**
+     * {@link Enumeration} that scans class path elements one at a time, skipping pruned jars and entries.
+     */
+    private final class PrunedPathEnumeration implements Enumeration<URL> {
+        private final DefaultClassFinder finder;
+
+        private final URL[] urls;
+
+        private int index;
+
+        private Enumeration<URL> entries = Collections.emptyEnumeration();
+
+        private String prefix;
+
+        private Set<String> indexed;
+
+        private URL nextURL;
+
+        PrunedPathEnumeration(final DefaultClassFinder finder, final URL[] urls) {
+            this.finder = finder;
+            this.urls = null != urls ? urls : new URL[0];
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            while (null == nextURL) {
+                if (entries.hasMoreElements()) {
+                    final URL url = entries.nextElement();
+                    final String spec = url.toString();
+                    if (!spec.startsWith(prefix)) {
+                        nextURL = url; // unexpected form, let it through
+                    } else {
+                        final String entryName = spec.substring(prefix.length());
+                        if ((null == indexed || indexed.contains(entryName)) && includesEntry(entryName)) {
+                            nextURL = url;
+                        }
+                    }
+                } else if (index < urls.length) {
+                    entries = scan(urls[index++]);
+                } else {
+                    return false; // no more URLs
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public URL nextElement() {
+            if (hasMoreElements()) {
+                final URL url = nextURL;
+                nextURL = null;
+                return url;
+            }
+            throw new NoSuchElementException();
+        }
+
+        private Enumeration<URL> scan(final URL url) {
+            final String path = url.getPath();
+            indexed = null;
+            if (path.endsWith("/")) {
+                prefix = url.toString();
+            } else {
+                if (!includesJar(baseName(path))) {
+                    return Collections.emptyEnumeration();
+                }
+                if ("jar".equals(url.getProtocol())) {
+                    prefix = url + "#"; // nested jar, see ResourceEnumeration
+                } else {
+                    prefix = "jar:" + url + "!/";
+                    if (automatic) {
+                        indexed = indexedEntries(url.toString());
+                        if (null != indexed && indexed.isEmpty()) {
+                            return Collections.emptyEnumeration();
+                        }
+                    }
+                }
+            }
+            return new ResourceEnumeration(finder.path(), "*.class", finder.recurse(), new URL[] {url});
+        }
+    }
+
+    /**
+     * {@link Enumeration} that filters class resources found by another {@link ClassFinder}; only resources inside
+     * jars can be pruned, as that's where the entry name is known.
+     */
+    private final class PrunedResultEnumeration implements Enumeration<URL> {
+        private final Enumeration<URL> delegate;
+
+        private URL nextURL;
+
+        PrunedResultEnumeration(final Enumeration<URL> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            while (null == nextURL && delegate.hasMoreElements()) {
+                final URL url = delegate.nextElement();
+                if (includesResource(url)) {
+                    nextURL = url;
+                }
+            }
+            return null != nextURL;
+        }
+
+        @Override
+        public URL nextElement() {
+            if (hasMoreElements()) {
+                final URL url = nextURL;
+                nextURL = null;
+                return url;
+            }
+            throw new NoSuchElementException();
+        }
+
+        private boolean includesResource(final URL url) {
+            final String location = ScannedJar.jarLocation(url);
+            if (null == location) {
+                return true; // not inside a jar
+            }
+            final String path = url.getPath();
+            final String entryName = path.substring(path.indexOf("!/") + 2);
+            if (!includesJar(baseName(location)) || !includesEntry(entryName)) {
+                return false;
+            }
+            if (automatic) {
+                final Set<String> entries = indexedEntries(location);
+                return null == entries || entries.contains(entryName);
+            }
+            return true;
+        }
+    }
+}
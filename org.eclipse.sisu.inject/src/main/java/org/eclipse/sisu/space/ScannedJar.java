@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.space;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.sisu.inject.Soft;
+
+/**
+ * Scan results for the classes in a jar; shared between all {@link ClassSpace}s whose path contains the same jar.
+ */
+final class ScannedJar {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final ConcurrentMap<String, ScannedJar> JARS = Soft.concurrentValues();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final ConcurrentMap<String, ScannedClass> classes = new ConcurrentHashMap<>();
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the location of the jar containing the given class resource.
+     *
+     * @param url The class resource URL
+     * @return Jar location; {@code null} if the resource doesn't come from a jar
+     */
+    static String jarLocation(final URL url) {
+        if ("jar".equals(url.getProtocol())) {
+            final String path = url.getPath();
+            final int separator = path.indexOf("!/");
+            if (separator > 0) {
+                return path.substring(0, separator);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the shared scan results for the given jar, as long as it's a local file that hasn't changed since then.
+     *
+     * @param location The jar location
+     * @return Shared scan results; {@code null} if the jar isn't a local file
+     */
+    static ScannedJar forJar(final String location) {
+        final String identity = jarIdentity(location);
+        if (null == identity) {
+            return null;
+        }
+        ScannedJar jar = JARS.get(identity);
+        if (null == jar) {
+            final ScannedJar newJar = new ScannedJar();
+            jar = JARS.putIfAbsent(identity, newJar);
+            if (null == jar) {
+                jar = newJar;
+            }
+        }
+        return jar;
+    }
+
+    /**
+     * Identifies the given jar by its path, size, and timestamp; so a changed jar gets a new identity.
+     *
+     * @param location The jar location
+     * @return Jar identity; {@code null} if the jar isn't a local file
+     */
+    static String jarIdentity(final String location) {
+        try {
+            if (!location.startsWith("file:")) {
+                return null;
+            }
+            final File file = new File(new URI(location));
+            if (!file.isFile()) {
+                return null;
+            }
+            return file.getPath() + '|' + file.length() + '|' + file.lastModified();
+        } catch (final Exception e) { // NOPMD
+            return null; // unusual location, just scan it as normal
+        }
+    }
+
+    /**
+     * Makes the given {@link ClassVisitor} visit the class contained in the resource {@link URL}, replaying results
+     * recorded by an earlier scan of the same class.
+     *
+     * @param visitor The class visitor
+     * @param url The class resource URL
+     * @param isStrict If set to {@code true} throws {@link RuntimeException} in case of parsing issues with the class
+     */
+    void accept(final ClassVisitor visitor, final URL url, final boolean isStrict) {
+        final String path = url.getPath();
+        final String entry = path.substring(path.indexOf("!/") + 2);
+        ScannedClass clazz = classes.get(entry);
+        if (null == clazz) {
+            final ScannedClass recording = new ScannedClass();
+            if (!SpaceScanner.tryAccept(recording, url, isStrict)) {
+                return; // don't record failures; this also matches the original behaviour of partial visits
+            }
+            clazz = classes.putIfAbsent(entry, recording);
+            if (null == clazz) {
+                clazz = recording;
+            }
+        }
+        try {
+            clazz.replay(visitor);
+        } catch (final RuntimeException e) {
+            SpaceScanner.handleProblem(url, e, isStrict);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Recorded class visit; includes every class-level annotation and its simple element values.
+     */
+    private static final class ScannedClass implements ClassVisitor {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final List<ScannedAnnotation> annotations = new ArrayList<>(2);
+
+        private int modifiers;
+
+        private String name;
+
+        private String _extends;
+
+        private String[] _implements;
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public void enterClass(
+                final int _modifiers, final String _name, final String superName, final String[] interfaces) {
+            modifiers = _modifiers;
+            name = _name;
+            _extends = superName;
+            _implements = interfaces;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(final String desc) {
+            final ScannedAnnotation annotation = new ScannedAnnotation(desc);
+            annotations.add(annotation);
+            return annotation;
+        }
+
+        @Override
+        public void leaveClass() {
+            // no-op
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        void replay(final ClassVisitor visitor) {
+            visitor.enterClass(modifiers, name, _extends, _implements);
+            for (final ScannedAnnotation annotation : annotations) {
+                final AnnotationVisitor av = visitor.visitAnnotation(annotation.desc);
+                if (null != av) {
+                    annotation.replay(av);
+                }
+            }
+            visitor.leaveClass();
+        }
+    }
+
+    /**
+     * Recorded annotation visit.
+     */
+    private static final class ScannedAnnotation implements AnnotationVisitor {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final String desc;
+
+        private final List<Object> elements = new ArrayList<>(2); // alternating name, value
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        ScannedAnnotation(final String desc) {
+            this.desc = desc;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public void enterAnnotation() {
+            // no-op
+        }
+
+        @Override
+        public void visitElement(final String name, final Object value) {
+            elements.add(name);
+            elements.add(value);
+        }
+
+        @Override
+        public void leaveAnnotation() {
+            // no-op
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        void replay(final AnnotationVisitor visitor) {
+            visitor.enterAnnotation();
+            for (int i = 0; i < elements.size(); i += 2) {
+                visitor.visitElement((String) elements.get(i), elements.get(i + 1));
+            }
+            visitor.leaveAnnotation();
+        }
+    }
+}
@@ -31,11 +31,12 @@ import org.eclipse.sisu.inject.Logs;
 /**
  * Command-line utility that generates a qualified class index for a space-separated list of JARs.
  * <p>
- * The index consists of qualified class names listed in {@code META-INF/sisu/javax.inject.Named}.
+ * The index consists of qualified class names listed in {@code META-INF/sisu/javax.inject.Named}, plus details of
+ * Plexus components listed in {@code META-INF/sisu/org.codehaus.plexus.component.annotations.Component}.
  *
  * @see <a href="http://eclipse.org/sisu/docs/api/org.eclipse.sisu.mojos/">sisu-maven-plugin</a>
  */
-public class SisuIndex extends AbstractSisuIndex implements SpaceVisitor, ClassVisitor {
+public class SisuIndex extends AbstractSisuIndex implements SpaceVisitor, ClassVisitor, AnnotationVisitor {
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -48,6 +49,14 @@ public class SisuIndex extends AbstractSisuIndex implements SpaceVisitor, ClassV
 
     private String clazzName;
 
+    private String role;
+
+    private String hint;
+
+    private String strategy;
+
+    private String description;
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -109,12 +118,45 @@ public class SisuIndex extends AbstractSisuIndex implements SpaceVisitor, ClassV
 
     @Override
     public final AnnotationVisitor visitAnnotation(final String desc) {
-        if (null != clazzName && qualifierCache.qualify(space, desc)) {
-            addClassToIndex(NAMED, clazzName.replace('/', '.'));
+        if (null != clazzName) {
+            if (COMPONENT_DESC.equals(desc)) {
+                return this;
+            }
+            if (qualifierCache.qualify(space, desc)) {
+                addClassToIndex(NAMED, clazzName.replace('/', '.'));
+            }
         }
         return null;
     }
 
+    @Override
+    public final void enterAnnotation() {
+        role = null;
+        hint = null;
+        strategy = null;
+        description = null;
+    }
+
+    @Override
+    public final void visitElement(final String name, final Object value) {
+        if ("role".equals(name)) {
+            role = (String) value;
+        } else if ("hint".equals(name)) {
+            hint = (String) value;
+        } else if ("instantiationStrategy".equals(name)) {
+            strategy = (String) value;
+        } else if ("description".equals(name)) {
+            description = (String) value;
+        }
+    }
+
+    @Override
+    public final void leaveAnnotation() {
+        if (null != role) {
+            addComponentToIndex(clazzName.replace('/', '.'), role, hint, strategy, description);
+        }
+    }
+
     @Override
     public final void leaveClass() {
         clazzName = null;
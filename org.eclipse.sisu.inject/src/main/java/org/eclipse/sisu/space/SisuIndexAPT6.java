@@ -19,6 +19,7 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.processing.Completion;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -26,9 +27,12 @@ import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
@@ -37,7 +41,8 @@ import javax.tools.StandardLocation;
 /**
  * Java 6 Annotation {@link Processor} that generates a qualified class index for the current build.
  * <p>
- * The index consists of qualified class names listed in {@code META-INF/sisu/javax.inject.Named}.
+ * The index consists of qualified class names listed in {@code META-INF/sisu/javax.inject.Named}, plus details of
+ * Plexus components listed in {@code META-INF/sisu/org.codehaus.plexus.component.annotations.Component}.
  *
  * @see <a href="http://eclipse.org/sisu/docs/api/org.eclipse.sisu.mojos/">sisu-maven-plugin</a>
  */
@@ -93,7 +98,13 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round) {
         final Elements elementUtils = environment.getElementUtils();
         for (final TypeElement anno : annotations) {
-            if (!ALL.equals(qualifiers) || hasQualifier(anno)) {
+            if (COMPONENT.contentEquals(anno.getQualifiedName())) {
+                for (final Element elem : round.getElementsAnnotatedWith(anno)) {
+                    if (elem.getKind().isClass() && !elem.getModifiers().contains(Modifier.ABSTRACT)) {
+                        indexComponent(elementUtils, (TypeElement) elem, anno);
+                    }
+                }
+            } else if (!ALL.equals(qualifiers) || hasQualifier(anno)) {
                 for (final Element elem : round.getElementsAnnotatedWith(anno)) {
                     if (elem.getKind().isClass()) {
                         addClassToIndex(NAMED, elementUtils.getBinaryName((TypeElement) elem));
@@ -133,7 +144,10 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
             }
             return annotationTypes;
         }
-        return Collections.singleton(NAMED);
+        final Set<String> annotationTypes = new HashSet<>();
+        annotationTypes.add(NAMED);
+        annotationTypes.add(COMPONENT);
+        return annotationTypes;
     }
 
     @Override
@@ -178,6 +192,36 @@ public final class SisuIndexAPT6 extends AbstractSisuIndex implements Processor
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    private void indexComponent(final Elements elementUtils, final TypeElement clazz, final TypeElement anno) {
+        for (final AnnotationMirror mirror : clazz.getAnnotationMirrors()) {
+            if (anno.equals(mirror.getAnnotationType().asElement())) {
+                String role = null;
+                String hint = null;
+                String strategy = null;
+                String description = null;
+                for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e :
+                        elementUtils.getElementValuesWithDefaults(mirror).entrySet()) {
+                    final String name = e.getKey().getSimpleName().toString();
+                    final Object value = e.getValue().getValue();
+                    if ("role".equals(name) && value instanceof DeclaredType) {
+                        role = elementUtils
+                                .getBinaryName((TypeElement) ((DeclaredType) value).asElement())
+                                .toString();
+                    } else if ("hint".equals(name)) {
+                        hint = (String) value;
+                    } else if ("instantiationStrategy".equals(name)) {
+                        strategy = (String) value;
+                    } else if ("description".equals(name)) {
+                        description = (String) value;
+                    }
+                }
+                if (null != role) {
+                    addComponentToIndex(elementUtils.getBinaryName(clazz), role, hint, strategy, description);
+                }
+            }
+        }
+    }
+
     private static boolean hasQualifier(final TypeElement anno) {
         if (HAS_QUALIFIER) {
             return null != anno.getAnnotation(javax.inject.Qualifier.class);
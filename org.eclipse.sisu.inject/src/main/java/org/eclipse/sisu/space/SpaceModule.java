@@ -22,9 +22,8 @@ import com.google.inject.spi.MembersInjectorLookup;
 import com.google.inject.spi.PrivateElements;
 import com.google.inject.spi.ProviderLookup;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import javax.inject.Qualifier;
+import org.eclipse.sisu.inject.BoundedCache;
 
 /**
  * Guice {@link Module} that automatically binds types annotated with {@link Qualifier} annotations.
@@ -47,15 +46,17 @@ public final class SpaceModule implements Module {
     // ----------------------------------------------------------------------
 
     private static final class RecordedElements {
-        static final ConcurrentMap<String, List<Element>> cache = //
-                new ConcurrentHashMap<>(16, 0.75f, 1);
+        // softly held, as recordings can pin whole class spaces; evicted recordings are simply re-scanned
+        static final BoundedCache<String, List<Element>> cache = BoundedCache.softValues("space.recordings", 256);
     }
 
     private final boolean caching;
 
     private final ClassSpace space;
 
-    private final ClassFinder finder;
+    private ClassFinder finder;
+
+    private ScanPruning pruning = ScanPruning.NONE;
 
     /**
      * If set to {@code true} will throw {@link RuntimeException} in case class cannot be scanned
@@ -143,6 +144,20 @@ public final class SpaceModule implements Module {
         return this;
     }
 
+    /**
+     * Applies a {@link ScanPruning} policy to the current module; pruned jars and packages are not scanned.
+     *
+     * @param _pruning The pruning policy
+     * @return Updated module
+     */
+    public SpaceModule with(final ScanPruning _pruning) {
+        if (null != finder && !_pruning.isEmpty()) {
+            pruning = _pruning;
+            finder = _pruning.apply(finder);
+        }
+        return this;
+    }
+
     @Override
     public void configure(final Binder binder) {
         binder.bind(ClassSpace.class).toInstance(space);
@@ -200,7 +215,7 @@ public final class SpaceModule implements Module {
     }
 
     private void recordAndReplayElements(final Binder binder) {
-        final String key = space.toString();
+        final String key = pruning.isEmpty() ? space.toString() : space + " " + pruning;
         List<Element> elements = RecordedElements.cache.get(key);
         if (null == elements) {
             // record results of scanning plus any custom module bindings
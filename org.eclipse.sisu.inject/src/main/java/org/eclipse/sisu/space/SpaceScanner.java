@@ -17,6 +17,8 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.net.URL;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
 import org.eclipse.sisu.inject.Logs;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
@@ -26,10 +28,26 @@ import org.objectweb.asm.Type;
  * Makes a {@link SpaceVisitor} visit a {@link ClassSpace}; can be directed by an optional {@link ClassFinder}.
  */
 public final class SpaceScanner {
+    // ----------------------------------------------------------------------
+    // Static initialization
+    // ----------------------------------------------------------------------
+
+    static {
+        boolean scanCache;
+        try {
+            scanCache = !"false".equalsIgnoreCase(System.getProperty("sisu.scan.cache"));
+        } catch (final RuntimeException e) {
+            scanCache = true;
+        }
+        SCAN_CACHE = scanCache;
+    }
+
     // ----------------------------------------------------------------------
     // Constants
     // ----------------------------------------------------------------------
 
+    private static final boolean SCAN_CACHE;
+
     private static final int ASM_FLAGS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
 
     static final ClassFinder DEFAULT_FINDER = new DefaultClassFinder();
@@ -87,17 +105,26 @@ public final class SpaceScanner {
 
     /**
      * Makes the given {@link SpaceVisitor} visit the {@link ClassSpace} of this scanner.
+     * <p>
+     * Classes from local jars are only parsed once per JVM; later scans of the same unchanged jar, even from another
+     * {@link ClassSpace}, replay the recorded results. Set {@code -Dsisu.scan.cache=false} to always parse classes.
      *
      * @param visitor The class space visitor
      */
     public void accept(final SpaceVisitor visitor) {
         visitor.enterSpace(space);
 
+        final Map<String, ScannedJar> jars = SCAN_CACHE ? new HashMap<String, ScannedJar>() : null;
         for (final Enumeration<URL> result = finder.findClasses(space); result.hasMoreElements(); ) {
             final URL url = result.nextElement();
             final ClassVisitor cv = visitor.visitClass(url);
             if (null != cv) {
-                accept(cv, url, isStrict);
+                final ScannedJar jar = null != jars ? scannedJar(jars, url) : null;
+                if (null != jar) {
+                    jar.accept(cv, url, isStrict);
+                } else {
+                    accept(cv, url, isStrict);
+                }
             }
         }
 
@@ -123,17 +150,8 @@ public final class SpaceScanner {
      * @param isStrict If set to {@code true} throws {@link RuntimeException} in case of parsing issues with the class
      */
     public static void accept(final ClassVisitor visitor, final URL url, boolean isStrict) {
-        if (null == url) {
-            return; // nothing to visit
-        }
-        try (final InputStream in = Streams.open(url)) {
-            new ClassReader(in).accept(adapt(visitor), ASM_FLAGS);
-        } catch (final IOException | RuntimeException e) {
-            if (isStrict) {
-                throw new IllegalStateException("Problem scanning " + url, e);
-            } else {
-                Logs.debug("Problem scanning: {}", url, e);
-            }
+        if (null != url) {
+            tryAccept(visitor, url, isStrict);
         }
     }
 
@@ -148,10 +166,55 @@ public final class SpaceScanner {
         return 'L' + clazz.getName().replace('.', '/') + ';';
     }
 
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Makes the given {@link ClassVisitor} visit the class contained in the resource {@link URL}.
+     *
+     * @return {@code true} if the class was visited without problems; otherwise {@code false}
+     */
+    static boolean tryAccept(final ClassVisitor visitor, final URL url, final boolean isStrict) {
+        try (final InputStream in = Streams.open(url)) {
+            new ClassReader(in).accept(adapt(visitor), ASM_FLAGS);
+            return true;
+        } catch (final IOException | RuntimeException e) {
+            handleProblem(url, e, isStrict);
+            return false;
+        }
+    }
+
+    /**
+     * Reports a problem scanning the given class resource; throws {@link IllegalStateException} when strict.
+     */
+    static void handleProblem(final URL url, final Exception e, final boolean isStrict) {
+        if (isStrict) {
+            throw new IllegalStateException("Problem scanning " + url, e);
+        }
+        Logs.debug("Problem scanning: {}", url, e);
+    }
+
     // ----------------------------------------------------------------------
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Returns the shared scan results for the jar containing the given class; looks up each jar once per scan.
+     */
+    private static ScannedJar scannedJar(final Map<String, ScannedJar> jars, final URL url) {
+        final String location = ScannedJar.jarLocation(url);
+        if (null == location) {
+            return null;
+        }
+        ScannedJar jar = jars.get(location);
+        if (null == jar && !jars.containsKey(location)) {
+            jar = ScannedJar.forJar(location);
+            jars.put(location, jar);
+        }
+        return jar;
+    }
+
     /**
      * Adapts the given {@link ClassVisitor} to its equivalent ASM form.
      *
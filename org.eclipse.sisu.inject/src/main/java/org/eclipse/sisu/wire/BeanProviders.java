@@ -23,8 +23,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import org.eclipse.sisu.BeanEntry;
 import org.eclipse.sisu.inject.BeanLocator;
+import org.eclipse.sisu.inject.Flags;
+import org.eclipse.sisu.inject.MutableBeanLocator;
 import org.eclipse.sisu.inject.TypeArguments;
 
 /**
@@ -67,8 +70,7 @@ final class BeanProviders {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public <K extends Annotation, V> Provider<Iterable<Entry<K, V>>> entriesOf(final Key key) {
         final TypeLiteral<V> type = key.getTypeLiteral();
-        final Class<?> clazz = type.getRawType();
-        if (javax.inject.Provider.class != clazz && com.google.inject.Provider.class != clazz) {
+        if (!isProvider(type)) {
             return beanEntriesOf(key);
         }
         final Provider<Iterable<BeanEntry>> beanEntries = beanEntriesOf(key.ofType(TypeArguments.get(type, 0)));
@@ -85,9 +87,14 @@ final class BeanProviders {
      */
     public <K extends Annotation, V> Provider<List<V>> listOf(final Key<V> key) {
         final Provider<Iterable<Entry<K, V>>> entries = entriesOf(key);
+        final TypeLiteral<?> beanType = beanType(key.getTypeLiteral());
         return new Provider<List<V>>() {
             @Override
             public List<V> get() {
+                final LongSupplier generation = snapshotGeneration(beanType);
+                if (null != generation) {
+                    return new EntryListSnapshot<>(entries.get(), generation);
+                }
                 return new EntryListAdapter<>(entries.get());
             }
         };
@@ -111,9 +118,14 @@ final class BeanProviders {
      */
     public <K extends Annotation, V> Provider<Map<K, V>> mapOf(final Key<V> key) {
         final Provider<Iterable<Entry<K, V>>> entries = entriesOf(key);
+        final TypeLiteral<?> beanType = beanType(key.getTypeLiteral());
         return new Provider<Map<K, V>>() {
             @Override
             public Map<K, V> get() {
+                final LongSupplier generation = snapshotGeneration(beanType);
+                if (null != generation) {
+                    return new EntryMapSnapshot<>(entries.get(), generation);
+                }
                 return new EntryMapAdapter<>(entries.get());
             }
         };
@@ -124,9 +136,14 @@ final class BeanProviders {
      */
     public <V> Provider<Map<String, V>> stringMapOf(final TypeLiteral<V> type) {
         final Provider<Iterable<Entry<Named, V>>> entries = entriesOf(Key.get(type, Named.class));
+        final TypeLiteral<?> beanType = beanType(type);
         return new Provider<Map<String, V>>() {
             @Override
             public Map<String, V> get() {
+                final LongSupplier generation = snapshotGeneration(beanType);
+                if (null != generation) {
+                    return new EntryMapSnapshot<>(new NamedIterableAdapter<>(entries.get()), generation);
+                }
                 return new EntryMapAdapter<>(new NamedIterableAdapter<>(entries.get()));
             }
         };
@@ -142,6 +159,12 @@ final class BeanProviders {
 
             @Override
             public V get() {
+                final BeanLocator beanLocator = locator.get();
+                if (beanLocator instanceof MutableBeanLocator) {
+                    // first bean is reused until the located beans change
+                    final BeanEntry<?, V> bean = ((MutableBeanLocator) beanLocator).locateFirst(key);
+                    return null != bean ? bean.getProvider().get() : null;
+                }
                 if (null == cachedLookup) {
                     cachedLookup = beanEntries.get();
                 }
@@ -157,4 +180,31 @@ final class BeanProviders {
     public <V> Provider<V> placeholderOf(final Key<V> key) {
         return new PlaceholderBeanProvider<>(this, key);
     }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static boolean isProvider(final TypeLiteral<?> type) {
+        final Class<?> clazz = type.getRawType();
+        return javax.inject.Provider.class == clazz || com.google.inject.Provider.class == clazz;
+    }
+
+    private static TypeLiteral<?> beanType(final TypeLiteral<?> type) {
+        return isProvider(type) ? TypeArguments.get(type, 0) : type;
+    }
+
+    /**
+     * @return Generation source for the given bean type; {@code null} if collections should be live views
+     */
+    private LongSupplier snapshotGeneration(final TypeLiteral<?> beanType) {
+        if (Flags.SNAPSHOT_COLLECTIONS) {
+            final BeanLocator beanLocator = locator.get();
+            if (beanLocator instanceof MutableBeanLocator
+                    && ((MutableBeanLocator) beanLocator).generation(beanType) >= 0) {
+                return () -> ((MutableBeanLocator) beanLocator).generation(beanType);
+            }
+        }
+        return null;
+    }
 }
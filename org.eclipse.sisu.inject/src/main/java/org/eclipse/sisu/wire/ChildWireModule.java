@@ -15,8 +15,6 @@ package org.eclipse.sisu.wire;
 import com.google.inject.Binder;
 import com.google.inject.Injector;
 import com.google.inject.Module;
-import com.google.inject.spi.Element;
-import com.google.inject.spi.Elements;
 import java.util.Arrays;
 import org.eclipse.sisu.inject.DefaultBeanLocator;
 import org.eclipse.sisu.wire.WireModule.Strategy;
@@ -75,9 +73,7 @@ public final class ChildWireModule implements Module {
         }
 
         // rest of this is the same as WireModule.configure...
-        for (final Element e : Elements.getElements(modules)) {
-            e.acceptVisitor(analyzer);
-        }
+        analyzer.analyze(modules);
         analyzer.apply(strategy);
     }
 }
@@ -79,6 +79,17 @@ final class DependencyAnalyzer extends DefaultBindingTargetVisitor<Object, Boole
 
     private static final Set<Class<?>> RESTRICTED_CLASSES;
 
+    /**
+     * Dependencies per implementation class, shared across analyzers; stored with the class so cached analysis
+     * (which refers back to it) won't prevent unloading.
+     */
+    private static final ClassValue<TypeAnalysis> ANALYZED_CLASSES = new ClassValue<TypeAnalysis>() {
+        @Override
+        protected TypeAnalysis computeValue(final Class<?> clazz) {
+            return new TypeAnalysis(TypeLiteral.get(clazz));
+        }
+    };
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -115,6 +126,22 @@ final class DependencyAnalyzer extends DefaultBindingTargetVisitor<Object, Boole
         return missingKeys;
     }
 
+    /**
+     * @return Snapshot of the keys required so far
+     */
+    public Set<Key<?>> requiredKeys() {
+        return new HashSet<>(requiredKeys);
+    }
+
+    /**
+     * Adds keys required by a binding that was analyzed earlier.
+     *
+     * @param keys The required keys
+     */
+    public void requireKeys(final Collection<Key<?>> keys) {
+        requiredKeys.addAll(keys);
+    }
+
     @Override
     public Boolean visit(final UntargettedBinding<?> binding) {
         return analyzeImplementation(binding.getKey().getTypeLiteral(), true);
@@ -197,26 +224,31 @@ final class DependencyAnalyzer extends DefaultBindingTargetVisitor<Object, Boole
         if (null == applyBinding) {
             applyBinding = Boolean.TRUE;
             if (TypeArguments.isConcrete(type) && !type.toString().startsWith("java")) {
-                try {
-                    // check methods+fields first and avoid short-circuiting to maximize dependency analysis results
-                    final boolean rhs = analyzeInjectionPoints(InjectionPoint.forInstanceMethodsAndFields(type));
-                    if (!analyzeDependencies(
-                                    InjectionPoint.forConstructorOf(type).getDependencies())
-                            || !rhs) {
-                        applyBinding = Boolean.FALSE;
-                    }
-                } catch (final LinkageError | RuntimeException e) {
-                    if (reportErrors) {
-                        Logs.debug("Potential problem: {}", type, e);
-                    }
+                final TypeAnalysis analysis = typeAnalysis(type);
+                if (!analyzeDependencies(analysis.dependencies) || null != analysis.problem) {
                     applyBinding = Boolean.FALSE;
                 }
+                if (null != analysis.problem && reportErrors) {
+                    Logs.debug("Potential problem: {}", type, analysis.problem);
+                }
             }
             analyzedTypes.put(type, applyBinding);
         }
         return applyBinding;
     }
 
+    private static TypeAnalysis typeAnalysis(final TypeLiteral<?> type) {
+        if (!(type.getType() instanceof Class<?>)) {
+            return new TypeAnalysis(type); // generic types might refer to other class loaders, so don't share them
+        }
+        final Class<?> clazz = type.getRawType();
+        final TypeAnalysis analysis = ANALYZED_CLASSES.get(clazz);
+        if (null != analysis.problem) {
+            ANALYZED_CLASSES.remove(clazz); // missing dependencies might appear later, so try again next time
+        }
+        return analysis;
+    }
+
     private boolean analyzeInjectionPoints(final Set<InjectionPoint> points) {
         boolean applyBinding = true;
         for (final InjectionPoint p : points) {
@@ -258,4 +290,34 @@ final class DependencyAnalyzer extends DefaultBindingTargetVisitor<Object, Boole
             }
         }
     }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Dependencies of an implementation type, gathered from its injectable constructor, methods, and fields.
+     */
+    private static final class TypeAnalysis {
+        final List<Dependency<?>> dependencies = new ArrayList<>();
+
+        /**
+         * Reason the type couldn't be fully analyzed; {@code null} if there was no problem.
+         */
+        final Throwable problem;
+
+        TypeAnalysis(final TypeLiteral<?> type) {
+            Throwable failure = null;
+            try {
+                // check methods+fields first and avoid short-circuiting to maximize dependency analysis results
+                for (final InjectionPoint p : InjectionPoint.forInstanceMethodsAndFields(type)) {
+                    dependencies.addAll(p.getDependencies());
+                }
+                dependencies.addAll(InjectionPoint.forConstructorOf(type).getDependencies());
+            } catch (final LinkageError | RuntimeException e) {
+                failure = e;
+            }
+            problem = failure;
+        }
+    }
 }
@@ -23,6 +23,7 @@ import com.google.inject.spi.Element;
 import com.google.inject.spi.ElementVisitor;
 import com.google.inject.spi.Elements;
 import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.MembersInjectorLookup;
 import com.google.inject.spi.PrivateElements;
 import com.google.inject.spi.ProviderLookup;
 import com.google.inject.spi.RequireExplicitBindingsOption;
@@ -115,6 +116,26 @@ final class ElementAnalyzer extends DefaultElementVisitor<Void> {
         localKeys.addAll(keys);
     }
 
+    /**
+     * Analyzes the elements of the given modules in order; elements of {@link RecordedModule}s are replayed along with
+     * their recorded analysis, the rest are recorded and analyzed as usual.
+     *
+     * @param modules The modules
+     */
+    public void analyze(final Iterable<Module> modules) {
+        final List<Module> pending = new ArrayList<>();
+        for (final Module m : modules) {
+            if (m instanceof RecordedModule && ((RecordedModule) m).recording().shareable) {
+                visitElements(pending);
+                pending.clear();
+                replay(((RecordedModule) m).recording());
+            } else {
+                pending.add(m);
+            }
+        }
+        visitElements(pending);
+    }
+
     public void apply(final Strategy strategy) {
         if (requireExplicitBindings) {
             makeJitBindingsExplicit();
@@ -148,16 +169,7 @@ final class ElementAnalyzer extends DefaultElementVisitor<Void> {
             if (isParameters(key)) {
                 mergeParameters(binding);
             } else if (Boolean.TRUE.equals(binding.acceptTargetVisitor(analyzer))) {
-                localKeys.add(key);
-                binding.applyTo(binder);
-
-                if (null != LEGACY_KEY_ALIASES) {
-                    @SuppressWarnings("unchecked")
-                    final Key<T> alias = (Key<T>) LEGACY_KEY_ALIASES.get(key);
-                    if (null != alias && localKeys.add(alias)) {
-                        binder.bind(alias).to(key); // chain to legacy binding
-                    }
-                }
+                applyLocalBinding(binding);
             } else {
                 Logs.trace("Discard binding: {}", binding, null);
             }
@@ -233,6 +245,58 @@ final class ElementAnalyzer extends DefaultElementVisitor<Void> {
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    private void visitElements(final List<Module> modules) {
+        if (!modules.isEmpty()) {
+            for (final Element e : Elements.getElements(modules)) {
+                e.acceptVisitor(this);
+            }
+        }
+    }
+
+    private void replay(final RecordedModule.Recording recording) {
+        for (int i = 0, size = recording.elements.size(); i < size; i++) {
+            final Element e = recording.elements.get(i);
+            final RecordedModule.Analysis analysis = recording.analysis[i];
+            if (null != analysis && !isParameters(((Binding<?>) e).getKey())) {
+                replayBinding((Binding<?>) e, analysis);
+            } else if (e instanceof ProviderLookup<?>) {
+                // lookups have state so we replace them with duplicates when replaying...
+                analyzer.visit((ProviderLookup<?>) e);
+                binder.getProvider(((ProviderLookup<?>) e).getKey());
+            } else if (e instanceof MembersInjectorLookup<?>) {
+                binder.getMembersInjector(((MembersInjectorLookup<?>) e).getType());
+            } else {
+                e.acceptVisitor(this);
+            }
+        }
+    }
+
+    private <T> void replayBinding(final Binding<T> binding, final RecordedModule.Analysis analysis) {
+        final Key<T> key = binding.getKey();
+        if (!localKeys.contains(key)) {
+            analyzer.requireKeys(analysis.requiredKeys);
+            if (analysis.applyBinding) {
+                applyLocalBinding(binding);
+            } else {
+                Logs.trace("Discard binding: {}", binding, null);
+            }
+        }
+    }
+
+    private <T> void applyLocalBinding(final Binding<T> binding) {
+        final Key<T> key = binding.getKey();
+        localKeys.add(key);
+        binding.applyTo(binder);
+
+        if (null != LEGACY_KEY_ALIASES) {
+            @SuppressWarnings("unchecked")
+            final Key<T> alias = (Key<T>) LEGACY_KEY_ALIASES.get(key);
+            if (null != alias && localKeys.add(alias)) {
+                binder.bind(alias).to(key); // chain to legacy binding
+            }
+        }
+    }
+
     private void makeJitBindingsExplicit() {
         for (final Element element : JIT_BINDINGS) {
             if (element instanceof Binding<?> && localKeys.add(((Binding<?>) element).getKey())) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.LongSupplier;
+
+/**
+ * Random-access {@link List} snapshot of an {@link Iterable} sequence of map entries. Entries are captured when the
+ * list is first accessed and only captured again when the given generation changes; values are still resolved lazily.
+ */
+public final class EntryListSnapshot<V> extends AbstractList<V> implements RandomAccess {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final Iterable<? extends Entry<Object, V>> iterable;
+
+    private final LongSupplier generation;
+
+    private volatile EntrySnapshot<Object, V> snapshot; // NOSONAR
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    public EntryListSnapshot(final Iterable<? extends Entry<?, V>> iterable, final LongSupplier generation) {
+        this.iterable = (Iterable<? extends Entry<Object, V>>) iterable;
+        this.generation = generation;
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public V get(final int index) {
+        return entries()[index].getValue();
+    }
+
+    @Override
+    public int size() {
+        return entries().length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries().length == 0;
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator<>(entries());
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private Entry<Object, V>[] entries() {
+        final EntrySnapshot<Object, V> current = EntrySnapshot.refresh(snapshot, iterable, generation, false);
+        snapshot = current;
+        return current.entries;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Value {@link Iterator} backed by a fixed array of map entries.
+     */
+    private static final class ValueIterator<V> implements Iterator<V> {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        private final Entry<?, V>[] entries;
+
+        private int index;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        ValueIterator(final Entry<?, V>[] entries) {
+            this.entries = entries;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public boolean hasNext() {
+            return index < entries.length;
+        }
+
+        @Override
+        public V next() {
+            if (index < entries.length) {
+                return entries[index++].getValue();
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Hashed {@link Map} snapshot of an {@link Iterable} sequence of map entries. Entries are captured when the map is
+ * first accessed and only captured again when the given generation changes; values are still resolved lazily.
+ */
+public final class EntryMapSnapshot<K, V> extends AbstractMap<K, V> {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final Iterable<? extends Entry<K, V>> iterable;
+
+    private final LongSupplier generation;
+
+    private final Set<Entry<K, V>> entrySet = new EntrySet();
+
+    private volatile EntrySnapshot<K, V> snapshot; // NOSONAR
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    public EntryMapSnapshot(final Iterable<? extends Entry<K, V>> iterable, final LongSupplier generation) {
+        this.iterable = iterable;
+        this.generation = generation;
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public V get(final Object key) {
+        final Entry<K, V> entry = current().index.get(key);
+        return null != entry ? entry.getValue() : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return current().index.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    @Override
+    public int size() {
+        return current().entries.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return current().entries.length == 0;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    EntrySnapshot<K, V> current() {
+        final EntrySnapshot<K, V> current = EntrySnapshot.refresh(snapshot, iterable, generation, true);
+        snapshot = current;
+        return current;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Entry {@link Set} backed by the current snapshot.
+     */
+    final class EntrySet extends AbstractSet<Entry<K, V>> {
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return Arrays.asList(current().entries).iterator();
+        }
+
+        @Override
+        public int size() {
+            return current().entries.length;
+        }
+    }
+}
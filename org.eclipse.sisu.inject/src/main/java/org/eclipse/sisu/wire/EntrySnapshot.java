@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.LongSupplier;
+
+/**
+ * Immutable array of map entries captured from an {@link Iterable} sequence at a given generation.
+ */
+final class EntrySnapshot<K, V> {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    final Entry<K, V>[] entries;
+
+    final Map<Object, Entry<K, V>> index;
+
+    private final long generation;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private EntrySnapshot(final Entry<K, V>[] entries, final long generation, final boolean indexed) {
+        this.entries = entries;
+        this.generation = generation;
+
+        if (indexed) {
+            index = new HashMap<>(entries.length * 4 / 3 + 1);
+            for (final Entry<K, V> e : entries) {
+                index.putIfAbsent(e.getKey(), e); // first (highest ranked) entry wins
+            }
+        } else {
+            index = null;
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the given snapshot if it is still current; otherwise captures the current entries.
+     *
+     * @param snapshot The previous snapshot, may be {@code null}
+     * @param iterable The underlying entries
+     * @param generation The generation source
+     * @param indexed {@code true} to index entries by key; otherwise {@code false}
+     * @return Current snapshot
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> EntrySnapshot<K, V> refresh(
+            final EntrySnapshot<K, V> snapshot,
+            final Iterable<? extends Entry<K, V>> iterable,
+            final LongSupplier generation,
+            final boolean indexed) {
+        // read generation first, so concurrent updates will trigger another refresh
+        final long currentGeneration = generation.getAsLong();
+        if (null != snapshot && snapshot.generation == currentGeneration) {
+            return snapshot;
+        }
+        final List<Entry<K, V>> list = new ArrayList<>();
+        for (final Entry<K, V> e : iterable) {
+            list.add(e);
+        }
+        return new EntrySnapshot<>(list.toArray(new Entry[list.size()]), currentGeneration, indexed);
+    }
+}
@@ -17,9 +17,8 @@ import com.google.inject.TypeLiteral;
 import java.lang.reflect.InvocationTargetException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.concurrent.ConcurrentMap;
 import javax.inject.Provider;
-import org.eclipse.sisu.inject.Weak;
+import org.eclipse.sisu.inject.BoundedCache;
 
 /**
  * Weak cache of {@link ClassLoader}s that can generate proxy classes on-demand.
@@ -41,7 +40,7 @@ final class GlueLoader extends ClassLoader {
     // Implementation fields
     // ----------------------------------------------------------------------
 
-    private static final ConcurrentMap<Integer, GlueLoader> cachedGlue = Weak.concurrentValues();
+    private static final BoundedCache<Integer, GlueLoader> cachedGlue = BoundedCache.weakValues("wire.glue", 0);
 
     // ----------------------------------------------------------------------
     // Constructors
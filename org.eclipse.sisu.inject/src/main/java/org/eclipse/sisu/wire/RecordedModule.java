@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.PrivateBinder;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderInstanceBinding;
+import com.google.inject.spi.ProviderLookup;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.sisu.inject.DeferredProvider;
+import org.eclipse.sisu.inject.Guice4;
+
+/**
+ * Guice {@link Module} that records the elements of modules which don't change, so they can be replayed into any
+ * number of injectors without being configured again. When used inside a {@link WireModule} the dependency analysis
+ * of the recorded bindings is also shared, so only the other modules need to be analyzed for each new injector.
+ * <p>
+ * Elements are recorded the first time they're needed, after which the recording is immutable and safe to replay from
+ * multiple threads.
+ */
+public final class RecordedModule implements Module {
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final Module[] modules;
+
+    private volatile Recording recording;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    public RecordedModule(final Module... modules) {
+        this.modules = modules.clone();
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public void configure(final Binder binder) {
+        replayRecordedElements(binder, recording().elements);
+    }
+
+    @Override
+    public String toString() {
+        return "RecordedModule" + Arrays.toString(modules);
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return Recorded elements, along with their dependency analysis
+     */
+    Recording recording() {
+        Recording result = recording;
+        if (null == result) {
+            synchronized (this) {
+                result = recording;
+                if (null == result) {
+                    recording = result = new Recording(Elements.getElements(modules));
+                }
+            }
+        }
+        return result;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static void replayRecordedElements(final Binder binder, final List<Element> elements) {
+        for (final Element e : elements) {
+            // lookups have state so we replace them with duplicates when replaying...
+            if (e instanceof ProviderLookup<?>) {
+                binder.getProvider(((ProviderLookup<?>) e).getKey());
+            } else if (e instanceof MembersInjectorLookup<?>) {
+                binder.getMembersInjector(((MembersInjectorLookup<?>) e).getType());
+            } else if (e instanceof PrivateElements) {
+                // Follows example set by Guice Modules when applying private elements:
+                final PrivateElements privateElements = (PrivateElements) e;
+
+                // 1. create new private binder, using the elements source token
+                final PrivateBinder privateBinder =
+                        binder.withSource(e.getSource()).newPrivateBinder();
+
+                // 2. for all elements, apply each element to the private binder
+                replayRecordedElements(privateBinder, privateElements.getElements());
+
+                // 3. re-expose any exposed keys using their exposed source token
+                for (final Key<?> k : privateElements.getExposedKeys()) {
+                    privateBinder
+                            .withSource(privateElements.getExposedSource(k))
+                            .expose(k);
+                }
+            } else {
+                e.applyTo(binder);
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Immutable recording of elements; bindings are analyzed up-front unless their analysis may change over time.
+     */
+    static final class Recording {
+        final List<Element> elements;
+
+        /**
+         * Analysis of each element; {@code null} if the element should be analyzed each time it's replayed.
+         */
+        final Analysis[] analysis;
+
+        /**
+         * {@code true} if the elements can be replayed directly; otherwise they must be replayed via a fresh binder.
+         */
+        final boolean shareable;
+
+        Recording(final List<Element> elements) {
+            this.elements = elements;
+            analysis = new Analysis[elements.size()];
+            boolean hasPrivateElements = false;
+            for (int i = 0; i < analysis.length; i++) {
+                final Element e = elements.get(i);
+                if (e instanceof Binding<?> && !isDeferred((Binding<?>) e)) {
+                    final DependencyAnalyzer analyzer = new DependencyAnalyzer();
+                    final Boolean applyBinding = ((Binding<?>) e).acceptTargetVisitor(analyzer);
+                    analysis[i] = new Analysis(Boolean.TRUE.equals(applyBinding), analyzer.requiredKeys());
+                } else if (e instanceof PrivateElements) {
+                    hasPrivateElements = true;
+                }
+            }
+            shareable = !hasPrivateElements;
+        }
+
+        /**
+         * Deferred providers are analyzed using their current implementation, which might change over time.
+         */
+        private static boolean isDeferred(final Binding<?> binding) {
+            return binding instanceof ProviderInstanceBinding<?>
+                    && Guice4.getProviderInstance((ProviderInstanceBinding<?>) binding) instanceof DeferredProvider<?>;
+        }
+    }
+
+    /**
+     * Dependency analysis of a recorded binding.
+     */
+    static final class Analysis {
+        final boolean applyBinding;
+
+        final Set<Key<?>> requiredKeys;
+
+        Analysis(final boolean applyBinding, final Set<Key<?>> requiredKeys) {
+            this.applyBinding = applyBinding;
+            this.requiredKeys = requiredKeys;
+        }
+    }
+}
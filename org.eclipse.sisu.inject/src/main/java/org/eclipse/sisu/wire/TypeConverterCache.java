@@ -17,9 +17,8 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.spi.TypeConverter;
 import com.google.inject.spi.TypeConverterBinding;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
+import org.eclipse.sisu.inject.BoundedCache;
 
 /**
  * Lazy cache of known {@link TypeConverter}s.
@@ -30,7 +29,8 @@ final class TypeConverterCache {
     // Implementation fields
     // ----------------------------------------------------------------------
 
-    private final Map<TypeLiteral<?>, TypeConverter> converterMap = new ConcurrentHashMap<>(16, 0.75f, 1);
+    // keyed by class, so converted types don't pin their class loaders
+    private final BoundedCache<Class<?>, TypeConverter> converterMap = BoundedCache.weakKeys("wire.converters", 1024);
 
     private final Injector injector;
 
@@ -48,12 +48,15 @@ final class TypeConverterCache {
     // ----------------------------------------------------------------------
 
     public TypeConverter getTypeConverter(final TypeLiteral<?> type) {
-        TypeConverter converter = converterMap.get(type);
+        final boolean isClass = type.getType() instanceof Class<?>;
+        TypeConverter converter = isClass ? converterMap.get(type.getRawType()) : null;
         if (null == converter) {
             for (final TypeConverterBinding b : injector.getTypeConverterBindings()) {
                 if (b.getTypeMatcher().matches(type)) {
                     converter = b.getTypeConverter();
-                    converterMap.put(type, converter);
+                    if (isClass) {
+                        converterMap.put(type.getRawType(), converter);
+                    }
                     break;
                 }
             }
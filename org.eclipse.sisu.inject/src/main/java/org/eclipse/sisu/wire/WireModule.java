@@ -14,8 +14,6 @@ package org.eclipse.sisu.wire;
 
 import com.google.inject.Binder;
 import com.google.inject.Module;
-import com.google.inject.spi.Element;
-import com.google.inject.spi.Elements;
 import java.util.Arrays;
 import org.eclipse.sisu.inject.BeanLocator;
 
@@ -67,9 +65,7 @@ public final class WireModule implements Module {
     @Override
     public void configure(final Binder binder) {
         final ElementAnalyzer analyzer = new ElementAnalyzer(binder);
-        for (final Element e : Elements.getElements(modules)) {
-            e.acceptVisitor(analyzer);
-        }
+        analyzer.analyze(modules);
         analyzer.apply(strategy);
     }
 
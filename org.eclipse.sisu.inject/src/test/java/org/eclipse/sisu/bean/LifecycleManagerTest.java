@@ -16,6 +16,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
 import org.eclipse.sisu.PostConstruct;
 import org.eclipse.sisu.PreDestroy;
 import org.junit.jupiter.api.Test;
@@ -118,4 +122,46 @@ class LifecycleManagerTest {
         // After flushing, re-managing should re-build the lifecycle
         assertTrue(manager.manage(ManagedBean.class));
     }
+
+    @Test
+    void testManagedTypesDoNotPinClassLoaders() throws Exception {
+        final LifecycleManager manager = new LifecycleManager();
+
+        final WeakReference<ClassLoader> loaderRef = manageIsolatedBean(manager);
+        for (int i = 0; i < 20 && null != loaderRef.get(); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(loaderRef.get());
+    }
+
+    private static WeakReference<ClassLoader> manageIsolatedBean(final LifecycleManager manager) throws Exception {
+        final URL testClasses =
+                ManagedBean.class.getProtectionDomain().getCodeSource().getLocation();
+        final ClassLoader loader = new URLClassLoader(new URL[] {testClasses}, ManagedBean.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+                if (ManagedBean.class.getName().equals(name)) {
+                    synchronized (getClassLoadingLock(name)) {
+                        final Class<?> clazz = findLoadedClass(name);
+                        return null != clazz ? clazz : findClass(name); // isolated copy
+                    }
+                }
+                return super.loadClass(name, resolve);
+            }
+        };
+
+        final Class<?> beanType = loader.loadClass(ManagedBean.class.getName());
+        assertTrue(beanType != ManagedBean.class);
+        assertTrue(manager.manage(beanType));
+
+        final Constructor<?> ctor = beanType.getDeclaredConstructor();
+        ctor.setAccessible(true);
+        final Object bean = ctor.newInstance();
+        assertTrue(manager.manage(bean));
+        assertTrue(manager.unmanage(bean));
+
+        return new WeakReference<>(loader);
+    }
 }
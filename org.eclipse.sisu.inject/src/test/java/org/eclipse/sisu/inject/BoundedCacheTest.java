@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class BoundedCacheTest {
+    @Test
+    void testCounters() {
+        final BoundedCache<String, String> cache = BoundedCache.strong("test.counters", 0);
+
+        assertNull(cache.get("A"));
+        assertNull(cache.putIfAbsent("A", "a"));
+        assertEquals("a", cache.putIfAbsent("A", "b"));
+        assertEquals("a", cache.get("A"));
+        assertEquals("a", cache.get("A"));
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0, cache.evictionCount());
+        assertEquals("test.counters[size=1, hits=2, misses=1, evictions=0]", cache.toString());
+
+        assertEquals("a", cache.remove("A"));
+        assertNull(cache.remove("A"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSizeBound() throws InterruptedException {
+        final BoundedCache<Integer, String> cache = BoundedCache.strong("test.size", 8);
+        for (int i = 0; i < 8; i++) {
+            cache.put(i, "value" + i);
+        }
+        Thread.sleep(1);
+        assertEquals("value0", cache.get(0)); // keep first entry fresh
+
+        cache.put(8, "value8");
+
+        assertEquals(7, cache.size());
+        assertEquals(2, cache.evictionCount());
+        assertEquals("value0", cache.get(0));
+        assertNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("value8", cache.get(8));
+    }
+
+    @Test
+    void testTimeBound() throws InterruptedException {
+        System.setProperty("sisu.cache.test.ttl.ttl", "1");
+        final BoundedCache<String, String> cache;
+        try {
+            cache = BoundedCache.strong("test.ttl", 0);
+        } finally {
+            System.clearProperty("sisu.cache.test.ttl.ttl");
+        }
+
+        cache.put("A", "a");
+        Thread.sleep(10);
+
+        assertNull(cache.get("A"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.evictionCount());
+
+        assertNull(cache.putIfAbsent("B", "b"));
+        Thread.sleep(10);
+        assertNull(cache.putIfAbsent("B", "c"));
+        assertEquals(2, cache.evictionCount());
+    }
+
+    @Test
+    void testSizeProperty() {
+        System.setProperty("sisu.cache.test.property.maxSize", "2");
+        final BoundedCache<String, String> cache;
+        try {
+            cache = BoundedCache.strong("test.property", 0);
+        } finally {
+            System.clearProperty("sisu.cache.test.property.maxSize");
+        }
+
+        cache.put("A", "a");
+        cache.put("B", "b");
+        cache.put("C", "c");
+
+        assertTrue(cache.size() <= 2);
+    }
+
+    @Test
+    void testUnboundedIgnoresProperties() throws InterruptedException {
+        System.setProperty("sisu.cache.test.unbounded.maxSize", "2");
+        System.setProperty("sisu.cache.test.unbounded.ttl", "1");
+        final BoundedCache<String, String> cache;
+        try {
+            cache = BoundedCache.unbounded("test.unbounded");
+        } finally {
+            System.clearProperty("sisu.cache.test.unbounded.maxSize");
+            System.clearProperty("sisu.cache.test.unbounded.ttl");
+        }
+
+        cache.put("A", "a");
+        cache.put("B", "b");
+        assertNull(cache.putIfAbsent("C", "c"));
+
+        Thread.sleep(10);
+
+        assertEquals(3, cache.size());
+        assertEquals("a", cache.get("A"));
+        assertEquals("b", cache.get("B"));
+        assertEquals("c", cache.get("C"));
+        assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    void testWeakValues() {
+        final BoundedCache<String, Object> cache = BoundedCache.weakValues("test.weak", 0);
+
+        Object value = new Object();
+        cache.put("A", value);
+        assertTrue(value == cache.get("A"));
+
+        value = null; // clear so value can be evicted
+        for (int i = 0; i < 20 && null != cache.get("A"); i++) {
+            System.gc();
+        }
+
+        assertNull(cache.get("A"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void testClearedValuesArePurgedOnWrite() throws InterruptedException {
+        final BoundedCache<Integer, Object> cache = BoundedCache.weakValues("test.purge", 0);
+        final Object live = new Object();
+
+        Object value = new Object();
+        cache.put(0, value);
+
+        value = null; // clear so value can be evicted
+        for (int i = 1; i < 20 && cache.evictionCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+            cache.put(i, live); // never look up the cleared key again
+        }
+
+        assertEquals(1, cache.evictionCount());
+        assertFalse(cache.keySet().contains(0));
+    }
+
+    @Test
+    void testUnboundedWeakKeys() throws InterruptedException {
+        System.setProperty("sisu.cache.test.weak.unbounded.ttl", "1");
+        final BoundedCache<Object, String> cache;
+        try {
+            cache = BoundedCache.unboundedWeakKeys("test.weak.unbounded");
+        } finally {
+            System.clearProperty("sisu.cache.test.weak.unbounded.ttl");
+        }
+
+        Object key = new Object();
+        cache.put(key, "a");
+        Thread.sleep(10);
+        assertEquals("a", cache.get(key));
+
+        key = null; // clear so key can be evicted
+        for (int i = 0; i < 20 && cache.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    void testKeySetAndRegistry() {
+        final BoundedCache<Class<?>, String> cache = BoundedCache.weakKeys("test.keys", 0);
+
+        cache.put(String.class, "string");
+        cache.put(Integer.class, "integer");
+
+        for (final Iterator<Class<?>> itr = cache.keySet().iterator(); itr.hasNext(); ) {
+            if (itr.next() == String.class) {
+                itr.remove();
+            }
+        }
+
+        assertNull(cache.get(String.class));
+        assertEquals("integer", cache.get(Integer.class));
+
+        assertTrue(BoundedCache.caches().contains(cache));
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertFalse(cache.keySet().iterator().hasNext());
+    }
+}
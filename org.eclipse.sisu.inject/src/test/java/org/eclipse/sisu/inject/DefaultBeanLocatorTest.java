@@ -12,6 +12,7 @@ package org.eclipse.sisu.inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -22,9 +23,16 @@ import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.eclipse.sisu.BeanEntry;
+import org.eclipse.sisu.Mediator;
 import org.eclipse.sisu.inject.RankedBindingsTest.Bean;
 import org.eclipse.sisu.inject.RankedBindingsTest.BeanImpl;
 import org.eclipse.sisu.inject.RankedBindingsTest.BeanImpl2;
@@ -352,6 +360,254 @@ class DefaultBeanLocatorTest {
         locator.clear();
     }
 
+    @Test
+    void testSnapshotGenerations() {
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+        final Key<Bean> key = Key.get(Bean.class, Named.class);
+
+        final long gen0 = locator.generation(key.getTypeLiteral());
+
+        publishInjector(locator, parent, 0);
+
+        final long gen1 = locator.generation(key.getTypeLiteral());
+        assertTrue(gen1 > gen0);
+
+        final BeanSnapshot<Named, Bean> snapshot1 = locator.locateSnapshot(key);
+        assertEquals(3, snapshot1.size());
+        assertEquals(Names.named("A"), snapshot1.get(0).getKey());
+        assertEquals(Names.named("-"), snapshot1.get(1).getKey());
+        assertEquals(Names.named("Z"), snapshot1.get(2).getKey());
+
+        // subscribing to the publisher shouldn't leave the first snapshot stale
+        assertFalse(snapshot1.isStale());
+        final BeanSnapshot<Named, Bean> snapshot2 = locator.locateSnapshot(key);
+        assertSame(snapshot1, snapshot2);
+
+        publishInjector(locator, child1, 1);
+
+        assertTrue(snapshot2.isStale());
+        assertTrue(locator.generation(key.getTypeLiteral()) > snapshot2.generation());
+
+        final BeanSnapshot<Named, Bean> snapshot3 = locator.locateSnapshot(key);
+        assertEquals(6, snapshot3.size());
+        assertEquals(Names.named("default"), snapshot3.get(0).getKey());
+        assertEquals(Names.named("M1"), snapshot3.get(1).getKey());
+        assertEquals(Names.named("N1"), snapshot3.get(2).getKey());
+        assertEquals(Names.named("A"), snapshot3.get(3).getKey());
+
+        try {
+            snapshot3.remove(0);
+            fail("Expected UnsupportedOperationException");
+        } catch (final UnsupportedOperationException e) {
+            // expected
+        }
+
+        unpublishInjector(locator, child1);
+
+        assertTrue(snapshot3.isStale());
+        assertEquals(3, locator.locateSnapshot(key).size());
+    }
+
+    @Test
+    void testLocateFirstSubscribesLazily() {
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+        final Key<Bean> key = Key.get(Bean.class, Named.class);
+
+        final int[] subscribeCount = new int[1];
+        final BindingPublisher lowRanked = new BindingPublisher() {
+            private final BindingPublisher delegate = new InjectorBindings(parent, new DefaultRankingFunction(0));
+
+            @Override
+            public <T> void subscribe(final BindingSubscriber<T> subscriber) {
+                subscribeCount[0]++;
+                delegate.subscribe(subscriber);
+            }
+
+            @Override
+            public <T> void unsubscribe(final BindingSubscriber<T> subscriber) {
+                delegate.unsubscribe(subscriber);
+            }
+
+            @Override
+            public int maxBindingRank() {
+                return 0; // parent only has named bindings, which all rank below zero
+            }
+
+            @Override
+            public <T> T adapt(final Class<T> type) {
+                return null;
+            }
+        };
+
+        locator.add(lowRanked);
+        publishInjector(locator, child1, 1);
+
+        final BeanEntry<Named, Bean> first = locator.locateFirst(key);
+        assertEquals(Names.named("default"), first.getKey());
+        assertSame(first, locator.locateFirst(key));
+
+        // nothing in the lower ranked publisher could come first
+        assertEquals(0, subscribeCount[0]);
+
+        publishInjector(locator, child3, 2);
+
+        final BeanEntry<Named, Bean> newFirst = locator.locateFirst(key);
+        assertEquals(BeanImpl2.class, newFirst.getImplementationClass());
+        assertEquals(0, subscribeCount[0]);
+
+        unpublishInjector(locator, child1);
+        unpublishInjector(locator, child3);
+
+        assertEquals(Names.named("A"), locator.locateFirst(key).getKey());
+        assertEquals(1, subscribeCount[0]);
+
+        locator.remove(lowRanked);
+
+        assertEquals(null, locator.locateFirst(key));
+    }
+
+    @Test
+    void testFilteredSnapshotsAreCachedPerPredicate() {
+        final DefaultBeanLocator locator = new DefaultBeanLocator();
+        final Key<Bean> key = Key.get(Bean.class, Named.class);
+
+        final Predicate<BeanEntry<Named, Bean>> skipA =
+                bean -> !"A".equals(bean.getKey().value());
+        final Predicate<BeanEntry<Named, Bean>> skipZ =
+                bean -> !"Z".equals(bean.getKey().value());
+        final Predicate<?>[] current = {skipA};
+        locator.setBeanEntryPredicateSupplier(() -> current[0]);
+
+        publishInjector(locator, parent, 0);
+        locator.locateSnapshot(key); // settle subscription
+
+        final BeanSnapshot<Named, Bean> snapshotA = locator.locateSnapshot(key);
+        assertEquals(2, snapshotA.size());
+        assertEquals(Names.named("-"), snapshotA.get(0).getKey());
+        assertTrue(snapshotA.isStale()); // context-dependent
+        assertSame(snapshotA, locator.locateSnapshot(key));
+
+        current[0] = skipZ;
+        final BeanSnapshot<Named, Bean> snapshotZ = locator.locateSnapshot(key);
+        assertEquals(Names.named("A"), snapshotZ.get(0).getKey());
+        assertSame(snapshotZ, locator.locateSnapshot(key));
+
+        current[0] = skipA;
+        assertSame(snapshotA, locator.locateSnapshot(key));
+
+        publishInjector(locator, child1, 1);
+
+        final BeanSnapshot<Named, Bean> snapshotA2 = locator.locateSnapshot(key);
+        assertNotSame(snapshotA, snapshotA2);
+        assertEquals(5, snapshotA2.size());
+    }
+
+    @Test
+    void testDefaultSnapshotMethods() {
+        final MutableBeanLocator delegate = new DefaultBeanLocator();
+        final MutableBeanLocator locator = new MutableBeanLocator() {
+            @Override
+            public <Q extends Annotation, T> Iterable<? extends BeanEntry<Q, T>> locate(final Key<T> key) {
+                return delegate.locate(key);
+            }
+
+            @Override
+            public <Q extends Annotation, T, W> void watch(
+                    final Key<T> key, final Mediator<Q, T, W> mediator, final W watcher) {
+                delegate.watch(key, mediator, watcher);
+            }
+
+            @Override
+            public boolean add(final BindingPublisher publisher) {
+                return delegate.add(publisher);
+            }
+
+            @Override
+            public boolean remove(final BindingPublisher publisher) {
+                return delegate.remove(publisher);
+            }
+
+            @Override
+            public Iterable<BindingPublisher> publishers() {
+                return delegate.publishers();
+            }
+
+            @Override
+            public void clear() {
+                delegate.clear();
+            }
+        };
+
+        final Key<Bean> key = Key.get(Bean.class, Named.class);
+        publishInjector(locator, parent, 0);
+
+        assertEquals(-1, locator.generation(key.getTypeLiteral()));
+
+        final BeanSnapshot<Named, Bean> snapshot = locator.locateSnapshot(key);
+        assertEquals(3, snapshot.size());
+        assertTrue(snapshot.isStale());
+        assertNotSame(snapshot, locator.locateSnapshot(key));
+    }
+
+    @Test
+    void testPartitionedLookup() {
+        final DefaultBeanLocator locator = new DefaultBeanLocator();
+        final Key<Bean> key = Key.get(Bean.class, Named.class);
+
+        final Injector partitioned = parent.createChildInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                binder().withSource("P1")
+                        .bind(Bean.class)
+                        .annotatedWith(Names.named("X"))
+                        .to(BeanImpl.class);
+                binder().withSource("P2")
+                        .bind(Bean.class)
+                        .annotatedWith(Names.named("Y"))
+                        .to(BeanImpl.class);
+            }
+        });
+
+        publishInjector(locator, parent, 0);
+        publishInjector(locator, partitioned, 1);
+
+        final Function<Object, ?> partitioner = source -> {
+            final String name = String.valueOf(source);
+            return name.startsWith("P") ? name : null;
+        };
+        final Set<String> p1 = Collections.singleton("P1");
+        final Set<String> p2 = Collections.singleton("P2");
+
+        final Set<?>[] visible = {p1};
+        final Iterable<BeanEntry> beans = locator.locate(key, partitioner, () -> visible[0]);
+
+        checkKeys(beans, "X", "A", "-", "Z");
+        visible[0] = p2;
+        checkKeys(beans, "Y", "A", "-", "Z");
+        visible[0] = null;
+        checkKeys(beans, "X", "Y", "A", "-", "Z");
+
+        // named lookups use the name index, but still respect partitions
+        visible[0] = p1;
+        checkKeys(locator.locate(Key.get(Bean.class, Names.named("Y")), partitioner, () -> visible[0]));
+        checkKeys(locator.locate(Key.get(Bean.class, Names.named("X")), partitioner, () -> visible[0]), "X");
+
+        // partition views follow publisher changes
+        unpublishInjector(locator, partitioned);
+        checkKeys(beans, "A", "-", "Z");
+        publishInjector(locator, partitioned, 1);
+        checkKeys(beans, "X", "A", "-", "Z");
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void checkKeys(final Iterable<? extends BeanEntry> beans, final String... names) {
+        final Iterator<? extends BeanEntry> itr = beans.iterator();
+        for (final String n : names) {
+            assertEquals(Names.named(n), itr.next().getKey());
+        }
+        assertFalse(itr.hasNext());
+    }
+
     private static void publishInjector(final MutableBeanLocator locator, final Injector injector, final int rank) {
         locator.add(new InjectorBindings(injector, new DefaultRankingFunction(rank)));
     }
@@ -13,6 +13,7 @@ package org.eclipse.sisu.inject;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -21,6 +22,7 @@ import com.google.inject.Binding;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
+import com.google.inject.Singleton;
 import com.google.inject.name.Names;
 import com.google.inject.util.Providers;
 import java.lang.annotation.Annotation;
@@ -197,6 +199,38 @@ class LocatedBeansTest {
         assertFalse(itr.hasNext());
     }
 
+    @Test
+    void testSharedSingletonEntries() {
+        final Injector scopedInjector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Bean.class)
+                        .annotatedWith(Names.named("Singleton"))
+                        .to(BeanImpl.class)
+                        .in(Singleton.class);
+                bind(Bean.class).annotatedWith(Names.named("Unscoped")).to(BeanImpl.class);
+            }
+        });
+
+        final Key<Bean> key = Key.get(Bean.class, Named.class);
+        final RankedBindings<Bean> bindings = new RankedBindings<>(key.getTypeLiteral(), null);
+        for (final Binding<Bean> b : scopedInjector.findBindingsByType(key.getTypeLiteral())) {
+            bindings.add(b, 0);
+        }
+
+        final Iterator<BeanEntry<Named, Bean>> itr1 = new LocatedBeans<Named, Bean>(key, bindings, null).iterator();
+        final Iterator<BeanEntry<Named, Bean>> itr2 = new LocatedBeans<Named, Bean>(key, bindings, null).iterator();
+
+        // singleton entries are shared between lookups of the same key
+        assertSame(itr1.next(), itr2.next());
+
+        // unscoped entries are specific to each lookup
+        final BeanEntry<Named, Bean> unscoped1 = itr1.next();
+        final BeanEntry<Named, Bean> unscoped2 = itr2.next();
+        assertNotSame(unscoped1, unscoped2);
+        assertNotSame(unscoped1.getValue(), unscoped2.getValue());
+    }
+
     private <Q extends Annotation, T> LocatedBeans<Q, T> locate(final Key<T> key) {
         final RankedBindings<T> bindings = new RankedBindings<>(key.getTypeLiteral(), null);
         for (final Binding<T> b : injector.findBindingsByType(key.getTypeLiteral())) {
@@ -112,6 +112,105 @@ class RankedBindingsTest {
         assertFalse(itr.hasNext());
     }
 
+    @Test
+    void testNamedIndex() {
+        final RankedSequence<BindingPublisher> publishers = new RankedSequence<>();
+
+        RankingFunction function;
+
+        function = new DefaultRankingFunction(1);
+        publishers.insert(new InjectorBindings(injector1, function), function.maxRank());
+        function = new DefaultRankingFunction(2);
+        publishers.insert(new InjectorBindings(injector2, function), function.maxRank());
+
+        final RankedBindings<Bean> bindings = new RankedBindings<>(TypeLiteral.get(Bean.class), publishers);
+
+        Iterator<Binding<Bean>> itr;
+
+        itr = bindings.iterator("1");
+        assertTrue(itr.hasNext());
+        assertEquals(Names.named("1"), itr.next().getKey().getAnnotation());
+        assertFalse(itr.hasNext());
+
+        // both publishers claim they could rank above the match, so both are subscribed
+        assertEquals(3, bindings.bindings.size());
+
+        itr = bindings.iterator("default");
+        assertTrue(itr.hasNext());
+        assertNull(itr.next().getKey().getAnnotation());
+        assertFalse(itr.hasNext());
+
+        itr = bindings.iterator("3");
+        assertFalse(itr.hasNext());
+
+        function = new DefaultRankingFunction(3);
+        final BindingPublisher publisher3 = new InjectorBindings(injector3, function);
+        bindings.add(publisher3, function.maxRank());
+
+        // pending publishers are subscribed as usual, updating the index
+        itr = bindings.iterator("3");
+        assertTrue(itr.hasNext());
+        assertEquals(Names.named("3"), itr.next().getKey().getAnnotation());
+        assertFalse(itr.hasNext());
+
+        bindings.remove(publisher3);
+
+        assertFalse(bindings.iterator("3").hasNext());
+        assertTrue(bindings.iterator("2").hasNext());
+
+        // names that are missing or no longer bound are not kept in the index
+        final int indexSize = bindings.namedBindings.size();
+        for (int i = 0; i < 100; i++) {
+            assertFalse(bindings.iterator("missing" + i).hasNext());
+        }
+        assertEquals(indexSize, bindings.namedBindings.size());
+        assertFalse(bindings.namedBindings.containsKey("3"));
+    }
+
+    @Test
+    void testNamedLookupSubscribesLazily() {
+        final CountingPublisher publisherA =
+                new CountingPublisher(injector1, 1, Integer.MIN_VALUE + 1 /* only named bindings */, null);
+        final CountingPublisher publisherB = new CountingPublisher(injector2, 2, 2, null);
+        final CountingPublisher publisherC = new CountingPublisher(injector3, 3, 3, "3");
+
+        final RankedBindings<Bean> bindings = new RankedBindings<>(TypeLiteral.get(Bean.class), null);
+
+        bindings.add(publisherA, publisherA.maxBindingRank());
+        bindings.add(publisherB, publisherB.maxBindingRank());
+
+        Iterator<Binding<Bean>> itr = bindings.iterator("2");
+        assertEquals(1, publisherB.subscribeCount);
+        assertEquals(0, publisherA.subscribeCount);
+
+        // nothing from the lower ranked publisher could come before the match
+        assertTrue(itr.hasNext());
+        assertEquals(Names.named("2"), itr.next().getKey().getAnnotation());
+        assertEquals(0, publisherA.subscribeCount);
+
+        // ...but it could still come after it
+        assertFalse(itr.hasNext());
+        assertEquals(1, publisherA.subscribeCount);
+
+        bindings.add(publisherC, publisherC.maxBindingRank());
+
+        // publisher says it doesn't have the name, so it stays pending
+        itr = bindings.iterator("2");
+        assertTrue(itr.hasNext());
+        assertEquals(Names.named("2"), itr.next().getKey().getAnnotation());
+        assertFalse(itr.hasNext());
+        assertFalse(bindings.iterator("missing").hasNext());
+        assertEquals(0, publisherC.subscribeCount);
+
+        itr = bindings.iterator("3");
+        assertTrue(itr.hasNext());
+        assertEquals(Names.named("3"), itr.next().getKey().getAnnotation());
+        assertEquals(1, publisherC.subscribeCount);
+
+        assertEquals(1, publisherA.subscribeCount);
+        assertEquals(1, publisherB.subscribeCount);
+    }
+
     @Test
     void testPendingPublishers() {
         final RankedBindings<Bean> bindings = new RankedBindings<>(TypeLiteral.get(Bean.class), null);
@@ -247,4 +346,46 @@ class RankedBindingsTest {
         assertFalse(itr.hasNext());
         assertFalse(itr.hasNext());
     }
+
+    static final class CountingPublisher implements BindingPublisher {
+        private final BindingPublisher delegate;
+
+        private final int maxRank;
+
+        private final String name;
+
+        int subscribeCount;
+
+        CountingPublisher(final Injector injector, final int primaryRank, final int maxRank, final String name) {
+            this.delegate = new InjectorBindings(injector, new DefaultRankingFunction(primaryRank));
+            this.maxRank = maxRank;
+            this.name = name;
+        }
+
+        @Override
+        public <T> void subscribe(final BindingSubscriber<T> subscriber) {
+            subscribeCount++;
+            delegate.subscribe(subscriber);
+        }
+
+        @Override
+        public <T> void unsubscribe(final BindingSubscriber<T> subscriber) {
+            delegate.unsubscribe(subscriber);
+        }
+
+        @Override
+        public int maxBindingRank() {
+            return maxRank;
+        }
+
+        @Override
+        public boolean mayPublish(final TypeLiteral<?> type, final String bindingName) {
+            return null == name || name.equals(bindingName);
+        }
+
+        @Override
+        public <T> T adapt(final Class<T> type) {
+            return null;
+        }
+    }
 }
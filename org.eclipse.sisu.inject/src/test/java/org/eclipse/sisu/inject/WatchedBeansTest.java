@@ -17,11 +17,16 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
 import com.google.inject.name.Names;
 import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.inject.Named;
 import org.eclipse.sisu.BeanEntry;
 import org.eclipse.sisu.Mediator;
@@ -232,6 +237,114 @@ class WatchedBeansTest {
         subscriberHolder[0].remove(child2.getBinding(Key.get(Bean.class, Marked.class)));
     }
 
+    @Test
+    void testWatchersShareSubscription() {
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+
+        final int[] subscribeCount = new int[1];
+        final BindingPublisher countingPublisher = new BindingPublisher() {
+            private final BindingPublisher delegate = new InjectorBindings(child1, new DefaultRankingFunction(1));
+
+            @Override
+            public <T> void subscribe(final BindingSubscriber<T> subscriber) {
+                subscribeCount[0]++;
+                delegate.subscribe(subscriber);
+            }
+
+            @Override
+            public <T> void unsubscribe(final BindingSubscriber<T> subscriber) {
+                delegate.unsubscribe(subscriber);
+            }
+
+            @Override
+            public int maxBindingRank() {
+                return delegate.maxBindingRank();
+            }
+
+            @Override
+            public <T> T adapt(final Class<T> type) {
+                return null;
+            }
+        };
+
+        final RankedSequence<String> names1 = new RankedSequence<>();
+        final RankedSequence<String> names2 = new RankedSequence<>();
+        final RankedSequence<String> names3 = new RankedSequence<>();
+
+        locator.watch(Key.get(Bean.class, Named.class), new RankingMediator(), names1);
+        locator.watch(Key.get(Bean.class, Named.class), new RankingMediator(), names2);
+
+        publishInjector(locator, parent, 0);
+        locator.add(countingPublisher);
+
+        assertEquals(1, subscribeCount[0]);
+
+        checkNames(names1, "X", "A", "B", "C");
+        checkNames(names2, "X", "A", "B", "C");
+
+        // late watcher should see everything published so far, without new subscriptions
+        locator.watch(Key.get(Bean.class, Named.class), new RankingMediator(), names3);
+
+        assertEquals(1, subscribeCount[0]);
+
+        checkNames(names3, "X", "A", "B", "C");
+
+        locator.remove(countingPublisher);
+
+        checkNames(names1, "A", "B", "C");
+        checkNames(names2, "A", "B", "C");
+        checkNames(names3, "A", "B", "C");
+    }
+
+    @Test
+    void testMediatorsAreNotifiedOutsideLock() throws InterruptedException {
+        final WatchedBindings<Bean> groupA = new WatchedBindings<>(TypeLiteral.get(Bean.class));
+        final WatchedBindings<Bean> groupB = new WatchedBindings<>(TypeLiteral.get(Bean.class));
+
+        final Binding<Bean> bindingA = parent.getBinding(Key.get(Bean.class, Names.named("A")));
+        final Binding<Bean> bindingB = parent.getBinding(Key.get(Bean.class, Names.named("B")));
+
+        // each mediator waits for the other to start, then updates the other group
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Object watcher = new Object();
+        groupA.watch(
+                new WatchedBeans<>(Key.get(Bean.class, Named.class), crossMediator(latch, groupB, bindingB), watcher),
+                watcher);
+        groupB.watch(
+                new WatchedBeans<>(Key.get(Bean.class, Named.class), crossMediator(latch, groupA, bindingA), watcher),
+                watcher);
+
+        final Thread threadA = new Thread(() -> groupA.add(bindingA, 0));
+        final Thread threadB = new Thread(() -> groupB.add(bindingB, 0));
+        threadA.setDaemon(true);
+        threadB.setDaemon(true);
+        threadA.start();
+        threadB.start();
+        threadA.join(5000);
+        threadB.join(5000);
+
+        assertFalse(threadA.isAlive());
+        assertFalse(threadB.isAlive());
+    }
+
+    private static Mediator<Named, Bean, Object> crossMediator(
+            final CountDownLatch latch, final WatchedBindings<Bean> otherGroup, final Binding<Bean> otherBinding) {
+        final AtomicBoolean notified = new AtomicBoolean();
+        return new Mediator<Named, Bean, Object>() {
+            @Override
+            public void add(final BeanEntry<Named, Bean> entry, final Object watcher) throws InterruptedException {
+                if (notified.compareAndSet(false, true)) {
+                    latch.countDown();
+                    latch.await(5, TimeUnit.SECONDS);
+                    otherGroup.add(otherBinding, 0);
+                }
+            }
+
+            @Override
+            public void remove(final BeanEntry<Named, Bean> entry, final Object watcher) {}
+        };
+    }
+
     private static void checkNames(final Iterable<String> actual, final String... expected) {
         final Iterator<String> itr = actual.iterator();
         for (final String n : expected) {
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@BaseTests
+class ScanPruningTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testNoPruning() {
+        assertTrue(ScanPruning.NONE.isEmpty());
+        assertSame(SpaceModule.LOCAL_SCAN, ScanPruning.NONE.apply(SpaceModule.LOCAL_SCAN));
+        assertTrue(ScanPruning.select(new HashMap<String, String>()).isEmpty());
+    }
+
+    @Test
+    void testJarPruning() throws Exception {
+        final ClassSpace space = space(
+                jar("api-1.0.jar", null, null, "a/Api.class"),
+                jar("impl-1.0.jar", null, null, "b/Impl.class"),
+                jar("tools-1.0.jar", null, null, "c/Tool.class"));
+
+        assertEquals("[a/Api.class, b/Impl.class, c/Tool.class]", scan(ScanPruning.NONE, space));
+        assertEquals("[a/Api.class, b/Impl.class]", scan(ScanPruning.NONE.excludeJars("tools-*"), space));
+        assertEquals("[b/Impl.class]", scan(ScanPruning.NONE.includeJars("impl-*.jar"), space));
+        assertEquals("[]", scan(ScanPruning.NONE.includeJars("*-1.0.jar").excludeJars("*"), space));
+    }
+
+    @Test
+    void testPackagePruning() throws Exception {
+        final ClassSpace space = space(jar("mixed.jar", null, null, "a/A.class", "a/b/B.class", "c/C.class"));
+
+        assertEquals("[a/A.class, a/b/B.class]", scan(ScanPruning.NONE.includePackages("a"), space));
+        assertEquals("[a/A.class, c/C.class]", scan(ScanPruning.NONE.excludePackages("a.b.*"), space));
+        assertEquals("[a/A.class]", scan(ScanPruning.NONE.includePackages("a").excludePackages("a.b"), space));
+    }
+
+    @Test
+    void testAutomaticPruning() throws Exception {
+        final ClassSpace space = space(
+                jar("none.jar", "false", null, "a/A.class"),
+                jar("indexed.jar", null, "b.Indexed # comment\n", "b/Indexed.class", "b/Other.class"),
+                jar("plain.jar", "true", null, "c/Plain.class"));
+
+        assertEquals("[a/A.class, b/Indexed.class, b/Other.class, c/Plain.class]", scan(ScanPruning.NONE, space));
+        assertEquals("[b/Indexed.class, c/Plain.class]", scan(ScanPruning.NONE.automatic(true), space));
+    }
+
+    @Test
+    void testSelectFromProperties() throws Exception {
+        final ClassSpace space = space(
+                jar("api.jar", null, null, "a/Api.class", "a/internal/Impl.class"),
+                jar("test.jar", null, null, "b/Test.class"));
+
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("org.eclipse.sisu.space.ScanPruning.excludeJars", "test.jar, other.jar");
+        properties.put("org.eclipse.sisu.space.ScanPruning.excludePackages", "a.internal");
+
+        assertEquals("[a/Api.class]", scan(ScanPruning.select(properties), space));
+    }
+
+    @Test
+    void testPruningIndexedResults() throws Exception {
+        final ClassSpace space =
+                space(jar("first.jar", null, "a.A\n", "a/A.class"), jar("second.jar", null, "b.B\n", "b/B.class"));
+
+        final ClassFinder finder = SpaceModule.GLOBAL_INDEX;
+        assertEquals("[a/A.class, b/B.class]", scan(ScanPruning.NONE.apply(finder), space));
+        assertEquals(
+                "[b/B.class]", scan(ScanPruning.NONE.excludeJars("first.jar").apply(finder), space));
+        assertEquals("[a/A.class]", scan(ScanPruning.NONE.excludePackages("b").apply(finder), space));
+    }
+
+    private static String scan(final ScanPruning pruning, final ClassSpace space) {
+        return scan(pruning.apply(SpaceModule.LOCAL_SCAN), space);
+    }
+
+    private static String scan(final ClassFinder finder, final ClassSpace space) {
+        final Set<String> names = new TreeSet<>();
+        for (final Enumeration<URL> e = finder.findClasses(space); e.hasMoreElements(); ) {
+            final String path = e.nextElement().getPath();
+            names.add(path.substring(path.indexOf("!/") + 2));
+        }
+        return names.toString();
+    }
+
+    private static ClassSpace space(final File... jars) throws Exception {
+        final URL[] path = new URL[jars.length];
+        for (int i = 0; i < jars.length; i++) {
+            path[i] = jars[i].toURI().toURL();
+        }
+        return new URLClassSpace(new URLClassLoader(path, null), path);
+    }
+
+    private File jar(final String name, final String components, final String index, final String... entries)
+            throws Exception {
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (null != components) {
+            manifest.getMainAttributes().putValue("Sisu-Components", components);
+        }
+        final File jar = new File(tempDir, name);
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar), manifest)) {
+            if (null != index) {
+                out.putNextEntry(new ZipEntry("META-INF/sisu/javax.inject.Named"));
+                out.write(index.getBytes(StandardCharsets.UTF_8));
+            }
+            for (final String entry : entries) {
+                out.putNextEntry(new ZipEntry(entry));
+                out.write(new byte[] {(byte) 0xCA, (byte) 0xFE});
+            }
+        }
+        return jar;
+    }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.space;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@BaseTests
+class ScannedJarTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testScanResultsAreSharedBetweenSpaces() throws Exception {
+        final File jar = new File(tempDir, "commons-logging.jar");
+        try (InputStream in = getClass().getResourceAsStream("commons-logging-1.1.1.jar")) {
+            Files.copy(in, jar.toPath());
+        }
+        final URL[] path = {jar.toURI().toURL()};
+
+        final String firstScan = scan(new URLClassSpace(new URLClassLoader(path, null), path));
+        final String secondScan = scan(new URLClassSpace(new URLClassLoader(path, null), path));
+
+        assertTrue(firstScan.contains("org/apache/commons/logging/LogFactory"));
+        assertEquals(firstScan, secondScan);
+
+        final String location =
+                ScannedJar.jarLocation(new URL("jar:" + path[0] + "!/org/apache/commons/logging/Log.class"));
+        assertEquals(path[0].toString(), location);
+        assertSame(ScannedJar.forJar(location), ScannedJar.forJar(location));
+
+        final ScannedJar original = ScannedJar.forJar(location);
+        assertTrue(jar.setLastModified(jar.lastModified() - 60000));
+        assertNotSame(original, ScannedJar.forJar(location));
+
+        assertNull(ScannedJar.jarLocation(getClass().getResource("ScannedJarTest.class")));
+    }
+
+    private static String scan(final ClassSpace space) {
+        final StringBuilder buf = new StringBuilder();
+        new SpaceScanner(space, true).accept(new SpaceVisitor() {
+            @Override
+            public void enterSpace(final ClassSpace _space) {
+                // no-op
+            }
+
+            @Override
+            public ClassVisitor visitClass(final URL url) {
+                return new ClassVisitor() {
+                    @Override
+                    public void enterClass(
+                            final int modifiers, final String name, final String _extends, final String[] _implements) {
+                        buf.append(modifiers)
+                                .append(' ')
+                                .append(name)
+                                .append(' ')
+                                .append(_extends);
+                        buf.append(' ').append(Arrays.toString(_implements));
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitAnnotation(final String desc) {
+                        buf.append(' ').append(desc);
+                        return null;
+                    }
+
+                    @Override
+                    public void leaveClass() {
+                        buf.append('\n');
+                    }
+                };
+            }
+
+            @Override
+            public void leaveSpace() {
+                // no-op
+            }
+        });
+        return buf.toString();
+    }
+}
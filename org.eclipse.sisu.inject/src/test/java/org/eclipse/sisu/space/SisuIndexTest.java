@@ -12,11 +12,16 @@
  */
 package org.eclipse.sisu.space;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 import org.eclipse.sisu.BaseTests;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -51,6 +56,44 @@ class SisuIndexTest {
         assertTrue(indexFile.exists());
     }
 
+    @Test
+    void testComponentCallbacks() throws IOException {
+        final SisuIndex sisuIndex = new SisuIndex(tempDir);
+
+        sisuIndex.enterSpace(new URLClassSpace(getClass().getClassLoader()));
+
+        sisuIndex.enterClass(1 /* ACC_PUBLIC */, "com/example/DefaultComponent", "java/lang/Object", null);
+        final AnnotationVisitor defaultVisitor =
+                sisuIndex.visitAnnotation("Lorg/codehaus/plexus/component/annotations/Component;");
+        defaultVisitor.enterAnnotation();
+        defaultVisitor.visitElement("role", "com.example.Role");
+        defaultVisitor.leaveAnnotation();
+        sisuIndex.leaveClass();
+
+        sisuIndex.enterClass(1 /* ACC_PUBLIC */, "com/example/HintedComponent", "java/lang/Object", null);
+        final AnnotationVisitor hintedVisitor =
+                sisuIndex.visitAnnotation("Lorg/codehaus/plexus/component/annotations/Component;");
+        hintedVisitor.enterAnnotation();
+        hintedVisitor.visitElement("role", "com.example.Role");
+        hintedVisitor.visitElement("hint", "some hint#1");
+        hintedVisitor.visitElement("instantiationStrategy", "per-lookup");
+        hintedVisitor.visitElement("description", "Some thing");
+        hintedVisitor.leaveAnnotation();
+        sisuIndex.leaveClass();
+
+        sisuIndex.leaveSpace();
+
+        sisuIndex.flushIndex();
+
+        final File indexFile = new File(tempDir, "META-INF/sisu/org.codehaus.plexus.component.annotations.Component");
+        assertEquals(
+                Arrays.asList(
+                        "com.example.DefaultComponent com.example.Role singleton default",
+                        "com.example.HintedComponent com.example.Role per-lookup some+hint%231 Some+thing"),
+                Files.readAllLines(indexFile.toPath(), StandardCharsets.UTF_8));
+        assertFalse(new File(tempDir, "META-INF/sisu/javax.inject.Named").exists());
+    }
+
     @Test
     void testIndexWithRealClassSpace() {
         final SisuIndex sisuIndex = new SisuIndex(tempDir);
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Named;
+import org.junit.jupiter.api.Test;
+
+class DependencyAnalyzerTest {
+    static class Component {
+        @Inject
+        @Named("name")
+        String name;
+
+        @Inject
+        Component(final Runnable task) {
+            // no-op
+        }
+    }
+
+    static class BrokenComponent {
+        @Inject
+        BrokenComponent(final String a) {
+            // no-op
+        }
+
+        @Inject
+        BrokenComponent(final Integer b) {
+            // no-op
+        }
+    }
+
+    @Test
+    void testAnalysisIsRepeatableAcrossAnalyzers() {
+        final Set<Key<?>> expected = new HashSet<>();
+        expected.add(ParameterKeys.PROPERTIES);
+        expected.add(Key.get(String.class, Names.named("name")));
+        expected.add(Key.get(Runnable.class));
+
+        for (int i = 0; i < 2; i++) {
+            final DependencyAnalyzer analyzer = new DependencyAnalyzer();
+            assertTrue(analyze(analyzer, Component.class));
+            assertEquals(expected, analyzer.requiredKeys());
+        }
+    }
+
+    @Test
+    void testBrokenTypesAreRejectedEachTime() {
+        for (int i = 0; i < 2; i++) {
+            final DependencyAnalyzer analyzer = new DependencyAnalyzer();
+            assertFalse(analyze(analyzer, BrokenComponent.class));
+            assertEquals(Collections.singleton(ParameterKeys.PROPERTIES), analyzer.requiredKeys());
+        }
+    }
+
+    private static boolean analyze(final DependencyAnalyzer analyzer, final Class<?> clazz) {
+        for (final Element e : Elements.getElements(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(clazz);
+            }
+        })) {
+            if (e instanceof Binding<?>) {
+                return ((Binding<?>) e).acceptTargetVisitor(analyzer).booleanValue();
+            }
+        }
+        throw new AssertionError("Missing binding for " + clazz);
+    }
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class EntryListSnapshotTest {
+    @SuppressWarnings("boxing")
+    @Test
+    void testSnapshotRefresh() {
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        final AtomicLong generation = new AtomicLong();
+        final List<Integer> list = new EntryListSnapshot<>(map.entrySet(), generation::get);
+
+        assertTrue(list instanceof RandomAccess);
+        assertTrue(list.isEmpty());
+
+        map.put("A", 1);
+        map.put("B", 2);
+
+        assertTrue(list.isEmpty());
+        generation.incrementAndGet();
+        assertFalse(list.isEmpty());
+
+        assertEquals(2, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(2, list.get(1));
+
+        map.put("C", 3);
+
+        assertEquals(2, list.size());
+        generation.incrementAndGet();
+        assertEquals(3, list.size());
+        assertEquals(3, list.get(2));
+
+        try {
+            list.get(3);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (final IndexOutOfBoundsException e) {
+        }
+    }
+
+    @SuppressWarnings("boxing")
+    @Test
+    void testIteratorUsesSnapshot() {
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        final AtomicLong generation = new AtomicLong();
+        final List<Integer> list = new EntryListSnapshot<>(map.entrySet(), generation::get);
+
+        map.put("A", 1);
+        map.put("B", 2);
+
+        final Iterator<Integer> i = list.iterator();
+
+        map.put("C", 3);
+        generation.incrementAndGet();
+
+        assertEquals(1, i.next());
+        assertEquals(2, i.next());
+        assertFalse(i.hasNext());
+
+        try {
+            i.remove();
+            fail("Expected UnsupportedOperationException");
+        } catch (final UnsupportedOperationException e) {
+        }
+
+        assertEquals(3, list.size());
+    }
+}
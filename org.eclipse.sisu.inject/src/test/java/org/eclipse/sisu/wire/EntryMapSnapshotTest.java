@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.sisu.BaseTests;
+import org.junit.jupiter.api.Test;
+
+@BaseTests
+class EntryMapSnapshotTest {
+    @SuppressWarnings("boxing")
+    @Test
+    void testSnapshotRefresh() {
+        final List<Entry<String, Integer>> entries = new ArrayList<>();
+        final AtomicLong generation = new AtomicLong();
+        final Map<String, Integer> map = new EntryMapSnapshot<>(entries, generation::get);
+
+        assertTrue(map.isEmpty());
+
+        entries.add(new SimpleImmutableEntry<>("A", 1));
+        entries.add(new SimpleImmutableEntry<>("B", 2));
+        entries.add(new SimpleImmutableEntry<>("A", 3));
+
+        assertNull(map.get("A"));
+        generation.incrementAndGet();
+
+        // duplicate keys are kept for iteration, but lookups see the first entry
+        assertEquals(3, map.size());
+        assertEquals(3, map.entrySet().size());
+        assertEquals(1, map.get("A"));
+        assertEquals(2, map.get("B"));
+        assertTrue(map.containsKey("B"));
+        assertFalse(map.containsKey("C"));
+
+        entries.remove(0);
+
+        assertEquals(1, map.get("A"));
+        generation.incrementAndGet();
+        assertEquals(3, map.get("A"));
+        assertEquals(2, map.size());
+    }
+}
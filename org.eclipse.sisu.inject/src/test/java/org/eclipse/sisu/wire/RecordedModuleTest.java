@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.wire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.name.Names;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Named;
+import org.junit.jupiter.api.Test;
+
+class RecordedModuleTest {
+    static class Greeter {
+        @Inject
+        @Named("greeting")
+        String greeting;
+    }
+
+    @Test
+    void testModulesAreOnlyConfiguredOnce() {
+        final AtomicInteger configureCount = new AtomicInteger();
+        final Module recorded = new RecordedModule(new AbstractModule() {
+            @Override
+            protected void configure() {
+                configureCount.incrementAndGet();
+                bind(String.class).annotatedWith(Names.named("greeting")).toInstance("hello");
+                getProvider(Greeter.class);
+            }
+        });
+
+        final Injector injectorA = Guice.createInjector(new WireModule(recorded));
+        final Injector injectorB = Guice.createInjector(new WireModule(recorded));
+
+        assertEquals(1, configureCount.get());
+        assertEquals("hello", injectorA.getInstance(Greeter.class).greeting);
+        assertEquals("hello", injectorB.getInstance(Greeter.class).greeting);
+        assertSame(((RecordedModule) recorded).recording(), ((RecordedModule) recorded).recording());
+    }
+
+    @Test
+    void testRecordedBindingsCanBeOverridden() {
+        final Module recorded = new RecordedModule(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(String.class).annotatedWith(Names.named("greeting")).toInstance("default");
+            }
+        });
+        final Module custom = new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(String.class).annotatedWith(Names.named("greeting")).toInstance("custom");
+            }
+        };
+
+        final Key<String> key = Key.get(String.class, Names.named("greeting"));
+        assertEquals(
+                "custom", Guice.createInjector(new WireModule(custom, recorded)).getInstance(key));
+        assertEquals(
+                "default",
+                Guice.createInjector(new WireModule(recorded, custom)).getInstance(key));
+    }
+
+    @Test
+    void testReplayWithoutWiring() {
+        final Module recorded = new RecordedModule(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(String.class).annotatedWith(Names.named("greeting")).toInstance("plain");
+            }
+        });
+
+        assertEquals("plain", Guice.createInjector(recorded).getInstance(Greeter.class).greeting);
+        assertEquals("plain", Guice.createInjector(recorded).getInstance(Greeter.class).greeting);
+    }
+}
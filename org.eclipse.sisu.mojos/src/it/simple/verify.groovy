@@ -10,9 +10,11 @@
  * Contributors:
  *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
  */
-// Basic IT: index is created and contains one class FQN
+// Basic IT: index is created and contains one class FQN; components.xml is precompiled
 
 File index = new File(basedir, 'target/classes/META-INF/sisu/javax.inject.Named');
 assert index.isFile()
 assert index.text.contains('simple.Test')
 
+File precompiled = new File(basedir, 'target/classes/META-INF/plexus/components.xml.sisu');
+assert precompiled.isFile()
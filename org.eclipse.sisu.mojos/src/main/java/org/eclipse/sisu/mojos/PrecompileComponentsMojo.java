@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.mojos;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import javax.inject.Inject;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.codehaus.plexus.build.BuildContext;
+import org.eclipse.sisu.plexus.ComponentsXmlCompiler;
+
+/**
+ * Precompiles the Plexus {@code components.xml} of the current project, so containers can load its components without
+ * parsing XML. The precompiled descriptor is ignored at runtime whenever it no longer matches the XML.
+ */
+@Mojo(name = "precompile-components", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class PrecompileComponentsMojo extends AbstractMojo {
+    static final String COMPONENTS_XML = "META-INF/plexus/components.xml";
+
+    // ----------------------------------------------------------------------
+    // Configurable parameters
+    // ----------------------------------------------------------------------
+
+    /**
+     * The output directory.
+     */
+    @Parameter(property = "outputDirectory", defaultValue = "${project.build.outputDirectory}")
+    protected File outputDirectory;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    /**
+     * For m2e incremental build support
+     */
+    @Inject
+    protected BuildContext buildContext;
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        final File componentsXml = new File(outputDirectory, COMPONENTS_XML);
+        final File precompiled = new File(outputDirectory, COMPONENTS_XML + ComponentsXmlCompiler.PRECOMPILED_SUFFIX);
+        try {
+            if (!componentsXml.isFile()) {
+                getLog().debug("No components.xml found in " + outputDirectory);
+                Files.deleteIfExists(precompiled.toPath()); // avoid leaving stale results behind
+                return;
+            }
+
+            final ComponentsXmlCompiler.Result result =
+                    ComponentsXmlCompiler.compile(Files.readAllBytes(componentsXml.toPath()));
+            if (null != result.getProblem()) {
+                getLog().warn("Problem parsing " + componentsXml + ": " + result.getProblem());
+            }
+
+            final byte[] data = result.getData();
+            if (!precompiled.isFile() || !Arrays.equals(data, Files.readAllBytes(precompiled.toPath()))) {
+                Files.write(precompiled.toPath(), data);
+                buildContext.refresh(precompiled);
+            }
+            getLog().info("Precompiled " + result.getCount() + " components from " + componentsXml);
+        } catch (final IOException e) {
+            throw new MojoExecutionException("Problem precompiling " + componentsXml, e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.sisu.space.ClassSpace;
+import org.eclipse.sisu.space.URLClassSpace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the class path work shared by all scanning modes over synthetic class paths: glob matching of entries,
+ * expanding manifest Class-Path chains, and parsing Plexus XML descriptors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ClassPathBenchmark {
+    @Param({"10", "50"})
+    int jars;
+
+    @Param({"200"})
+    int classes;
+
+    @Param({"0.1"})
+    double componentRatio;
+
+    private File dir;
+
+    private URLClassLoader loader;
+
+    private URL[] path;
+
+    private ClassSpace space;
+
+    private Map<String, String> variables;
+
+    @Setup
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("sisu-classpath").toFile();
+        path = SyntheticClassPath.generate(dir, jars, classes, componentRatio, true);
+        loader = new URLClassLoader(path, ClassPathBenchmark.class.getClassLoader());
+        space = new URLClassSpace(loader, path);
+        variables = new HashMap<>(Collections.singletonMap("name", "synthetic"));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        loader.close();
+        SyntheticClassPath.delete(dir);
+    }
+
+    /**
+     * Cost of matching every class entry, recursing from the root of each jar.
+     */
+    @Benchmark
+    public int findAllClasses() {
+        return count(space.findEntries(null, "*.class", true));
+    }
+
+    /**
+     * Cost of matching a wildcard glob against every class entry, recursing from the root of each jar.
+     */
+    @Benchmark
+    public int findGlobbedClasses() {
+        return count(space.findEntries(null, "Type1*.class", true));
+    }
+
+    /**
+     * Cost of finding a resource with a fixed name in a fixed directory of each jar.
+     */
+    @Benchmark
+    public int findFixedEntry() {
+        return count(space.findEntries("META-INF/plexus", "components.xml", false));
+    }
+
+    /**
+     * Cost of following the manifest Class-Path chain from the first jar to the last.
+     */
+    @Benchmark
+    public URL[] expandClassPath() {
+        return new URLClassSpace(loader, new URL[] {path[0]}).getURLs();
+    }
+
+    /**
+     * Cost of parsing and interpolating every {@code META-INF/plexus/components.xml} on the class path.
+     */
+    @Benchmark
+    public int parseComponentsXml() {
+        return new PlexusXmlScanner(variables, null, new HashMap<String, PlexusBeanMetadata>())
+                .scan(space, false)
+                .size();
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static int count(final Enumeration<URL> e) {
+        int count = 0;
+        for (; e.hasMoreElements(); e.nextElement()) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,449 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import java.io.File;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.codehaus.plexus.ContainerConfiguration;
+import org.codehaus.plexus.DefaultContainerConfiguration;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.codehaus.plexus.PlexusConstants;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.codehaus.plexus.component.configurator.BasicComponentConfigurator;
+import org.codehaus.plexus.component.configurator.expression.TypeAwareExpressionEvaluator;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link DefaultPlexusContainer} entry points that sit on Maven's critical path: lookups across many
+ * realms, list and map lookups, configuring mojo-sized components, discovering components per realm, and disposal.
+ * The container is set up like Maven's, with index scanning, realm visibility, and auto-wiring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PlexusContainerBenchmark {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final String MOJO_XML = "<configuration>" //
+            + "<basedir>${basedir}</basedir>" //
+            + "<outputDirectory>${project.build.outputDirectory}</outputDirectory>" //
+            + "<generatedSourcesDirectory>${project.build.directory}/generated-sources</generatedSourcesDirectory>"
+            + "<source>${maven.compiler.source}</source>" //
+            + "<target>${maven.compiler.target}</target>" //
+            + "<release>8</release>" //
+            + "<encoding>${project.build.sourceEncoding}</encoding>" //
+            + "<debug>true</debug>" //
+            + "<debuglevel>lines,vars,source</debuglevel>" //
+            + "<verbose>false</verbose>" //
+            + "<showWarnings>true</showWarnings>" //
+            + "<showDeprecation>true</showDeprecation>" //
+            + "<failOnWarning>false</failOnWarning>" //
+            + "<fork>false</fork>" //
+            + "<maxmem>512m</maxmem>" //
+            + "<staleMillis>10</staleMillis>" //
+            + "<skipMain>false</skipMain>" //
+            + "<proc>none</proc>" //
+            + "<compilerId>javac</compilerId>" //
+            + "<compilerArgs><arg>-Xlint:all</arg><arg>-parameters</arg>" //
+            + "<arg>-Xmaxerrs</arg><arg>500</arg></compilerArgs>" //
+            + "<compilerArguments><Xmaxwarns>1000</Xmaxwarns><Xdoclint>none</Xdoclint></compilerArguments>"
+            + "<includes><include>**/*.java</include></includes>" //
+            + "<excludes><exclude>**/package-info.java</exclude><exclude>**/module-info.java</exclude></excludes>"
+            + "<annotationProcessorPaths>" //
+            + "<path><groupId>org.eclipse.sisu</groupId><artifactId>org.eclipse.sisu.inject</artifactId>"
+            + "<version>${sisu.version}</version></path>" //
+            + "<path><groupId>org.openjdk.jmh</groupId><artifactId>jmh-generator-annprocess</artifactId>"
+            + "<version>1.37</version></path>" //
+            + "</annotationProcessorPaths>" //
+            + "<systemProperties><property><name>file.encoding</name><value>UTF-8</value></property>"
+            + "<property><name>user.language</name><value>en</value></property></systemProperties>" //
+            + "</configuration>";
+
+    // ----------------------------------------------------------------------
+    // Benchmark parameters
+    // ----------------------------------------------------------------------
+
+    @Param({"1", "20"})
+    int realms;
+
+    @Param({"100"})
+    int classes;
+
+    @Param({"0.5"})
+    double componentRatio;
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private File dir;
+
+    private URL[] jars;
+
+    private DefaultPlexusContainer container;
+
+    private ClassRealm[] childRealms;
+
+    private String[][] roles;
+
+    private String[][] hints;
+
+    private int cursor;
+
+    private final BasicComponentConfigurator configurator = new BasicComponentConfigurator();
+
+    private final MapEvaluator evaluator = new MapEvaluator();
+
+    private PlexusConfiguration mojoConfiguration;
+
+    // ----------------------------------------------------------------------
+    // Fixture methods
+    // ----------------------------------------------------------------------
+
+    @Setup
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("sisu-container").toFile();
+        jars = SyntheticClassPath.generate(dir, realms, classes, componentRatio, false, Shared.class);
+
+        roles = new String[realms][];
+        hints = new String[realms][];
+        for (int j = 0; j < realms; j++) {
+            final List<String> jarRoles = new ArrayList<>();
+            final List<String> jarHints = new ArrayList<>();
+            for (int i = 0; i < classes; i++) {
+                if (SyntheticClassPath.isPlexusComponent(i, componentRatio)) {
+                    jarRoles.add(SyntheticClassPath.className(j, i));
+                    jarHints.add(SyntheticClassPath.sharedHint(j, i));
+                }
+            }
+            roles[j] = jarRoles.toArray(new String[jarRoles.size()]);
+            hints[j] = jarHints.toArray(new String[jarHints.size()]);
+        }
+
+        container = newContainer();
+        childRealms = new ClassRealm[realms];
+        for (int j = 0; j < realms; j++) {
+            childRealms[j] = newRealm(container, "realm-" + j, jars[j]);
+        }
+
+        mojoConfiguration = new XmlPlexusConfiguration(Xpp3DomBuilder.build(new StringReader(MOJO_XML)));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        container.dispose();
+        SyntheticClassPath.delete(dir);
+    }
+
+    // ----------------------------------------------------------------------
+    // Benchmark methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Looks up a component by role name, from the next realm in turn.
+     */
+    @Benchmark
+    public Object lookupRole() throws Exception {
+        final int j = nextRealm();
+        final ClassRealm oldRealm = container.setLookupRealm(childRealms[j]);
+        try {
+            return container.lookup(roles[j][cursor % roles[j].length]);
+        } finally {
+            container.setLookupRealm(oldRealm);
+        }
+    }
+
+    /**
+     * Looks up a component by role type and hint, from the next realm in turn.
+     */
+    @Benchmark
+    public Shared lookupClassAndHint() throws Exception {
+        final int j = nextRealm();
+        final ClassRealm oldRealm = container.setLookupRealm(childRealms[j]);
+        try {
+            return container.lookup(Shared.class, hints[j][cursor % hints[j].length]);
+        } finally {
+            container.setLookupRealm(oldRealm);
+        }
+    }
+
+    /**
+     * Looks up all components of a role, from the next realm in turn.
+     */
+    @Benchmark
+    public List<Shared> lookupList() throws Exception {
+        final ClassRealm oldRealm = container.setLookupRealm(childRealms[nextRealm()]);
+        try {
+            return container.lookupList(Shared.class);
+        } finally {
+            container.setLookupRealm(oldRealm);
+        }
+    }
+
+    /**
+     * Looks up all components of a role keyed by hint, from the next realm in turn.
+     */
+    @Benchmark
+    public Map<String, Shared> lookupMap() throws Exception {
+        final ClassRealm oldRealm = container.setLookupRealm(childRealms[nextRealm()]);
+        try {
+            return container.lookupMap(Shared.class);
+        } finally {
+            container.setLookupRealm(oldRealm);
+        }
+    }
+
+    /**
+     * Configures a component with a configuration the size of a typical compiler mojo.
+     */
+    @Benchmark
+    public MojoLike configureComponent() throws Exception {
+        final MojoLike mojo = new MojoLike();
+        configurator.configureComponent(mojo, mojoConfiguration, evaluator, container.getContainerRealm());
+        return mojo;
+    }
+
+    /**
+     * Discovers the components of a new realm; realm creation and disposal are not measured.
+     */
+    @Benchmark
+    public void discoverComponents(final FreshRealm fresh) {
+        container.discoverComponents(fresh.realm);
+    }
+
+    /**
+     * Disposes a container with the usual number of realms; container creation is not measured.
+     */
+    @Benchmark
+    public void dispose(final FreshContainer fresh) {
+        fresh.container.dispose();
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private int nextRealm() {
+        return cursor++ % realms;
+    }
+
+    static DefaultPlexusContainer newContainer() throws Exception {
+        final ContainerConfiguration config = new DefaultContainerConfiguration()
+                .setClassPathScanning(PlexusConstants.SCANNING_INDEX)
+                .setComponentVisibility(PlexusConstants.REALM_VISIBILITY)
+                .setAutoWiring(true)
+                .setJSR250Lifecycle(true)
+                .setName("benchmark");
+        return new DefaultPlexusContainer(config);
+    }
+
+    static ClassRealm newRealm(final DefaultPlexusContainer container, final String id, final URL jar) {
+        final ClassRealm realm = container.createChildRealm(id);
+        realm.addURL(jar);
+        container.discoverComponents(realm);
+        return realm;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Role shared by the generated Plexus components.
+     */
+    public interface Shared {}
+
+    /**
+     * Child realm that has been created but not yet discovered.
+     */
+    @State(Scope.Thread)
+    public static class FreshRealm {
+        ClassRealm realm;
+
+        private int count;
+
+        @Setup(Level.Invocation)
+        public void setUp(final PlexusContainerBenchmark benchmark) {
+            realm = benchmark.container.createChildRealm("fresh-" + count++);
+            realm.addURL(benchmark.jars[0]);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() throws Exception {
+            realm.getWorld().disposeRealm(realm.getId());
+        }
+    }
+
+    /**
+     * Container populated with one realm per generated jar, each with a component already looked up.
+     */
+    @State(Scope.Thread)
+    public static class FreshContainer {
+        DefaultPlexusContainer container;
+
+        @Setup(Level.Invocation)
+        public void setUp(final PlexusContainerBenchmark benchmark) throws Exception {
+            container = newContainer();
+            for (int j = 0; j < benchmark.realms; j++) {
+                final ClassRealm realm = newRealm(container, "realm-" + j, benchmark.jars[j]);
+                final ClassRealm oldRealm = container.setLookupRealm(realm);
+                try {
+                    container.lookup(benchmark.roles[j][0]);
+                } finally {
+                    container.setLookupRealm(oldRealm);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates <code>${...}</code> expressions against a fixed map of project properties, like Maven does.
+     */
+    static final class MapEvaluator implements TypeAwareExpressionEvaluator {
+        private final Map<String, String> properties = new HashMap<>();
+
+        MapEvaluator() {
+            properties.put("basedir", "/work/project");
+            properties.put("project.build.directory", "/work/project/target");
+            properties.put("project.build.outputDirectory", "/work/project/target/classes");
+            properties.put("project.build.sourceEncoding", "UTF-8");
+            properties.put("maven.compiler.source", "1.8");
+            properties.put("maven.compiler.target", "1.8");
+            properties.put("sisu.version", "1.0.0");
+        }
+
+        @Override
+        public Object evaluate(final String expression) {
+            return evaluate(expression, null);
+        }
+
+        @Override
+        public Object evaluate(final String expression, final Class<?> type) {
+            if (null == expression || expression.indexOf("${") < 0) {
+                return expression;
+            }
+            final StringBuilder buf = new StringBuilder();
+            int from = 0;
+            for (int start; (start = expression.indexOf("${", from)) >= 0; ) {
+                final int end = expression.indexOf('}', start);
+                if (end < 0) {
+                    break;
+                }
+                final String value = properties.get(expression.substring(start + 2, end));
+                buf.append(expression, from, start).append(null != value ? value : expression.substring(start, end));
+                from = end + 1;
+            }
+            return buf.append(expression.substring(from)).toString();
+        }
+
+        @Override
+        public File alignToBaseDirectory(final File path) {
+            return path.isAbsolute() ? path : new File(properties.get("basedir"), path.getPath());
+        }
+    }
+
+    /**
+     * Component with the same shape of parameters as a typical compiler mojo.
+     */
+    public static class MojoLike {
+        File basedir;
+
+        File outputDirectory;
+
+        File generatedSourcesDirectory;
+
+        String source;
+
+        String target;
+
+        String release;
+
+        String encoding;
+
+        boolean debug;
+
+        String debuglevel;
+
+        boolean verbose;
+
+        boolean showWarnings;
+
+        boolean showDeprecation;
+
+        boolean failOnWarning;
+
+        boolean fork;
+
+        String maxmem;
+
+        int staleMillis;
+
+        boolean skipMain;
+
+        String proc;
+
+        String compilerId;
+
+        List<String> compilerArgs;
+
+        Map<String, String> compilerArguments;
+
+        Set<String> includes;
+
+        Set<String> excludes;
+
+        List<DependencyCoordinate> annotationProcessorPaths;
+
+        Properties systemProperties;
+    }
+
+    /**
+     * Nested configuration element.
+     */
+    public static class DependencyCoordinate {
+        String groupId;
+
+        String artifactId;
+
+        String version;
+
+        String type = "jar";
+    }
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.sisu.space.AnnotationVisitor;
+import org.eclipse.sisu.space.BeanScanning;
+import org.eclipse.sisu.space.ClassFinder;
+import org.eclipse.sisu.space.ClassSpace;
+import org.eclipse.sisu.space.ClassVisitor;
+import org.eclipse.sisu.space.SpaceModule;
+import org.eclipse.sisu.space.SpaceScanner;
+import org.eclipse.sisu.space.SpaceVisitor;
+import org.eclipse.sisu.space.URLClassSpace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link BeanScanning} modes over synthetic class paths: finding candidate classes, scanning their bytecode,
+ * and recording the resulting bindings. Run {@link ScanningReport} for a side-by-side summary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ScanningBenchmark {
+    @Param({"10", "50"})
+    int jars;
+
+    @Param({"200"})
+    int classes;
+
+    @Param({"0.1"})
+    double componentRatio;
+
+    @Param({"ON", "CACHE", "INDEX", "GLOBAL_INDEX"})
+    BeanScanning scanning;
+
+    private File dir;
+
+    private URLClassLoader loader;
+
+    private ClassSpace space;
+
+    private ClassFinder finder;
+
+    @Setup
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("sisu-scanning").toFile();
+        final URL[] path = SyntheticClassPath.generate(dir, jars, classes, componentRatio, false);
+        // GLOBAL_INDEX will also see indexes from the parent, just like it would in a real application
+        loader = new URLClassLoader(path, ScanningBenchmark.class.getClassLoader());
+        space = new URLClassSpace(loader, path);
+        switch (scanning) {
+            case INDEX:
+                finder = SpaceModule.LOCAL_INDEX;
+                break;
+            case GLOBAL_INDEX:
+                finder = SpaceModule.GLOBAL_INDEX;
+                break;
+            default:
+                finder = SpaceModule.LOCAL_SCAN;
+                break;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        loader.close();
+        SyntheticClassPath.delete(dir);
+    }
+
+    /**
+     * Cost of finding candidate classes: directory traversal for scanning, index lookup for indexing.
+     */
+    @Benchmark
+    public int findClasses() {
+        int count = 0;
+        for (final Enumeration<URL> e = finder.findClasses(space); e.hasMoreElements(); e.nextElement()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Cost of finding candidate classes and visiting their bytecode for annotations.
+     */
+    @Benchmark
+    public int scanClasses() {
+        final AnnotationCounter counter = new AnnotationCounter();
+        new SpaceScanner(space, finder, false).accept(counter);
+        return counter.count;
+    }
+
+    /**
+     * End-to-end cost of recording bindings for the class path, including the {@link BeanScanning#CACHE} replay.
+     */
+    @Benchmark
+    public List<Element> recordBindings() {
+        return Elements.getElements(new SpaceModule(space, scanning, false));
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Counts annotations seen while scanning, so the scan can't be optimized away.
+     */
+    static final class AnnotationCounter implements SpaceVisitor, ClassVisitor {
+        int count;
+
+        @Override
+        public void enterSpace(final ClassSpace _space) {
+            // no-op
+        }
+
+        @Override
+        public ClassVisitor visitClass(final URL url) {
+            return this;
+        }
+
+        @Override
+        public void leaveSpace() {
+            // no-op
+        }
+
+        @Override
+        public void enterClass(
+                final int modifiers, final String name, final String _extends, final String[] _implements) {
+            // no-op
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(final String desc) {
+            count++;
+            return null;
+        }
+
+        @Override
+        public void leaveClass() {
+            // no-op
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.eclipse.sisu.space.BeanScanning;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link ScanningBenchmark} and prints a report comparing {@link BeanScanning} modes; each row is a benchmark and
+ * class path shape, each column a mode, along with its score relative to {@link BeanScanning#ON}. Accepts the usual
+ * JMH command-line options, for example:
+ *
+ * <pre>
+ * mvn -Pbenchmark verify -pl org.eclipse.sisu.plexus -Dbenchmark.main=org.eclipse.sisu.plexus.ScanningReport \
+ *     -Dbenchmark.args="-p jars=100 -p componentRatio=0.05,0.5"
+ * </pre>
+ */
+public final class ScanningReport {
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private ScanningReport() {
+        // static utility class, not allowed to create instances
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    public static void main(final String... args) throws Exception {
+        final Map<String, Map<String, Double>> rows = new TreeMap<>();
+        final Set<String> modes = new LinkedHashSet<>();
+        String unit = "";
+
+        for (final RunResult result : new Runner(new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .include(ScanningBenchmark.class.getName())
+                        .build())
+                .run()) {
+            final BenchmarkParams params = result.getParams();
+            final String benchmark = params.getBenchmark();
+            final String row = String.format(
+                    "%-16s jars=%-4s classes=%-5s ratio=%-5s",
+                    benchmark.substring(benchmark.lastIndexOf('.') + 1),
+                    params.getParam("jars"),
+                    params.getParam("classes"),
+                    params.getParam("componentRatio"));
+            final String mode = params.getParam("scanning");
+
+            Map<String, Double> scores = rows.get(row);
+            if (null == scores) {
+                rows.put(row, scores = new TreeMap<>());
+            }
+            scores.put(mode, result.getPrimaryResult().getScore());
+            modes.add(mode);
+            unit = result.getPrimaryResult().getScoreUnit();
+        }
+
+        final StringBuilder buf = new StringBuilder(String.format("%n%-50s", "BeanScanning (" + unit + ')'));
+        for (final String mode : modes) {
+            buf.append(String.format(" %22s", mode));
+        }
+        for (final Map.Entry<String, Map<String, Double>> e : rows.entrySet()) {
+            buf.append(String.format("%n%-50s", e.getKey()));
+            final Double baseline = e.getValue().get(BeanScanning.ON.name());
+            for (final String mode : modes) {
+                final Double score = e.getValue().get(mode);
+                if (null == score) {
+                    buf.append(String.format(" %22s", "-"));
+                } else if (null == baseline || baseline.doubleValue() == 0) {
+                    buf.append(String.format(" %22.3f", score));
+                } else {
+                    buf.append(String.format(" %12.3f (%6.2fx)", score, score / baseline));
+                }
+            }
+        }
+        System.out.println(buf);
+    }
+}
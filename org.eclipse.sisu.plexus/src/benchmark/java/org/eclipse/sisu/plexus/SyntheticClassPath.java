@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates class paths of synthetic jars for benchmarking; each jar holds the given number of classes, a proportion
+ * of which are components annotated with either {@code @Named} or Plexus {@code @Component}. Jars also contain the
+ * matching {@code META-INF/sisu/javax.inject.Named} index and {@code META-INF/plexus/components.xml} descriptor.
+ * Plexus components can optionally implement a shared role, so they can also be looked up as a list or map.
+ */
+final class SyntheticClassPath {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final String NAMED_DESC = "Ljavax/inject/Named;";
+
+    private static final String COMPONENT_DESC = "Lorg/codehaus/plexus/component/annotations/Component;";
+
+    private static final int PACKAGES_PER_JAR = 4;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private SyntheticClassPath() {
+        // static utility class, not allowed to create instances
+    }
+
+    // ----------------------------------------------------------------------
+    // Utility methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Generates synthetic jars in the given directory.
+     *
+     * @param dir The output directory
+     * @param jars The number of jars
+     * @param classes The number of classes per jar
+     * @param componentRatio The proportion of classes that are components
+     * @param chained When {@code true} each jar's manifest has a Class-Path entry that refers to the next jar
+     * @return URLs of the generated jars
+     */
+    static URL[] generate(
+            final File dir, final int jars, final int classes, final double componentRatio, final boolean chained)
+            throws IOException {
+        return generate(dir, jars, classes, componentRatio, chained, null);
+    }
+
+    /**
+     * Generates synthetic jars in the given directory, where each Plexus component also implements the shared role.
+     *
+     * @param dir The output directory
+     * @param jars The number of jars
+     * @param classes The number of classes per jar
+     * @param componentRatio The proportion of classes that are components
+     * @param chained When {@code true} each jar's manifest has a Class-Path entry that refers to the next jar
+     * @param sharedRole Optional interface implemented by Plexus components; {@code null} if there's no shared role
+     * @return URLs of the generated jars
+     */
+    static URL[] generate(
+            final File dir,
+            final int jars,
+            final int classes,
+            final double componentRatio,
+            final boolean chained,
+            final Class<?> sharedRole)
+            throws IOException {
+        final URL[] urls = new URL[jars];
+        for (int j = 0; j < jars; j++) {
+            final File jar = new File(dir, jarName(j));
+            writeJar(jar, j, classes, componentRatio, chained && j + 1 < jars ? jarName(j + 1) : null, sharedRole);
+            urls[j] = jar.toURI().toURL();
+        }
+        return urls;
+    }
+
+    /**
+     * @param j The jar number
+     * @param i The class number
+     * @return Name of the generated class
+     */
+    static String className(final int j, final int i) {
+        return "synthetic.jar" + j + ".pkg" + i % PACKAGES_PER_JAR + ".Type" + i;
+    }
+
+    /**
+     * @param j The jar number
+     * @param i The class number
+     * @return Hint of the generated Plexus component under its shared role
+     */
+    static String sharedHint(final int j, final int i) {
+        return "jar" + j + ".type" + i;
+    }
+
+    /**
+     * @param i The class number
+     * @param componentRatio The proportion of classes that are components
+     * @return {@code true} if the generated class is a Plexus component; otherwise {@code false}
+     */
+    static boolean isPlexusComponent(final int i, final double componentRatio) {
+        return isComponent(i, componentRatio) && (int) (i * componentRatio) % 2 != 0;
+    }
+
+    /**
+     * Deletes the given file or directory, along with its contents.
+     *
+     * @param file The file or directory
+     */
+    static void delete(final File file) {
+        final File[] children = file.listFiles();
+        if (null != children) {
+            for (final File child : children) {
+                delete(child);
+            }
+        }
+        file.delete(); // NOSONAR
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static String jarName(final int j) {
+        return "synthetic-" + j + ".jar";
+    }
+
+    private static boolean isComponent(final int i, final double componentRatio) {
+        // spread components evenly, alternating between JSR330 and Plexus
+        return (int) ((i + 1) * componentRatio) > (int) (i * componentRatio);
+    }
+
+    private static void writeJar(
+            final File jar,
+            final int j,
+            final int classes,
+            final double componentRatio,
+            final String next,
+            final Class<?> sharedRole)
+            throws IOException {
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (null != next) {
+            manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, next);
+        }
+
+        final StringBuilder index = new StringBuilder();
+        final StringBuilder componentsXml = new StringBuilder("<component-set>\n  <components>\n");
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar), manifest)) {
+            for (int i = 0; i < classes; i++) {
+                final String clazzName = className(j, i);
+                final String internalName = clazzName.replace('.', '/');
+
+                String annotationDesc = null;
+                String[] interfaces = null;
+                if (isPlexusComponent(i, componentRatio)) {
+                    annotationDesc = COMPONENT_DESC;
+                    appendComponent(componentsXml, clazzName, null, clazzName, i);
+                    if (null != sharedRole) {
+                        interfaces = new String[] {Type.getInternalName(sharedRole)};
+                        appendComponent(componentsXml, sharedRole.getName(), sharedHint(j, i), clazzName, i);
+                    }
+                } else if (isComponent(i, componentRatio)) {
+                    annotationDesc = NAMED_DESC;
+                    index.append(clazzName).append('\n');
+                }
+
+                out.putNextEntry(new ZipEntry(internalName + ".class"));
+                out.write(classBytes(internalName, interfaces, annotationDesc));
+            }
+
+            out.putNextEntry(new ZipEntry("META-INF/sisu/javax.inject.Named"));
+            out.write(index.toString().getBytes(StandardCharsets.UTF_8));
+
+            out.putNextEntry(new ZipEntry("META-INF/plexus/components.xml"));
+            out.write(componentsXml.append("  </components>\n</component-set>\n").toString().getBytes(
+                    StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void appendComponent(
+            final StringBuilder buf, final String role, final String hint, final String implementation, final int i) {
+        buf.append("    <component>\n      <role>").append(role).append("</role>\n");
+        if (null != hint) {
+            buf.append("      <role-hint>").append(hint).append("</role-hint>\n");
+        }
+        buf.append("      <implementation>")
+                .append(implementation)
+                .append("</implementation>\n      <configuration>\n        <name>${name}</name>\n")
+                .append("        <size>")
+                .append(i)
+                .append("</size>\n      </configuration>\n    </component>\n");
+    }
+
+    private static byte[] classBytes(
+            final String internalName, final String[] interfaces, final String annotationDesc) {
+        final ClassWriter cw = new ClassWriter(0);
+        cw.visit(
+                Opcodes.V1_8,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER,
+                internalName,
+                null,
+                "java/lang/Object",
+                interfaces);
+        if (null != annotationDesc) {
+            final AnnotationVisitor av = cw.visitAnnotation(annotationDesc, true);
+            if (COMPONENT_DESC.equals(annotationDesc)) {
+                av.visit("role", Type.getObjectType(internalName));
+            }
+            av.visitEnd();
+        }
+
+        cw.visitField(Opcodes.ACC_PRIVATE, "name", "Ljava/lang/String;", null, null).visitEnd();
+        cw.visitField(Opcodes.ACC_PRIVATE, "size", "I", null, null).visitEnd();
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(1, 1);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "getSize", "()I", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, internalName, "size", "I");
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(1, 1);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.TypeLiteral;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PlexusXmlBeanConverter} turning XML configuration into a list of beans with text, file, and map
+ * properties, as happens whenever a component with XML configuration is created.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class XmlConversionBenchmark {
+    @Param({"20"})
+    int entries;
+
+    private Injector injector;
+
+    private PlexusXmlBeanConverter converter;
+
+    private TypeLiteral<?> role;
+
+    private String xml;
+
+    @Setup
+    public void setUp() {
+        injector = Guice.createInjector(new PlexusDateTypeConverter());
+        converter = new PlexusXmlBeanConverter(injector);
+        role = new TypeLiteral<List<Entry>>() {};
+
+        final StringBuilder buf = new StringBuilder("<entries>");
+        for (int i = 0; i < entries; i++) {
+            buf.append("<entry>") //
+                    .append("<name>entry").append(i).append("</name>") //
+                    .append("<count>").append(i).append("</count>") //
+                    .append("<enabled>true</enabled>") //
+                    .append("<file>target/entry").append(i).append("</file>") //
+                    .append("<options><key1>value1</key1><key2>value2</key2></options>") //
+                    .append("</entry>");
+        }
+        xml = buf.append("</entries>").toString();
+    }
+
+    /**
+     * Cost of converting the same XML again, as when configuring another instance of a component.
+     */
+    @Benchmark
+    public Object convertRepeated() {
+        return converter.convert(role, xml);
+    }
+
+    /**
+     * Cost of converting the same XML in a new converter, as when another realm's injector configures the component.
+     */
+    @Benchmark
+    public Object convertInNewConverter() {
+        return new PlexusXmlBeanConverter(injector).convert(role, xml);
+    }
+
+    public static class Entry {
+        String name;
+
+        int count;
+
+        boolean enabled;
+
+        File file;
+
+        Map<String, String> options;
+    }
+}
@@ -65,6 +65,10 @@ public interface ContainerConfiguration {
 
     boolean getStrictClassPathScanning();
 
+    ContainerConfiguration setDeferInjectors(boolean deferInjectors);
+
+    boolean getDeferInjectors();
+
     ContainerConfiguration setJSR330ComponentVisibilityFollowsPlexusVisibility(boolean on);
 
     boolean getJSR330ComponentVisibilityFollowsPlexusVisibility();
@@ -45,6 +45,8 @@ public final class DefaultContainerConfiguration implements ContainerConfigurati
 
     private boolean strictClassPathScanning;
 
+    private boolean deferInjectors;
+
     private boolean jsr330ComponentVisibilityFollowsPlexusVisibility = true;
 
     // ----------------------------------------------------------------------
@@ -180,6 +182,17 @@ public final class DefaultContainerConfiguration implements ContainerConfigurati
         return strictClassPathScanning;
     }
 
+    @Override
+    public ContainerConfiguration setDeferInjectors(final boolean deferInjectors) {
+        this.deferInjectors = deferInjectors;
+        return this;
+    }
+
+    @Override
+    public boolean getDeferInjectors() {
+        return deferInjectors;
+    }
+
     @Override
     public ContainerConfiguration setJSR330ComponentVisibilityFollowsPlexusVisibility(boolean on) {
         this.jsr330ComponentVisibilityFollowsPlexusVisibility = on;
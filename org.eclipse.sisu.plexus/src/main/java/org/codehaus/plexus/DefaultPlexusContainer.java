@@ -20,6 +20,8 @@ import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.TypeLiteral;
 import com.google.inject.name.Names;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
 import com.google.inject.util.Providers;
 import java.io.File;
 import java.net.MalformedURLException;
@@ -27,7 +29,6 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -36,9 +37,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Provider;
 import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.ClassWorldListener;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.codehaus.plexus.classworlds.realm.DuplicateRealmException;
 import org.codehaus.plexus.classworlds.realm.NoSuchRealmException;
@@ -52,6 +59,7 @@ import org.codehaus.plexus.logging.LoggerManager;
 import org.codehaus.plexus.logging.console.ConsoleLoggerManager;
 import org.eclipse.sisu.bean.BeanManager;
 import org.eclipse.sisu.bean.LifecycleManager;
+import org.eclipse.sisu.inject.BindingPublisher;
 import org.eclipse.sisu.inject.DefaultBeanLocator;
 import org.eclipse.sisu.inject.DefaultRankingFunction;
 import org.eclipse.sisu.inject.DeferredClass;
@@ -61,6 +69,7 @@ import org.eclipse.sisu.inject.MutableBeanLocator;
 import org.eclipse.sisu.inject.RankingFunction;
 import org.eclipse.sisu.plexus.ComponentDescriptorBeanModule;
 import org.eclipse.sisu.plexus.DefaultPlexusBeanLocator;
+import org.eclipse.sisu.plexus.DeferredInjectorBindings;
 import org.eclipse.sisu.plexus.Hints;
 import org.eclipse.sisu.plexus.PlexusAnnotatedBeanModule;
 import org.eclipse.sisu.plexus.PlexusBean;
@@ -81,6 +90,7 @@ import org.eclipse.sisu.wire.EntryListAdapter;
 import org.eclipse.sisu.wire.EntryMapAdapter;
 import org.eclipse.sisu.wire.MergedModule;
 import org.eclipse.sisu.wire.ParameterKeys;
+import org.eclipse.sisu.wire.RecordedModule;
 import org.eclipse.sisu.wire.WireModule;
 
 /**
@@ -114,6 +124,21 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
 
     final ThreadLocal<ClassRealm> lookupRealm = new ThreadLocal<>();
 
+    final ConcurrentMap<RoleKey, RoleClasses> roleClassCache = new ConcurrentHashMap<>();
+
+    // flush cached role classes as soon as a realm is disposed, so they can't keep its class loader alive
+    final ClassWorldListener roleClassFlusher = new ClassWorldListener() {
+        @Override
+        public void realmCreated(final ClassRealm realm) {
+            // no-op
+        }
+
+        @Override
+        public void realmDisposed(final ClassRealm realm) {
+            roleClassCache.clear();
+        }
+    };
+
     final LoggerManagerProvider loggerManagerProvider = new LoggerManagerProvider();
 
     final MutableBeanLocator qualifiedBeanLocator = new DefaultBeanLocator();
@@ -136,11 +161,16 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
 
     private final boolean strictClassPathScanning;
 
+    private final boolean deferInjectors;
+
     private final BeanScanning scanning;
 
-    private final Module containerModule = new ContainerModule();
+    // constant modules are recorded once and replayed into each new injector
+    private final Module containerModule = new RecordedModule(new ContainerModule());
+
+    private final Module defaultsModule = new RecordedModule(new DefaultsModule());
 
-    private final Module defaultsModule = new DefaultsModule();
+    private final Module rankingModule = new RankingModule();
 
     private LoggerManager loggerManager = new ConsoleLoggerManager();
 
@@ -178,10 +208,12 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
                     .setBeanEntryPredicateSupplier(realmManager::visibilityPredicate);
         }
         containerRealm.getWorld().addListener(realmManager);
+        containerRealm.getWorld().addListener(roleClassFlusher);
 
         componentVisibility = configuration.getComponentVisibility();
         isAutoWiringEnabled = configuration.getAutoWiring();
         strictClassPathScanning = configuration.getStrictClassPathScanning();
+        deferInjectors = configuration.getDeferInjectors() && !strictClassPathScanning;
 
         scanning = parseScanningOption(configuration.getClassPathScanning());
 
@@ -405,21 +437,13 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
 
     public List<ComponentDescriptor<?>> discoverComponents(final ClassRealm realm, final Module... customModules) {
         try {
-            final List<PlexusBeanModule> beanModules = new ArrayList<>();
-            synchronized (descriptorMap) {
-                final ClassSpace space = new URLClassSpace(realm);
-                final List<ComponentDescriptor<?>> descriptors = descriptorMap.remove(realm);
-                if (null != descriptors) {
-                    beanModules.add(new ComponentDescriptorBeanModule(space, descriptors));
-                }
-                if (containerRealm != realm && !realmManager.isManaged(realm)) {
-                    beanModules.add(new PlexusXmlBeanModule(space, variables));
-                    final BeanScanning local = BeanScanning.GLOBAL_INDEX == scanning ? BeanScanning.INDEX : scanning;
-                    beanModules.add(new PlexusAnnotatedBeanModule(space, variables, local, strictClassPathScanning));
-                }
-            }
+            final List<PlexusBeanModule> beanModules = realmBeanModules(realm);
             if (!beanModules.isEmpty()) {
-                realmManager.manage(realm, addPlexusInjector(beanModules, customModules));
+                if (deferInjectors) {
+                    realmManager.manage(realm, deferPlexusInjector(realm, beanModules, customModules));
+                } else {
+                    realmManager.manage(realm, addPlexusInjector(beanModules, customModules));
+                }
             }
         } catch (final RuntimeException e) {
             if (strictClassPathScanning) {
@@ -432,16 +456,156 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
         return null; // no-one actually seems to use or check the returned component list!
     }
 
+    /**
+     * Discovers components in a batch of independent realms; scanning and injector creation for each realm happens
+     * on the given {@link Executor}, but ranks are assigned and injectors published in the order the realms are given.
+     * Injectors containing eager components are still created on the calling thread, just before they're published.
+     *
+     * @param realms The realms to discover
+     * @param executor The executor
+     */
+    public void discoverComponents(final Collection<ClassRealm> realms, final Executor executor) {
+        final int baseRank = plexusRank.getAndAdd(realms.size());
+        final List<ClassRealm> batch = new ArrayList<>(realms);
+        final List<FutureTask<Object>> tasks = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            final ClassRealm realm = batch.get(i);
+            final Module ranking = new RankingModule(baseRank + i + 1);
+            final FutureTask<Object> task = new FutureTask<>(() -> recordPlexusInjector(realm, ranking));
+            executor.execute(task);
+            tasks.add(task);
+        }
+        // wait for the whole batch, so realms that succeeded are still published when another realm fails
+        Throwable failure = null;
+        for (int i = 0; i < batch.size(); i++) {
+            final ClassRealm realm = batch.get(i);
+            try {
+                publishRecording(realm, awaitTask(tasks.get(i)));
+            } catch (final RuntimeException e) {
+                if (strictClassPathScanning) {
+                    failure = null != failure ? failure : e;
+                } else {
+                    getLogger().warn(realm.toString(), e);
+                }
+            } catch (final Throwable e) // NOSONAR
+            {
+                failure = null != failure ? failure : e;
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (null != failure) {
+            throw new IllegalStateException(failure);
+        }
+    }
+
     public Injector addPlexusInjector(
             final List<? extends PlexusBeanModule> beanModules, final Module... customModules) {
+        return Guice.createInjector(plexusModule(beanModules, customModules, rankingModule));
+    }
+
+    /**
+     * Records the Plexus bindings for the given realm, but defers creating its injector until a lookup needs them.
+     * Falls back to creating the injector straight away when the bindings include eager components or side-effects.
+     */
+    private BindingPublisher deferPlexusInjector(
+            final ClassRealm realm, final List<? extends PlexusBeanModule> beanModules, final Module... customModules) {
+        final List<Element> elements = Elements.getElements(plexusModule(beanModules, customModules, rankingModule));
+        final DeferredInjectorBindings deferred = DeferredInjectorBindings.defer(realm, elements);
+        if (null != deferred) {
+            qualifiedBeanLocator.add(deferred);
+            return deferred;
+        }
+        return new InjectorBindings(Guice.createInjector(Elements.getModule(elements)), null /* unused */);
+    }
+
+    private Module plexusModule(
+            final List<? extends PlexusBeanModule> beanModules, final Module[] customModules, final Module ranking) {
         final List<Module> modules = new ArrayList<>();
 
         modules.add(containerModule);
         Collections.addAll(modules, customModules);
         modules.add(new PlexusBindingModule(plexusBeanManager, beanModules));
+        modules.add(ranking);
         modules.add(defaultsModule);
 
-        return Guice.createInjector(isAutoWiringEnabled ? new WireModule(modules) : new MergedModule(modules));
+        return isAutoWiringEnabled ? new WireModule(modules) : new MergedModule(modules);
+    }
+
+    private List<PlexusBeanModule> realmBeanModules(final ClassRealm realm) {
+        final List<PlexusBeanModule> beanModules = new ArrayList<>();
+        final ClassSpace space = new URLClassSpace(realm);
+        final List<ComponentDescriptor<?>> descriptors;
+        synchronized (descriptorMap) {
+            descriptors = descriptorMap.remove(realm);
+        }
+        if (null != descriptors) {
+            beanModules.add(new ComponentDescriptorBeanModule(space, descriptors));
+        }
+        if (containerRealm != realm && !realmManager.isManaged(realm)) {
+            beanModules.add(new PlexusXmlBeanModule(space, variables));
+            final BeanScanning local = BeanScanning.GLOBAL_INDEX == scanning ? BeanScanning.INDEX : scanning;
+            beanModules.add(new PlexusAnnotatedBeanModule(space, variables, local, strictClassPathScanning));
+        }
+        return beanModules;
+    }
+
+    /**
+     * Scans the given realm and records its Plexus bindings; creates the injector unless it's being deferred or has
+     * eager components. Returns {@code null} if there's nothing to bind, a {@link DeferredInjectorBindings} ready to
+     * be published, or the recorded elements when the injector must be created on the calling thread.
+     */
+    private Object recordPlexusInjector(final ClassRealm realm, final Module ranking) {
+        final List<PlexusBeanModule> beanModules = realmBeanModules(realm);
+        if (beanModules.isEmpty()) {
+            return null;
+        }
+        final List<Element> elements = Elements.getElements(plexusModule(beanModules, NO_CUSTOM_MODULES, ranking));
+        final DeferredInjectorBindings deferred = DeferredInjectorBindings.defer(realm, elements);
+        if (null == deferred) {
+            return elements;
+        }
+        if (!deferInjectors) {
+            deferred.create();
+        }
+        return deferred;
+    }
+
+    /**
+     * Publishes the result of {@link #recordPlexusInjector} for the given realm.
+     */
+    @SuppressWarnings("unchecked")
+    private void publishRecording(final ClassRealm realm, final Object result) {
+        if (result instanceof DeferredInjectorBindings) {
+            qualifiedBeanLocator.add((BindingPublisher) result);
+            realmManager.manage(realm, (BindingPublisher) result);
+        } else if (null != result) {
+            // eager components may need to look up other components while they're being created
+            final Injector injector = Guice.createInjector(Elements.getModule((List<Element>) result));
+            realmManager.manage(realm, injector);
+        }
+    }
+
+    private static Object awaitTask(final FutureTask<Object> task) {
+        try {
+            return task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
     }
 
     // ----------------------------------------------------------------------
@@ -545,6 +709,7 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
         lookupRealm.remove();
 
         containerRealm.getWorld().removeListener(realmManager);
+        containerRealm.getWorld().removeListener(roleClassFlusher);
     }
 
     // ----------------------------------------------------------------------
@@ -648,23 +813,41 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
         if (null == role || null != type && type.getName().equals(role)) {
             return plexusBeanLocator.locate(TypeLiteral.get(type), canonicalHints);
         }
-        final Set<Class> candidates = new HashSet<>();
-        for (final ClassRealm realm : getVisibleRealms()) {
-            try {
-                final Class clazz = realm.loadClass(role);
-                if (candidates.add(clazz)) {
-                    final Iterable beans = plexusBeanLocator.locate(TypeLiteral.get(clazz), canonicalHints);
-                    if (hasPlexusBeans(beans)) {
-                        return beans;
-                    }
-                }
-            } catch (final LinkageError | Exception e) {
-                // drop through...
+        for (final Class clazz : roleClasses(role)) {
+            final Iterable beans = plexusBeanLocator.locate(TypeLiteral.get(clazz), canonicalHints);
+            if (hasPlexusBeans(beans)) {
+                return beans;
             }
         }
         return Collections.EMPTY_SET;
     }
 
+    /**
+     * Returns the distinct classes named by the role in the currently visible realms, in search order. Results (and
+     * misses) are cached per lookup and context realm until the realm generation changes.
+     */
+    private Class<?>[] roleClasses(final String role) {
+        final long generation = realmManager.realmGeneration();
+        final RoleKey key = new RoleKey(role, getLookupRealm(), RealmManager.contextRealm());
+        RoleClasses roleClasses = roleClassCache.get(key);
+        if (null == roleClasses || roleClasses.generation != generation) {
+            if (null != roleClasses) {
+                roleClassCache.clear(); // realms have changed, flush all stale results
+            }
+            final Set<Class<?>> candidates = new LinkedHashSet<>();
+            for (final ClassRealm realm : getVisibleRealms()) {
+                try {
+                    candidates.add(realm.loadClass(role));
+                } catch (final LinkageError | Exception e) {
+                    // drop through...
+                }
+            }
+            roleClasses = new RoleClasses(generation, candidates.toArray(new Class<?>[candidates.size()]));
+            roleClassCache.put(key, roleClasses);
+        }
+        return roleClasses.classes;
+    }
+
     private Collection<ClassRealm> getVisibleRealms() {
         final Object[] realms = getClassWorld().getRealms().toArray();
         final Set<ClassRealm> visibleRealms = new LinkedHashSet<>(realms.length);
@@ -752,17 +935,36 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
             binder.bind(LoggerManager.class).toProvider(loggerManagerProvider);
             binder.bind(Logger.class).toProvider(loggerProvider);
 
-            // allow plugins to override the default ranking function so we can support component profiles
-            final Key<RankingFunction> plexusRankingKey = Key.get(RankingFunction.class, Names.named("plexus"));
-            binder.bind(plexusRankingKey).toInstance(new DefaultRankingFunction(plexusRank.incrementAndGet()));
-            binder.bind(RankingFunction.class).to(plexusRankingKey);
-
             binder.install(dateConverter);
 
             binder.bind(PlexusBeanConverter.class).to(PlexusXmlBeanConverter.class);
         }
     }
 
+    final class RankingModule implements Module {
+        private final int rank;
+
+        RankingModule() {
+            this(0);
+        }
+
+        /**
+         * @param rank Fixed rank for the injector; zero means use the next available rank
+         */
+        RankingModule(final int rank) {
+            this.rank = rank;
+        }
+
+        @Override
+        public void configure(final Binder binder) {
+            // allow plugins to override the default ranking function so we can support component profiles
+            final Key<RankingFunction> plexusRankingKey = Key.get(RankingFunction.class, Names.named("plexus"));
+            final int plexusRankValue = 0 != rank ? rank : plexusRank.incrementAndGet();
+            binder.bind(plexusRankingKey).toInstance(new DefaultRankingFunction(plexusRankValue));
+            binder.bind(RankingFunction.class).to(plexusRankingKey);
+        }
+    }
+
     final class LoggerManagerProvider implements DeferredProvider<LoggerManager> {
         @Override
         public LoggerManager get() {
@@ -797,4 +999,53 @@ public final class DefaultPlexusContainer implements MutablePlexusContainer {
                     .getValue();
         }
     }
+
+    /**
+     * Identifies a role lookup by name, lookup realm, and context realm.
+     */
+    static final class RoleKey {
+        private final String role;
+
+        private final ClassRealm lookupRealm;
+
+        private final ClassRealm contextRealm;
+
+        RoleKey(final String role, final ClassRealm lookupRealm, final ClassRealm contextRealm) {
+            this.role = role;
+            this.lookupRealm = lookupRealm;
+            this.contextRealm = contextRealm;
+        }
+
+        @Override
+        public int hashCode() {
+            return (role.hashCode() * 31 + System.identityHashCode(lookupRealm)) * 31
+                    + System.identityHashCode(contextRealm);
+        }
+
+        @Override
+        public boolean equals(final Object rhs) {
+            if (this == rhs) {
+                return true;
+            }
+            if (rhs instanceof RoleKey) {
+                final RoleKey key = (RoleKey) rhs;
+                return role.equals(key.role) && lookupRealm == key.lookupRealm && contextRealm == key.contextRealm;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Classes found for a role in a particular realm generation; may be empty.
+     */
+    static final class RoleClasses {
+        final long generation;
+
+        final Class<?>[] classes;
+
+        RoleClasses(final long generation, final Class<?>[] classes) {
+            this.generation = generation;
+            this.classes = classes;
+        }
+    }
 }
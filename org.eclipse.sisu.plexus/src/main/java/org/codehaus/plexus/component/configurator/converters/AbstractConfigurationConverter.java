@@ -17,6 +17,8 @@ import org.codehaus.plexus.component.configurator.ComponentConfigurationExceptio
 import org.codehaus.plexus.component.configurator.converters.lookup.ConverterLookup;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.codehaus.plexus.component.configurator.expression.ExpressionTemplate;
+import org.codehaus.plexus.component.configurator.expression.TemplateExpressionEvaluator;
 import org.codehaus.plexus.component.configurator.expression.TypeAwareExpressionEvaluator;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
 import org.eclipse.sisu.plexus.Roles;
@@ -70,20 +72,12 @@ public abstract class AbstractConfigurationConverter implements ConfigurationCon
         try {
             Object result = null;
             if (null != value && !value.isEmpty()) {
-                if (evaluator instanceof TypeAwareExpressionEvaluator && type != null) {
-                    result = ((TypeAwareExpressionEvaluator) evaluator).evaluate(value, type);
-                } else {
-                    result = evaluator.evaluate(value);
-                }
+                result = evaluateExpression(evaluator, value, type);
             }
             if (null == result && configuration.getChildCount() == 0) {
                 value = configuration.getAttribute("default-value");
                 if (null != value && !value.isEmpty()) {
-                    if (evaluator instanceof TypeAwareExpressionEvaluator && type != null) {
-                        result = ((TypeAwareExpressionEvaluator) evaluator).evaluate(value, type);
-                    } else {
-                        result = evaluator.evaluate(value);
-                    }
+                    result = evaluateExpression(evaluator, value, type);
                 }
             }
             if (enforceTypeCompatibility && type != null) {
@@ -102,6 +96,47 @@ public abstract class AbstractConfigurationConverter implements ConfigurationCon
     // Shared methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Evaluates a configuration value; uses pre-parsed templates with evaluators that support them. Type-aware
+     * evaluators are only given the expected type when it's known.
+     *
+     * @param evaluator The expression evaluator
+     * @param value The configuration value
+     * @param type The expected type, may be {@code null}
+     * @return Evaluated value
+     */
+    protected final Object evaluateExpression(
+            final ExpressionEvaluator evaluator, final String value, final Class<?> type)
+            throws ExpressionEvaluationException {
+        return evaluateExpression(evaluator, value, type, false);
+    }
+
+    /**
+     * Evaluates a configuration value; uses pre-parsed templates with evaluators that support them.
+     *
+     * @param evaluator The expression evaluator
+     * @param value The configuration value
+     * @param type The expected type, may be {@code null}
+     * @param alwaysTyped When {@code true} type-aware evaluators are given the expected type even when it's
+     *            {@code null}
+     * @return Evaluated value
+     */
+    protected final Object evaluateExpression(
+            final ExpressionEvaluator evaluator, final String value, final Class<?> type, final boolean alwaysTyped)
+            throws ExpressionEvaluationException {
+        if (evaluator instanceof TemplateExpressionEvaluator) {
+            final ExpressionTemplate template = ExpressionTemplate.parse(value);
+            if (template.isLiteral()) {
+                return value; // nothing to evaluate
+            }
+            return ((TemplateExpressionEvaluator) evaluator).evaluate(template, type);
+        }
+        if (evaluator instanceof TypeAwareExpressionEvaluator && (alwaysTyped || type != null)) {
+            return ((TypeAwareExpressionEvaluator) evaluator).evaluate(value, type);
+        }
+        return evaluator.evaluate(value);
+    }
+
     protected final String fromXML(final String name) {
         return Roles.camelizeName(name);
     }
@@ -18,7 +18,6 @@ import org.codehaus.plexus.component.configurator.converters.AbstractConfigurati
 import org.codehaus.plexus.component.configurator.converters.lookup.ConverterLookup;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
-import org.codehaus.plexus.component.configurator.expression.TypeAwareExpressionEvaluator;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
 
 public abstract class AbstractBasicConverter extends AbstractConfigurationConverter {
@@ -76,20 +75,12 @@ public abstract class AbstractBasicConverter extends AbstractConfigurationConver
         try {
             Object result = null;
             if (null != value && value.length() > 0) {
-                if (evaluator instanceof TypeAwareExpressionEvaluator) {
-                    result = ((TypeAwareExpressionEvaluator) evaluator).evaluate(value, type);
-                } else {
-                    result = evaluator.evaluate(value);
-                }
+                result = evaluateExpression(evaluator, value, type, true);
             }
             if (null == result) {
                 value = configuration.getAttribute("default-value");
                 if (null != value && value.length() > 0) {
-                    if (evaluator instanceof TypeAwareExpressionEvaluator) {
-                        result = ((TypeAwareExpressionEvaluator) evaluator).evaluate(value, type);
-                    } else {
-                        result = evaluator.evaluate(value);
-                    }
+                    result = evaluateExpression(evaluator, value, type, true);
                 }
             }
             return result;
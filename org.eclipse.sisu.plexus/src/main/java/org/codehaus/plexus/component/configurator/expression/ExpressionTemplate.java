@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.codehaus.plexus.component.configurator.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.sisu.inject.Soft;
+
+/**
+ * Configuration value split into literal text and {@code ${...}} placeholder segments. Templates are cached by their
+ * text, so the same value is only scanned once no matter how many components it configures.
+ */
+public final class ExpressionTemplate {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final Map<String, ExpressionTemplate> TEMPLATE_CACHE = Soft.concurrentValues();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final String text;
+
+    private final String[] segments;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private ExpressionTemplate(final String text, final String[] segments) {
+        this.text = text;
+        this.segments = segments;
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the parsed template for the given text; reuses an earlier result where possible.
+     *
+     * @param text The raw configuration value
+     * @return Parsed template
+     */
+    public static ExpressionTemplate parse(final String text) {
+        ExpressionTemplate template = TEMPLATE_CACHE.get(text);
+        if (null == template) {
+            template = new ExpressionTemplate(text, split(text));
+            TEMPLATE_CACHE.put(text, template);
+        }
+        return template;
+    }
+
+    /**
+     * Literal templates don't mention <code>${</code> anywhere, so any evaluator will return their text unchanged.
+     *
+     * @return {@code true} if the template is plain text; otherwise {@code false}
+     */
+    public boolean isLiteral() {
+        return segments.length == 1 && text.indexOf("${") < 0;
+    }
+
+    /**
+     * @return {@code true} if the entire template is a single placeholder; otherwise {@code false}
+     */
+    public boolean isSinglePlaceholder() {
+        return segments.length == 3 && segments[0].isEmpty() && segments[2].isEmpty();
+    }
+
+    /**
+     * @return Number of segments, always odd
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Segments alternate between literal text and placeholder expressions, starting and ending with literal text
+     * (which may be empty). Any escape conventions are left to the evaluator, so literal text may still contain
+     * partial or escaped expressions.
+     *
+     * @param index The segment index
+     * @return {@code true} if the segment is a placeholder expression; otherwise {@code false}
+     */
+    public boolean isPlaceholder(final int index) {
+        return (index & 1) == 1;
+    }
+
+    /**
+     * @param index The segment index
+     * @return Literal text, or the placeholder expression without its surrounding <code>${</code> and <code>}</code>
+     */
+    public String getSegment(final int index) {
+        return segments[index];
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static String[] split(final String text) {
+        final List<String> segments = new ArrayList<>();
+        int from = 0;
+        for (int start = text.indexOf("${"); start >= 0; start = text.indexOf("${", from)) {
+            final int end = text.indexOf('}', start + 2);
+            if (end < 0) {
+                break;
+            }
+            segments.add(text.substring(from, start));
+            segments.add(text.substring(start + 2, end));
+            from = end + 1;
+        }
+        segments.add(text.substring(from));
+        return segments.toArray(new String[segments.size()]);
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.codehaus.plexus.component.configurator.expression;
+
+/**
+ * {@link TypeAwareExpressionEvaluator} that can evaluate pre-parsed {@link ExpressionTemplate}s. Literal templates
+ * must evaluate to their own text, so callers can skip evaluating them altogether.
+ */
+public interface TemplateExpressionEvaluator extends TypeAwareExpressionEvaluator {
+    /**
+     * @param template The parsed template, never literal
+     * @param type The expected type, may be {@code null}
+     * @return Evaluated value
+     */
+    Object evaluate(ExpressionTemplate template, Class<?> type) throws ExpressionEvaluationException;
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.codehaus.plexus.configuration;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.sisu.inject.Soft;
+
+/**
+ * Read-only {@link PlexusConfiguration} backed by arrays. Names are interned and nodes with the same attribute names
+ * share one attribute name table. Use {@link DefaultPlexusConfiguration} when the configuration needs to change.
+ */
+public final class CompactPlexusConfiguration implements PlexusConfiguration {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final String[] NO_STRINGS = {};
+
+    private static final PlexusConfiguration[] NO_CHILDREN = {};
+
+    private static final ConcurrentMap<List<String>, String[]> ATTRIBUTE_TABLES = Soft.concurrentValues();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final String name;
+
+    private final String value;
+
+    private final String[] attributeNames;
+
+    private final String[] attributeValues;
+
+    private final PlexusConfiguration[] children;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private CompactPlexusConfiguration(
+            final String name,
+            final String value,
+            final String[] attributeNames,
+            final String[] attributeValues,
+            final PlexusConfiguration[] children) {
+        this.name = name;
+        this.value = value;
+        this.attributeNames = attributeNames;
+        this.attributeValues = attributeValues;
+        this.children = children;
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns a compact read-only copy of the given configuration; returns the same instance if it's already compact.
+     *
+     * @param configuration The configuration to copy
+     * @return Compact configuration
+     */
+    public static PlexusConfiguration copyOf(final PlexusConfiguration configuration) {
+        if (configuration instanceof CompactPlexusConfiguration) {
+            return configuration;
+        }
+
+        String[] names = configuration.getAttributeNames();
+        String[] values = NO_STRINGS;
+        if (names.length > 0) {
+            values = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                values[i] = configuration.getAttribute(names[i]);
+            }
+            names = attributeTable(names);
+        }
+
+        final int childCount = configuration.getChildCount();
+        PlexusConfiguration[] children = NO_CHILDREN;
+        if (childCount > 0) {
+            children = new PlexusConfiguration[childCount];
+            for (int i = 0; i < childCount; i++) {
+                children[i] = copyOf(configuration.getChild(i));
+            }
+        }
+
+        return new CompactPlexusConfiguration(
+                intern(configuration.getName()), configuration.getValue(), names, values, children);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String getValue(final String defaultValue) {
+        return null != value ? value : defaultValue;
+    }
+
+    @Override
+    public void setValue(final String newValue) {
+        throw new UnsupportedOperationException("Read-only configuration");
+    }
+
+    @Override
+    public String[] getAttributeNames() {
+        return attributeNames.clone();
+    }
+
+    @Override
+    public String getAttribute(final String attributeName) {
+        for (int i = 0; i < attributeNames.length; i++) {
+            if (attributeNames[i].equals(attributeName)) {
+                return attributeValues[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getAttribute(final String attributeName, final String defaultValue) {
+        final String attributeValue = getAttribute(attributeName);
+        return null != attributeValue ? attributeValue : defaultValue;
+    }
+
+    @Override
+    public void setAttribute(final String attributeName, final String attributeValue) {
+        throw new UnsupportedOperationException("Read-only configuration");
+    }
+
+    @Override
+    public PlexusConfiguration getChild(final String childName) {
+        return getChild(childName, true);
+    }
+
+    /**
+     * Missing children are never added to this configuration; when asked to create one this returns an empty detached
+     * child instead.
+     */
+    @Override
+    public PlexusConfiguration getChild(final String childName, final boolean create) {
+        for (final PlexusConfiguration child : children) {
+            if (child.getName().equals(childName)) {
+                return child;
+            }
+        }
+        if (create) {
+            return new CompactPlexusConfiguration(intern(childName), null, NO_STRINGS, NO_STRINGS, NO_CHILDREN);
+        }
+        return null;
+    }
+
+    @Override
+    public PlexusConfiguration[] getChildren() {
+        return children.clone();
+    }
+
+    @Override
+    public PlexusConfiguration[] getChildren(final String childName) {
+        int count = 0;
+        for (final PlexusConfiguration child : children) {
+            if (child.getName().equals(childName)) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return NO_CHILDREN;
+        }
+        final PlexusConfiguration[] namedChildren = new PlexusConfiguration[count];
+        for (int i = 0, j = 0; j < count; i++) {
+            if (children[i].getName().equals(childName)) {
+                namedChildren[j++] = children[i];
+            }
+        }
+        return namedChildren;
+    }
+
+    @Override
+    public int getChildCount() {
+        return children.length;
+    }
+
+    @Override
+    public PlexusConfiguration getChild(final int index) {
+        return children[index];
+    }
+
+    @Override
+    public void addChild(final PlexusConfiguration child) {
+        throw new UnsupportedOperationException("Read-only configuration");
+    }
+
+    @Override
+    public PlexusConfiguration addChild(final String childName, final String childValue) {
+        throw new UnsupportedOperationException("Read-only configuration");
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder().append('<').append(name);
+        for (int i = 0; i < attributeNames.length; i++) {
+            buf.append(' ')
+                    .append(attributeNames[i])
+                    .append("=\"")
+                    .append(attributeValues[i])
+                    .append('"');
+        }
+        if (children.length > 0) {
+            buf.append('>');
+            for (final PlexusConfiguration child : children) {
+                buf.append(child);
+            }
+            buf.append("</").append(name).append('>');
+        } else if (null != value) {
+            buf.append('>').append(value).append("</").append(name).append('>');
+        } else {
+            buf.append("/>");
+        }
+        return buf.append('\n').toString();
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private static String intern(final String name) {
+        return null != name ? name.intern() : null;
+    }
+
+    /**
+     * @return Shared table of interned attribute names, in the given order
+     */
+    private static String[] attributeTable(final String[] names) {
+        final List<String> key = Arrays.asList(names);
+        String[] table = ATTRIBUTE_TABLES.get(key);
+        if (null == table) {
+            table = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                table[i] = intern(names[i]);
+            }
+            final String[] oldTable = ATTRIBUTE_TABLES.putIfAbsent(Arrays.asList(table), table);
+            if (null != oldTable) {
+                table = oldTable;
+            }
+        }
+        return table;
+    }
+}
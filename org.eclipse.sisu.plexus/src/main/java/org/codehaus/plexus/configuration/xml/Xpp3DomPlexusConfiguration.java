@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.codehaus.plexus.configuration.xml;
+
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+/**
+ * Read-only {@link PlexusConfiguration} view of an {@link Xpp3Dom} tree. Unlike {@link XmlPlexusConfiguration} the DOM
+ * isn't copied; child views are only created when first requested, after which later changes to the DOM's children
+ * are not seen.
+ */
+public final class Xpp3DomPlexusConfiguration implements PlexusConfiguration {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final PlexusConfiguration[] NO_CHILDREN = {};
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final Xpp3Dom dom;
+
+    private volatile PlexusConfiguration[] children; // NOSONAR
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    public Xpp3DomPlexusConfiguration(final Xpp3Dom dom) {
+        this.dom = dom;
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    @Override
+    public String getName() {
+        return dom.getName();
+    }
+
+    @Override
+    public String getValue() {
+        return dom.getValue();
+    }
+
+    @Override
+    public String getValue(final String defaultValue) {
+        final String value = dom.getValue();
+        return null != value ? value : defaultValue;
+    }
+
+    @Override
+    public void setValue(final String value) {
+        throw new UnsupportedOperationException("Read-only configuration");
+    }
+
+    @Override
+    public String[] getAttributeNames() {
+        return dom.getAttributeNames();
+    }
+
+    @Override
+    public String getAttribute(final String attributeName) {
+        return dom.getAttribute(attributeName);
+    }
+
+    @Override
+    public String getAttribute(final String attributeName, final String defaultValue) {
+        final String attributeValue = dom.getAttribute(attributeName);
+        return null != attributeValue ? attributeValue : defaultValue;
+    }
+
+    @Override
+    public void setAttribute(final String attributeName, final String attributeValue) {
+        throw new UnsupportedOperationException("Read-only configuration");
+    }
+
+    @Override
+    public PlexusConfiguration getChild(final String childName) {
+        return getChild(childName, true);
+    }
+
+    /**
+     * Missing children are never added to the underlying DOM; when asked to create one this returns an empty detached
+     * child instead.
+     */
+    @Override
+    public PlexusConfiguration getChild(final String childName, final boolean create) {
+        for (final PlexusConfiguration child : children()) {
+            if (child.getName().equals(childName)) {
+                return child;
+            }
+        }
+        return create ? new Xpp3DomPlexusConfiguration(new Xpp3Dom(childName)) : null;
+    }
+
+    @Override
+    public PlexusConfiguration[] getChildren() {
+        return children().clone();
+    }
+
+    @Override
+    public PlexusConfiguration[] getChildren(final String childName) {
+        final PlexusConfiguration[] allChildren = children();
+        int count = 0;
+        for (final PlexusConfiguration child : allChildren) {
+            if (child.getName().equals(childName)) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return NO_CHILDREN;
+        }
+        final PlexusConfiguration[] namedChildren = new PlexusConfiguration[count];
+        for (int i = 0, j = 0; j < count; i++) {
+            if (allChildren[i].getName().equals(childName)) {
+                namedChildren[j++] = allChildren[i];
+            }
+        }
+        return namedChildren;
+    }
+
+    @Override
+    public int getChildCount() {
+        return children().length; // consistent with getChild(int), even if the DOM has changed since
+    }
+
+    @Override
+    public PlexusConfiguration getChild(final int index) {
+        return children()[index];
+    }
+
+    @Override
+    public void addChild(final PlexusConfiguration child) {
+        throw new UnsupportedOperationException("Read-only configuration");
+    }
+
+    @Override
+    public PlexusConfiguration addChild(final String childName, final String childValue) {
+        throw new UnsupportedOperationException("Read-only configuration");
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder().append('<').append(getName());
+        for (final String a : getAttributeNames()) {
+            buf.append(' ').append(a).append("=\"").append(getAttribute(a)).append('"');
+        }
+        if (getChildCount() > 0) {
+            buf.append('>');
+            for (int i = 0, size = getChildCount(); i < size; i++) {
+                buf.append(getChild(i));
+            }
+            buf.append("</").append(getName()).append('>');
+        } else if (null != getValue()) {
+            buf.append('>').append(getValue()).append("</").append(getName()).append('>');
+        } else {
+            buf.append("/>");
+        }
+        return buf.append('\n').toString();
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * @return Views of the immediate children; their own children are only wrapped on demand
+     */
+    private PlexusConfiguration[] children() {
+        PlexusConfiguration[] result = children;
+        if (null == result) {
+            final int count = dom.getChildCount();
+            result = count > 0 ? new PlexusConfiguration[count] : NO_CHILDREN;
+            for (int i = 0; i < count; i++) {
+                result[i] = new Xpp3DomPlexusConfiguration(dom.getChild(i));
+            }
+            children = result;
+        }
+        return result;
+    }
+}
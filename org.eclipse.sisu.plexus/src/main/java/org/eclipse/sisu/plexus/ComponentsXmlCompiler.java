@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.plexus;
+
+import java.io.IOException;
+
+/**
+ * Compiles {@code components.xml} into the precompiled descriptor format read by the Plexus XML scanner.
+ * <p>
+ * Used at build time by the {@code precompile-components} goal, which embeds its own copy of this class and the
+ * runtime descriptor model because Maven supplies a different version of {@code org.eclipse.sisu.plexus} to plugins.
+ * Values are left uninterpolated, as they are at runtime.
+ */
+public final class ComponentsXmlCompiler {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    public static final String PRECOMPILED_SUFFIX = PlexusXmlDescriptors.PRECOMPILED_SUFFIX;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private ComponentsXmlCompiler() {
+        // static utility class, not allowed to create instances
+    }
+
+    // ----------------------------------------------------------------------
+    // Utility methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Compiles the given components.xml content.
+     *
+     * @param content The components.xml content
+     * @return Compiled descriptor
+     */
+    public static Result compile(final byte[] content) throws IOException {
+        final PlexusXmlDescriptors descriptors = PlexusXmlDescriptors.parse(content);
+        final byte[] data = PlexusXmlDescriptors.encode(PlexusXmlDescriptors.digestOf(content), descriptors);
+        return new Result(data, descriptors.components.size(), descriptors.problem);
+    }
+
+    // ----------------------------------------------------------------------
+    // Public types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Compiled descriptor, along with a summary of what was compiled.
+     */
+    public static final class Result {
+        private final byte[] data;
+
+        private final int count;
+
+        private final String problem;
+
+        Result(final byte[] data, final int count, final String problem) {
+            this.data = data;
+            this.count = count;
+            this.problem = problem;
+        }
+
+        /**
+         * @return Precompiled descriptor
+         */
+        public byte[] getData() {
+            return data.clone();
+        }
+
+        /**
+         * @return Number of compiled components
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return Problem that stopped compilation early; {@code null} if all components were compiled
+         */
+        public String getProblem() {
+            return problem;
+        }
+    }
+}
@@ -20,6 +20,8 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
 import org.codehaus.plexus.component.configurator.ConfigurationListener;
 import org.codehaus.plexus.component.configurator.converters.ConfigurationConverter;
@@ -34,6 +36,23 @@ import org.eclipse.sisu.bean.DeclaredMembers.View;
  * Helper class that implements low-level Plexus configuration of composite beans.
  */
 public final class CompositeBeanHelper {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final PropertyKey DEFAULT_PROPERTY = new PropertyKey("", null);
+
+    /**
+     * Resolved plans per bean type; stored with the type so plans (which refer back to it) won't prevent unloading.
+     */
+    private static final ClassValue<ConcurrentMap<PropertyKey, PropertyPlan>> PROPERTY_PLANS =
+            new ClassValue<ConcurrentMap<PropertyKey, PropertyPlan>>() {
+                @Override
+                protected ConcurrentMap<PropertyKey, PropertyPlan> computeValue(final Class<?> beanType) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -75,11 +94,11 @@ public final class CompositeBeanHelper {
     public void setDefault(final Object bean, final Object defaultValue, final PlexusConfiguration configuration)
             throws ComponentConfigurationException {
         final Class<?> beanType = bean.getClass();
-        final Type[] paramTypeHolder = new Type[1];
 
         // ----------------------------------------------------------------------
 
-        final Method setter = findMethod(beanType, paramTypeHolder, "set", null);
+        final PropertyPlan plan = propertyPlan(beanType, DEFAULT_PROPERTY);
+        final Method setter = plan.setter;
         if (null == setter) {
             throw new ComponentConfigurationException(configuration, "Cannot find default setter in " + beanType);
         }
@@ -87,7 +106,7 @@ public final class CompositeBeanHelper {
         // ----------------------------------------------------------------------
 
         Object value = defaultValue;
-        final TypeLiteral<?> paramType = TypeLiteral.get(paramTypeHolder[0]);
+        final TypeLiteral<?> paramType = plan.setterType;
         if (!paramType.getRawType().isInstance(value)) {
             if (configuration.getChildCount() > 0) {
                 throw new ComponentConfigurationException(
@@ -125,15 +144,11 @@ public final class CompositeBeanHelper {
             final PlexusConfiguration configuration)
             throws ComponentConfigurationException {
         final Class<?> beanType = bean.getClass();
-        final Type[] paramTypeHolder = new Type[1];
 
         // ----------------------------------------------------------------------
 
-        final String title = Character.toTitleCase(propertyName.charAt(0)) + propertyName.substring(1);
-        Method setter = findMethod(beanType, paramTypeHolder, "set" + title, valueType);
-        if (null == setter) {
-            setter = findMethod(beanType, paramTypeHolder, "add" + title, valueType);
-        }
+        final PropertyPlan plan = propertyPlan(beanType, new PropertyKey(propertyName, valueType));
+        final Method setter = plan.setter;
 
         // ----------------------------------------------------------------------
 
@@ -142,7 +157,7 @@ public final class CompositeBeanHelper {
 
         if (null != setter) {
             try {
-                final TypeLiteral<?> paramType = TypeLiteral.get(paramTypeHolder[0]);
+                final TypeLiteral<?> paramType = plan.setterType;
                 Class<?> rawPropertyType = paramType.getRawType();
                 if (null != valueType && rawPropertyType.isAssignableFrom(valueType)) {
                     rawPropertyType = valueType; // pick more specific type
@@ -162,10 +177,10 @@ public final class CompositeBeanHelper {
 
         // ----------------------------------------------------------------------
 
-        final Field field = findField(beanType, propertyName);
+        final Field field = plan.field(beanType);
         if (null != field) {
             try {
-                final TypeLiteral<?> fieldType = TypeLiteral.get(field.getGenericType());
+                final TypeLiteral<?> fieldType = plan.fieldType;
                 Class<?> rawPropertyType = fieldType.getRawType();
                 if (!rawPropertyType.isInstance(value)) // only re-convert if we must
                 {
@@ -207,6 +222,58 @@ public final class CompositeBeanHelper {
     // Implementation methods
     // ----------------------------------------------------------------------
 
+    /**
+     * Returns the cached plan for the given bean property; resolves and caches it on first use.
+     */
+    private static PropertyPlan propertyPlan(final Class<?> beanType, final PropertyKey key) {
+        if (null != key.valueType && !isVisibleFrom(beanType, key.valueType)) {
+            // caching against the bean type would keep the value type's loader alive as long as the bean type
+            return resolvePlan(beanType, key.name, key.valueType);
+        }
+        final ConcurrentMap<PropertyKey, PropertyPlan> plans = PROPERTY_PLANS.get(beanType);
+        PropertyPlan plan = plans.get(key);
+        if (null == plan) {
+            plan = resolvePlan(beanType, key.name, key.valueType);
+            final PropertyPlan oldPlan = plans.putIfAbsent(key, plan);
+            if (null != oldPlan) {
+                plan = oldPlan;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * @return {@code true} if the value type comes from the bean type's loader or one of its ancestors
+     */
+    private static boolean isVisibleFrom(final Class<?> beanType, final Class<?> valueType) {
+        final ClassLoader valueLoader = valueType.getClassLoader();
+        if (null == valueLoader) {
+            return true; // system class, never unloaded
+        }
+        for (ClassLoader l = beanType.getClassLoader(); null != l; l = l.getParent()) {
+            if (valueLoader == l) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PropertyPlan resolvePlan(
+            final Class<?> beanType, final String propertyName, final Class<?> valueType) {
+        final Type[] paramTypeHolder = new Type[1];
+        if (propertyName.isEmpty()) {
+            final Method setter = findMethod(beanType, paramTypeHolder, "set", null);
+            return new PropertyPlan(propertyName, setter, paramTypeHolder[0]);
+        }
+
+        final String title = Character.toTitleCase(propertyName.charAt(0)) + propertyName.substring(1);
+        Method setter = findMethod(beanType, paramTypeHolder, "set" + title, valueType);
+        if (null == setter) {
+            setter = findMethod(beanType, paramTypeHolder, "add" + title, valueType);
+        }
+        return new PropertyPlan(propertyName, setter, paramTypeHolder[0]);
+    }
+
     private Object convertProperty(
             final Class<?> beanType,
             final Class<?> rawPropertyType,
@@ -277,4 +344,101 @@ public final class CompositeBeanHelper {
         }
         field.set(bean, value);
     }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Identifies a bean property along with the implementation type of its configured value.
+     */
+    private static final class PropertyKey {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final String name;
+
+        final Class<?> valueType;
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        PropertyKey(final String name, final Class<?> valueType) {
+            this.name = name;
+            this.valueType = valueType;
+        }
+
+        // ----------------------------------------------------------------------
+        // Public methods
+        // ----------------------------------------------------------------------
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + (null != valueType ? valueType.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(final Object rhs) {
+            if (this == rhs) {
+                return true;
+            }
+            if (rhs instanceof PropertyKey) {
+                final PropertyKey key = (PropertyKey) rhs;
+                return name.equals(key.name) && valueType == key.valueType;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Resolved setter/adder and field for a bean property, so repeat configurations skip the member search.
+     */
+    private static final class PropertyPlan {
+        // ----------------------------------------------------------------------
+        // Implementation fields
+        // ----------------------------------------------------------------------
+
+        final String propertyName;
+
+        final Method setter;
+
+        final TypeLiteral<?> setterType;
+
+        volatile TypeLiteral<?> fieldType; // NOSONAR
+
+        private volatile Field field; // NOSONAR
+
+        private volatile boolean fieldResolved; // NOSONAR
+
+        // ----------------------------------------------------------------------
+        // Constructors
+        // ----------------------------------------------------------------------
+
+        PropertyPlan(final String propertyName, final Method setter, final Type setterType) {
+            this.propertyName = propertyName;
+            this.setter = setter;
+            this.setterType = null != setter ? TypeLiteral.get(setterType) : null;
+        }
+
+        // ----------------------------------------------------------------------
+        // Local methods
+        // ----------------------------------------------------------------------
+
+        /**
+         * Looks for the backing field on first use, since it's only needed when the setter can't be used.
+         */
+        Field field(final Class<?> beanType) {
+            if (!fieldResolved) {
+                final Field f = findField(beanType, propertyName);
+                if (null != f) {
+                    fieldType = TypeLiteral.get(f.getGenericType());
+                    field = f;
+                }
+                fieldResolved = true;
+            }
+            return field;
+        }
+    }
 }
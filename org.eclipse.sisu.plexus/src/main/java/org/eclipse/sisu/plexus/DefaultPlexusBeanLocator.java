@@ -18,17 +18,29 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import javax.inject.Inject;
 import org.codehaus.plexus.PlexusConstants;
 import org.eclipse.sisu.BeanEntry;
 import org.eclipse.sisu.inject.BeanLocator;
+import org.eclipse.sisu.inject.DefaultBeanLocator;
 import org.eclipse.sisu.inject.FilteredBeans;
+import org.eclipse.sisu.inject.MutableBeanLocator;
 
 /**
  * {@link PlexusBeanLocator} that locates beans of various types from zero or more {@link Injector}s.
  */
 @Singleton
 public final class DefaultPlexusBeanLocator implements PlexusBeanLocator {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final Function<Object, Object> REALM_PARTITIONER = RealmManager::realmPartition;
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -60,13 +72,55 @@ public final class DefaultPlexusBeanLocator implements PlexusBeanLocator {
     // ----------------------------------------------------------------------
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Iterable<PlexusBean<T>> locate(final TypeLiteral<T> role, final String... hints) {
-        final Key<T> key = hints.length == 1 ? Key.get(role, Names.named(hints[0])) : Key.get(role, Named.class);
-        Iterable<BeanEntry<Named, T>> beans = (Iterable<BeanEntry<Named, T>>) beanLocator.<Named, T>locate(key);
+        if (hints.length <= 1) {
+            final Key<T> key = hints.length == 1 ? Key.get(role, Names.named(hints[0])) : Key.get(role, Named.class);
+            return new DefaultPlexusBeans<>(locate(key));
+        }
+        // look up each distinct hint separately, so each lookup can use the per-name binding index
+        final Map<String, Iterable<BeanEntry<Named, T>>> hintedBeans = new LinkedHashMap<>();
+        for (final String h : hints) {
+            if (!hintedBeans.containsKey(h)) {
+                hintedBeans.put(h, locate(Key.get(role, Names.named(h))));
+            }
+        }
+        return new HintedPlexusBeans<>(hintedBeans, role, hints);
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <T> Iterable<BeanEntry<Named, T>> locate(final Key<T> key) {
         if (PlexusConstants.REALM_VISIBILITY.equalsIgnoreCase(visibility)) {
-            beans = new FilteredBeans<>(realmManager::visibilityPredicate, beans);
+            if (beanLocator instanceof DefaultBeanLocator) {
+                // only visit bindings from the visible realms
+                return (Iterable) ((DefaultBeanLocator) beanLocator)
+                        .locate(key, REALM_PARTITIONER, realmManager::visibleRealmPartitions);
+            }
+            return new FilteredBeans<>(realmManager::visibilityPredicate, (Iterable) beanLocator.locate(key));
+        }
+        return (Iterable<BeanEntry<Named, T>>) beanLocator.<Named, T>locate(key);
+    }
+
+    // ----------------------------------------------------------------------
+    // Local methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns a source of generations for the given role; the generation changes whenever the role's beans change.
+     *
+     * @param role The Plexus role
+     * @return Generation source; {@code null} if the underlying locator doesn't track generations
+     */
+    LongSupplier generationOf(final TypeLiteral<?> role) {
+        if (beanLocator instanceof MutableBeanLocator) {
+            final MutableBeanLocator mutableLocator = (MutableBeanLocator) beanLocator;
+            if (mutableLocator.generation(role) >= 0) {
+                return () -> mutableLocator.generation(role);
+            }
         }
-        return hints.length <= 1 ? new DefaultPlexusBeans<>(beans) : new HintedPlexusBeans<>(beans, role, hints);
+        return null;
     }
 }
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.plexus;
+
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Named;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.Message;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.StaticInjectionRequest;
+import com.google.inject.spi.UntargettedBinding;
+import com.google.inject.util.Providers;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.sisu.inject.BindingPublisher;
+import org.eclipse.sisu.inject.BindingSubscriber;
+import org.eclipse.sisu.inject.InjectorBindings;
+import org.eclipse.sisu.inject.Logs;
+import org.eclipse.sisu.inject.MutableBeanLocator;
+import org.eclipse.sisu.inject.RankingFunction;
+
+/**
+ * Publisher of {@link Binding}s from recorded {@link Element}s; only creates the {@link Injector} when a subscriber
+ * asks for one of the recorded binding types. Until then it isn't adapted to an {@link Injector}, so just-in-time
+ * lookups skip it.
+ */
+public final class DeferredInjectorBindings implements BindingPublisher {
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final Key<MutableBeanLocator> LOCATOR_KEY = Key.get(MutableBeanLocator.class);
+
+    private static final Key<RankingFunction> RANKING_FUNCTION_KEY = Key.get(RankingFunction.class);
+
+    private static final BindingPublisher NO_BINDINGS = new BindingPublisher() {
+        @Override
+        public <T> void subscribe(final BindingSubscriber<T> subscriber) {
+            // nothing to publish
+        }
+
+        @Override
+        public <T> void unsubscribe(final BindingSubscriber<T> subscriber) {
+            // nothing to unpublish
+        }
+
+        @Override
+        public int maxBindingRank() {
+            return Integer.MIN_VALUE;
+        }
+
+        @Override
+        public <T> T adapt(final Class<T> type) {
+            return null;
+        }
+    };
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    private final Object source;
+
+    private final Set<Class<?>> types;
+
+    // names of the recorded bindings by type; a null entry means the type could be found under any name
+    private final Map<Class<?>, Set<String>> names;
+
+    private final boolean hasWildcards;
+
+    private final RankingFunction function;
+
+    private List<Element> elements;
+
+    private volatile BindingPublisher delegate; // NOSONAR
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    private DeferredInjectorBindings(
+            final Object source,
+            final List<Element> elements,
+            final Set<Class<?>> types,
+            final Map<Class<?>, Set<String>> names,
+            final RankingFunction function) {
+        this.source = source;
+        this.elements = elements;
+        this.types = types;
+        this.names = names;
+        this.function = function;
+
+        hasWildcards = types.contains(Object.class);
+    }
+
+    // ----------------------------------------------------------------------
+    // Public methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Attempts to defer creation of the {@link Injector} described by the given recorded {@link Element}s.
+     *
+     * @param source The source of the elements, used for logging
+     * @param elements The recorded elements
+     * @return Deferred publisher; {@code null} if the injector must be created eagerly
+     */
+    public static DeferredInjectorBindings defer(final Object source, final List<Element> elements) {
+        final Map<Key<?>, Binding<?>> bindings = new HashMap<>();
+        final Set<Class<?>> types = new HashSet<>();
+        final Map<Class<?>, Set<String>> names = new HashMap<>();
+        for (final Element e : elements) {
+            if (e instanceof Binding<?>) {
+                final Binding<?> binding = (Binding<?>) e;
+                if (!(binding instanceof InstanceBinding<?>) && isEagerSingleton(binding)) {
+                    return null; // must be created during boot
+                }
+                bindings.put(binding.getKey(), binding);
+                types.add(binding.getKey().getTypeLiteral().getRawType());
+                indexName(names, binding);
+            } else if (e instanceof Message
+                    || e instanceof InjectionRequest<?>
+                    || e instanceof StaticInjectionRequest
+                    || e instanceof PrivateElements) {
+                return null; // report problems and apply side-effects at the usual time
+            }
+        }
+        final RankingFunction function = findRankingFunction(bindings);
+        return null != function ? new DeferredInjectorBindings(source, elements, types, names, function) : null;
+    }
+
+    /**
+     * @return {@code true} if the injector has been created; otherwise {@code false}
+     */
+    public boolean isCreated() {
+        return null != delegate;
+    }
+
+    /**
+     * Creates the {@link Injector} straight away, if it hasn't been created already; only tries once.
+     */
+    public synchronized void create() {
+        if (null == delegate) {
+            final List<Element> recording = elements;
+            elements = null;
+            BindingPublisher publisher = NO_BINDINGS;
+            try {
+                publisher = new InjectorBindings(
+                        Guice.createInjector(new Module() {
+                            @Override
+                            public void configure(final Binder binder) {
+                                replayElements(binder, recording);
+                            }
+                        }),
+                        function);
+            } finally {
+                delegate = publisher;
+            }
+        }
+    }
+
+    @Override
+    public <T> void subscribe(final BindingSubscriber<T> subscriber) {
+        BindingPublisher publisher = delegate;
+        if (null == publisher) {
+            final TypeLiteral<T> type = subscriber.type();
+            if (!hasWildcards && !types.contains(type.getRawType())) {
+                return; // nothing to publish, so stay deferred
+            }
+            publisher = createPublisher();
+        }
+        publisher.subscribe(subscriber);
+    }
+
+    @Override
+    public <T> void unsubscribe(final BindingSubscriber<T> subscriber) {
+        final BindingPublisher publisher = delegate;
+        if (null != publisher) {
+            publisher.unsubscribe(subscriber);
+        }
+    }
+
+    @Override
+    public int maxBindingRank() {
+        return function.maxRank();
+    }
+
+    @Override
+    public boolean mayPublish(final TypeLiteral<?> type, final String name) {
+        if (null != delegate || hasWildcards) {
+            return true;
+        }
+        final Class<?> clazz = type.getRawType();
+        if (!names.containsKey(clazz)) {
+            return false;
+        }
+        final Set<String> typeNames = names.get(clazz);
+        return null == typeNames || typeNames.contains(name);
+    }
+
+    @Override
+    public <T> T adapt(final Class<T> type) {
+        final BindingPublisher publisher = delegate;
+        return null != publisher ? publisher.adapt(type) : null;
+    }
+
+    @Override
+    public String toString() {
+        final BindingPublisher publisher = delegate;
+        return null != publisher && NO_BINDINGS != publisher ? publisher.toString() : "Deferred: " + source;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    private BindingPublisher createPublisher() {
+        try {
+            create();
+        } catch (final LinkageError | RuntimeException e) {
+            Logs.warn("Problem creating deferred injector for: {}", source, e);
+        }
+        return delegate;
+    }
+
+    /**
+     * Replays the recorded {@link Element}s, hiding the locator behind a provider so the new {@link Injector} doesn't
+     * auto-publish itself; this publisher is already registered with the locator.
+     */
+    private static void replayElements(final Binder binder, final List<Element> elements) {
+        for (final Element e : elements) {
+            if (e instanceof InstanceBinding<?> && LOCATOR_KEY.equals(((Binding<?>) e).getKey())) {
+                final MutableBeanLocator locator = (MutableBeanLocator) ((InstanceBinding<?>) e).getInstance();
+                binder.withSource(e.getSource()).bind(LOCATOR_KEY).toProvider(Providers.of(locator));
+            } else {
+                e.applyTo(binder);
+            }
+        }
+    }
+
+    /**
+     * Records the name the given {@link Binding} can be found under; unqualified implementation bindings may also be
+     * found under their @{@link javax.inject.Named} alias, and other qualifiers aren't tracked, so those types accept
+     * any name.
+     */
+    private static void indexName(final Map<Class<?>, Set<String>> names, final Binding<?> binding) {
+        final Key<?> key = binding.getKey();
+        final Class<?> type = key.getTypeLiteral().getRawType();
+        final Annotation qualifier = key.getAnnotation();
+
+        String name = null;
+        if (qualifier instanceof Named) {
+            name = ((Named) qualifier).value();
+        } else if (null == key.getAnnotationType()
+                && !(binding instanceof UntargettedBinding<?>)
+                && !(binding instanceof ConstructorBinding<?>)) {
+            name = "default";
+        }
+
+        if (null == name) {
+            names.put(type, null);
+        } else if (!names.containsKey(type)) {
+            names.put(type, new HashSet<>(Collections.singleton(name)));
+        } else if (null != names.get(type)) {
+            names.get(type).add(name);
+        }
+    }
+
+    private static boolean isEagerSingleton(final Binding<?> binding) {
+        return Boolean.TRUE.equals(binding.acceptScopingVisitor(new DefaultBindingScopingVisitor<Boolean>() {
+            @Override
+            public Boolean visitEagerSingleton() {
+                return Boolean.TRUE;
+            }
+        }));
+    }
+
+    /**
+     * Follows linked bindings from the {@link RankingFunction} key until it reaches a concrete instance.
+     */
+    private static RankingFunction findRankingFunction(final Map<Key<?>, Binding<?>> bindings) {
+        Binding<?> binding = bindings.get(RANKING_FUNCTION_KEY);
+        for (int i = 0; binding instanceof LinkedKeyBinding<?> && i < bindings.size(); i++) {
+            binding = bindings.get(((LinkedKeyBinding<?>) binding).getLinkedKey());
+        }
+        if (binding instanceof InstanceBinding<?>) {
+            final Object instance = ((InstanceBinding<?>) binding).getInstance();
+            if (instance instanceof RankingFunction) {
+                return (RankingFunction) instance;
+            }
+        }
+        return null; // can't tell the rank without creating the injector
+    }
+}
@@ -17,6 +17,7 @@ import com.google.inject.name.Named;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import org.eclipse.sisu.BeanEntry;
 
 /**
@@ -27,7 +28,9 @@ final class HintedPlexusBeans<T> implements Iterable<PlexusBean<T>> {
     // Implementation fields
     // ----------------------------------------------------------------------
 
-    private final Iterable<BeanEntry<Named, T>> beans;
+    private final List<Iterable<BeanEntry<Named, T>>> hintedBeans;
+
+    private final int[] hintIndex;
 
     private final List<PlexusBean<T>> missingPlexusBeans;
 
@@ -35,12 +38,24 @@ final class HintedPlexusBeans<T> implements Iterable<PlexusBean<T>> {
     // Constructors
     // ----------------------------------------------------------------------
 
-    HintedPlexusBeans(final Iterable<BeanEntry<Named, T>> beans, final TypeLiteral<T> role, final String[] hints) {
-        this.beans = beans;
+    /**
+     * @param hintedBeans Beans located for each distinct hint
+     * @param role The Plexus role
+     * @param hints The Plexus hints, may contain duplicates
+     */
+    HintedPlexusBeans(
+            final Map<String, Iterable<BeanEntry<Named, T>>> hintedBeans,
+            final TypeLiteral<T> role,
+            final String[] hints) {
+        this.hintedBeans = new ArrayList<>(hintedBeans.values());
 
+        // repeated hints share the same lookup, so they also share the same bean
+        final List<String> distinctHints = new ArrayList<>(hintedBeans.keySet());
+        hintIndex = new int[hints.length];
         missingPlexusBeans = new ArrayList<>(hints.length);
-        for (final String h : hints) {
-            missingPlexusBeans.add(new MissingPlexusBean<>(role, h));
+        for (int i = 0; i < hints.length; i++) {
+            hintIndex[i] = distinctHints.indexOf(hints[i]);
+            missingPlexusBeans.add(new MissingPlexusBean<>(role, hints[i]));
         }
     }
 
@@ -50,22 +65,18 @@ final class HintedPlexusBeans<T> implements Iterable<PlexusBean<T>> {
 
     @Override
     public Iterator<PlexusBean<T>> iterator() {
-        // assume all hints are missing to begin with
-        final List<PlexusBean<T>> plexusBeans = new ArrayList<>(missingPlexusBeans);
+        final int size = missingPlexusBeans.size();
+        final List<PlexusBean<T>> plexusBeans = new ArrayList<>(size);
 
-        // scan available beans and populate list according to hint
-        final int size = plexusBeans.size();
-        final Iterator<BeanEntry<Named, T>> itr = beans.iterator();
-        for (int numFound = 0; numFound < size && itr.hasNext(); ) {
-            final BeanEntry<Named, T> candidate = itr.next();
-            final String hint = candidate.getKey().value();
-            for (int i = 0; i < size; i++) {
-                final PlexusBean<T> element = plexusBeans.get(i);
-                if (element instanceof MissingPlexusBean<?> && hint.equals(element.getKey())) {
-                    plexusBeans.set(i, new LazyPlexusBean<>(candidate));
-                    numFound++;
-                }
-            }
+        // each distinct hint has its own indexed lookup, so cost depends on the number of hints not beans
+        final List<BeanEntry<Named, T>> entries = new ArrayList<>(hintedBeans.size());
+        for (final Iterable<BeanEntry<Named, T>> beans : hintedBeans) {
+            final Iterator<BeanEntry<Named, T>> itr = beans.iterator();
+            entries.add(itr.hasNext() ? itr.next() : null);
+        }
+        for (int i = 0; i < size; i++) {
+            final BeanEntry<Named, T> entry = entries.get(hintIndex[i]);
+            plexusBeans.add(null != entry ? new LazyPlexusBean<>(entry) : missingPlexusBeans.get(i));
         }
 
         return plexusBeans.iterator();
@@ -14,15 +14,27 @@ package org.eclipse.sisu.plexus;
 
 import com.google.inject.Binder;
 import com.google.inject.Module;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import org.codehaus.plexus.component.annotations.Component;
+import org.eclipse.sisu.inject.Logs;
 import org.eclipse.sisu.space.BeanScanning;
 import org.eclipse.sisu.space.ClassSpace;
+import org.eclipse.sisu.space.IndexedClassFinder;
+import org.eclipse.sisu.space.LoadedClass;
+import org.eclipse.sisu.space.ScanPruning;
 import org.eclipse.sisu.space.SpaceModule;
 import org.eclipse.sisu.space.SpaceVisitor;
 
 /**
  * {@link PlexusBeanModule} that binds Plexus components by scanning classes for runtime annotations.
+ * <p>
+ * When using {@link BeanScanning#INDEX} or {@link BeanScanning#GLOBAL_INDEX} components listed in the
+ * {@code META-INF/sisu/org.codehaus.plexus.component.annotations.Component} index are bound directly from their
+ * indexed details, without reading their class files.
  */
 public final class PlexusAnnotatedBeanModule implements PlexusBeanModule {
     // ----------------------------------------------------------------------
@@ -36,12 +48,24 @@ public final class PlexusAnnotatedBeanModule implements PlexusBeanModule {
         }
     };
 
+    private static final String INDEX_FOLDER = "META-INF/sisu/";
+
+    private static final String NAMED_INDEX = INDEX_FOLDER + "javax.inject.Named";
+
+    private static final String COMPONENT_INDEX = INDEX_FOLDER + Component.class.getName();
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
 
     private Module spaceModule;
 
+    private final ClassSpace space;
+
+    private final boolean global;
+
+    private final boolean strictScanning;
+
     private final PlexusBeanSource beanSource;
 
     // ----------------------------------------------------------------------
@@ -81,10 +105,19 @@ public final class PlexusAnnotatedBeanModule implements PlexusBeanModule {
     public PlexusAnnotatedBeanModule(
             final ClassSpace space, final Map<?, ?> variables, final BeanScanning scanning, boolean strictScanning) {
         if (null != space && scanning != BeanScanning.OFF) {
-            spaceModule = new SpaceModule(space, scanning, strictScanning).with(PLEXUS_STRATEGY);
+            spaceModule = new SpaceModule(space, scanning, strictScanning)
+                    .with(null != variables ? ScanPruning.select(variables) : ScanPruning.NONE)
+                    .with(PLEXUS_STRATEGY);
         } else {
             spaceModule = null;
         }
+        if (null != spaceModule && (scanning == BeanScanning.INDEX || scanning == BeanScanning.GLOBAL_INDEX)) {
+            this.space = space;
+        } else {
+            this.space = null;
+        }
+        this.global = scanning == BeanScanning.GLOBAL_INDEX;
+        this.strictScanning = strictScanning;
         beanSource = new PlexusAnnotatedBeanSource(variables);
     }
 
@@ -104,9 +137,55 @@ public final class PlexusAnnotatedBeanModule implements PlexusBeanModule {
         if (null != spaceModule) {
             spaceModule.configure(binder);
         }
+        if (null != space) {
+            bindIndexedComponents(binder);
+        }
         return beanSource;
     }
 
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Binds Plexus components listed in the component index; {@code @Named} components are left to the scanner.
+     *
+     * @param binder The Guice binder
+     */
+    private void bindIndexedComponents(final Binder binder) {
+        final Set<String> handled = new HashSet<>();
+        for (final String name : new IndexedClassFinder(NAMED_INDEX, global).indexedNames(space)) {
+            handled.add(name);
+        }
+        final PlexusTypeListener listener = new PlexusTypeBinder(binder);
+        final String source = space.toString();
+        for (final String entry : new IndexedClassFinder(COMPONENT_INDEX, global).indexedNames(space)) {
+            final String[] fields = entry.split("\\s+");
+            if (fields.length < 4 || !handled.add(fields[0])) {
+                continue; // malformed, or already handled by an earlier index or the scanner
+            }
+            try {
+                final String description = fields.length > 4 ? decode(fields[4]) : "";
+                final Component component = new ComponentImpl(
+                        space.loadClass(fields[1]), Hints.canonicalHint(decode(fields[3])), fields[2], description);
+                listener.hear(component, new LoadedClass<Object>(space.loadClass(fields[0])), source);
+            } catch (final RuntimeException | LinkageError e) {
+                if (strictScanning) {
+                    throw new IllegalStateException("Problem binding indexed component " + fields[0], e);
+                }
+                Logs.debug("Problem binding indexed component: {}", fields[0], e);
+            }
+        }
+    }
+
+    private static String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e); // UTF-8 is always supported
+        }
+    }
+
     // ----------------------------------------------------------------------
     // Implementation types
     // ----------------------------------------------------------------------
@@ -21,11 +21,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import javax.inject.Provider;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.eclipse.sisu.bean.BeanProperty;
+import org.eclipse.sisu.inject.Flags;
 import org.eclipse.sisu.wire.EntryListAdapter;
+import org.eclipse.sisu.wire.EntryListSnapshot;
 import org.eclipse.sisu.wire.EntryMapAdapter;
+import org.eclipse.sisu.wire.EntryMapSnapshot;
 import org.eclipse.sisu.wire.EntrySetAdapter;
 
 /**
@@ -124,6 +128,21 @@ final class PlexusRequirements {
         final Iterable<? extends Entry<String, T>> locate() {
             return locatorProvider.get().locate(type, hints);
         }
+
+        /**
+         * Snapshots of realm-filtered requirements reflect the realm visibility in effect when they were captured.
+         *
+         * @return Generation source for snapshot collections; {@code null} if collections should be live views
+         */
+        final LongSupplier snapshotGeneration() {
+            if (Flags.SNAPSHOT_COLLECTIONS) {
+                final PlexusBeanLocator locator = locatorProvider.get();
+                if (locator instanceof DefaultPlexusBeanLocator) {
+                    return ((DefaultPlexusBeanLocator) locator).generationOf(type);
+                }
+            }
+            return null;
+        }
     }
 
     /**
@@ -145,6 +164,10 @@ final class PlexusRequirements {
 
         @Override
         public Map<String, T> get() {
+            final LongSupplier generation = snapshotGeneration();
+            if (null != generation) {
+                return new EntryMapSnapshot<>(locate(), generation);
+            }
             return new EntryMapAdapter<>(locate());
         }
     }
@@ -168,6 +191,10 @@ final class PlexusRequirements {
 
         @Override
         public List<T> get() {
+            final LongSupplier generation = snapshotGeneration();
+            if (null != generation) {
+                return new EntryListSnapshot<>(locate(), generation);
+            }
             return new EntryListAdapter<>(locate());
         }
     }
@@ -21,12 +21,19 @@ import com.google.inject.spi.TypeConverter;
 import com.google.inject.spi.TypeConverterBinding;
 import java.io.StringReader;
 import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.inject.Inject;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
@@ -36,6 +43,7 @@ import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.eclipse.sisu.bean.BeanProperties;
 import org.eclipse.sisu.bean.BeanProperty;
 import org.eclipse.sisu.inject.Logs;
+import org.eclipse.sisu.inject.Soft;
 import org.eclipse.sisu.inject.TypeArguments;
 
 /**
@@ -49,6 +57,18 @@ public final class PlexusXmlBeanConverter implements PlexusBeanConverter {
 
     private static final String CONVERSION_ERROR = "Cannot convert: \"%s\" to: %s";
 
+    /**
+     * Compiled builders per target type; stored with the type's deepest class so they won't prevent unloading.
+     */
+    private static final ClassValue<ConcurrentMap<TypeLiteral<?>, ConcurrentMap<String, ValueBuilder>>> BUILDERS =
+            new ClassValue<ConcurrentMap<TypeLiteral<?>, ConcurrentMap<String, ValueBuilder>>>() {
+                @Override
+                protected ConcurrentMap<TypeLiteral<?>, ConcurrentMap<String, ValueBuilder>> computeValue(
+                        final Class<?> anchor) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     // ----------------------------------------------------------------------
     // Implementation fields
     // ----------------------------------------------------------------------
@@ -73,11 +93,7 @@ public final class PlexusXmlBeanConverter implements PlexusBeanConverter {
     public Object convert(final TypeLiteral role, final String value) {
         if (value.trim().startsWith("<")) {
             try {
-                final MXParser parser = new MXParser();
-                parser.setInput(new StringReader(value));
-                parser.nextTag();
-
-                return parse(parser, role);
+                return compiledBuilder(role, value).build(this);
             } catch (final Exception e) {
                 throw new IllegalArgumentException(String.format(CONVERSION_ERROR, value, role), e);
             }
@@ -91,127 +107,265 @@ public final class PlexusXmlBeanConverter implements PlexusBeanConverter {
     // ----------------------------------------------------------------------
 
     /**
-     * Parses a sequence of XML elements and converts them to the given target type.
+     * Returns the compiled builder for the given XML; reuses an earlier compilation when the XML is context-free.
+     *
+     * @param role The target type
+     * @param value The XML text
+     * @return Builder of new instances of the target type
+     */
+    private static ValueBuilder compiledBuilder(final TypeLiteral<?> role, final String value) throws Exception {
+        final Class<?> anchor = anchorOf(Object.class, role.getType());
+        final ConcurrentMap<TypeLiteral<?>, ConcurrentMap<String, ValueBuilder>> roleBuilders =
+                null != anchor ? BUILDERS.get(anchor) : null;
+
+        ConcurrentMap<String, ValueBuilder> builders = null != roleBuilders ? roleBuilders.get(role) : null;
+        ValueBuilder builder = null != builders ? builders.get(value) : null;
+        if (null == builder) {
+            final MXParser parser = new MXParser();
+            parser.setInput(new StringReader(value));
+            parser.nextTag();
+
+            final boolean[] cacheable = {true};
+            builder = compile(parser, role, cacheable);
+            if (cacheable[0] && null != roleBuilders) {
+                if (null == builders) {
+                    builders = Soft.concurrentValues();
+                    final ConcurrentMap<String, ValueBuilder> oldBuilders = roleBuilders.putIfAbsent(role, builders);
+                    if (null != oldBuilders) {
+                        builders = oldBuilders;
+                    }
+                }
+                builders.putIfAbsent(value, builder);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Finds the class in the given type whose loader can see the loaders of all the others. Builders for the type only
+     * refer to classes visible from that loader, so storing them with the class doesn't keep anything else alive.
+     *
+     * @param anchor The deepest class found so far
+     * @param type The generic type
+     * @return Deepest class; {@code null} if the type mixes classes from unrelated loaders
+     */
+    private static Class<?> anchorOf(final Class<?> anchor, final Type type) {
+        if (null == anchor) {
+            return null;
+        }
+        if (type instanceof Class<?>) {
+            final Class<?> clazz = (Class<?>) type;
+            if (isAncestor(clazz.getClassLoader(), anchor.getClassLoader())) {
+                return anchor;
+            }
+            return isAncestor(anchor.getClassLoader(), clazz.getClassLoader()) ? clazz : null;
+        }
+        if (type instanceof ParameterizedType) {
+            Class<?> deepest = anchorOf(anchor, ((ParameterizedType) type).getRawType());
+            for (final Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                deepest = anchorOf(deepest, argument);
+            }
+            return deepest;
+        }
+        if (type instanceof GenericArrayType) {
+            return anchorOf(anchor, ((GenericArrayType) type).getGenericComponentType());
+        }
+        if (type instanceof WildcardType) {
+            Class<?> deepest = anchor;
+            for (final Type bound : ((WildcardType) type).getUpperBounds()) {
+                deepest = anchorOf(deepest, bound);
+            }
+            for (final Type bound : ((WildcardType) type).getLowerBounds()) {
+                deepest = anchorOf(deepest, bound);
+            }
+            return deepest;
+        }
+        return anchor; // type variables resolve to classes visible from their declaring class
+    }
+
+    /**
+     * @return {@code true} if the first loader is the second loader or one of its ancestors
+     */
+    private static boolean isAncestor(final ClassLoader ancestor, final ClassLoader loader) {
+        if (null == ancestor) {
+            return true; // bootstrap
+        }
+        for (ClassLoader l = loader; null != l; l = l.getParent()) {
+            if (ancestor == l) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a sequence of XML elements and compiles a builder for the given target type.
      *
      * @param parser The XML parser
      * @param toType The target type
-     * @return Converted instance of the target type
+     * @param cacheable Set to {@code false} if the result depends on the calling context
+     * @return Builder of new instances of the target type
      */
-    private Object parse(final MXParser parser, final TypeLiteral<?> toType) throws Exception {
+    private static ValueBuilder compile(final MXParser parser, final TypeLiteral<?> toType, final boolean[] cacheable)
+            throws Exception {
         parser.require(XmlPullParser.START_TAG, null, null);
 
         final Class<?> rawType = toType.getRawType();
         if (Xpp3Dom.class.isAssignableFrom(rawType)) {
-            return parseXpp3Dom(parser);
+            return compileXpp3Dom(parser);
         }
         if (Properties.class.isAssignableFrom(rawType)) {
-            return parseProperties(parser);
+            return compileProperties(parser, cacheable);
         }
         if (Map.class.isAssignableFrom(rawType)) {
-            return parseMap(parser, TypeArguments.get(toType.getSupertype(Map.class), 1));
+            return compileMap(parser, TypeArguments.get(toType.getSupertype(Map.class), 1), cacheable);
         }
         if (Collection.class.isAssignableFrom(rawType)) {
-            return parseCollection(parser, TypeArguments.get(toType.getSupertype(Collection.class), 0));
+            return compileCollection(parser, TypeArguments.get(toType.getSupertype(Collection.class), 0), cacheable);
         }
         if (rawType.isArray()) {
-            return parseArray(parser, TypeArguments.get(toType, 0));
+            return compileArray(parser, TypeArguments.get(toType, 0), cacheable);
         }
-        return parseBean(parser, toType, rawType);
+        return compileBean(parser, toType, rawType, cacheable);
     }
 
     /**
-     * Parses an XML subtree and converts it to the {@link Xpp3Dom} type.
+     * Parses an XML subtree and compiles a builder of {@link Xpp3Dom} copies.
      *
      * @param parser The XML parser
-     * @return Converted Xpp3Dom instance
+     * @return Builder of Xpp3Dom instances
      */
-    private static Xpp3Dom parseXpp3Dom(final XmlPullParser parser) throws Exception {
-        return Xpp3DomBuilder.build(parser);
+    private static ValueBuilder compileXpp3Dom(final XmlPullParser parser) throws Exception {
+        final Xpp3Dom dom = Xpp3DomBuilder.build(parser);
+        return converter -> new Xpp3Dom(dom);
     }
 
     /**
-     * Parses a sequence of XML elements and converts them to the appropriate {@link Properties} type.
+     * Parses a sequence of XML elements and compiles a builder of the appropriate {@link Properties} type.
      *
      * @param parser The XML parser
-     * @return Converted Properties instance
+     * @return Builder of Properties instances
      */
-    private static Properties parseProperties(final XmlPullParser parser) throws Exception {
-        final Properties properties = newImplementation(parser, Properties.class);
+    private static ValueBuilder compileProperties(final XmlPullParser parser, final boolean[] cacheable)
+            throws Exception {
+        final Class<?> clazz = implementation(parser, Properties.class, cacheable);
+        final List<String> namesAndValues = new ArrayList<>();
         while (parser.nextTag() == XmlPullParser.START_TAG) {
             parser.nextTag();
             // 'name-then-value' or 'value-then-name'
             if ("name".equals(parser.getName())) {
                 final String name = parser.nextText();
                 parser.nextTag();
-                properties.put(name, parser.nextText());
+                namesAndValues.add(name);
+                namesAndValues.add(parser.nextText());
             } else {
                 final String value = parser.nextText();
                 parser.nextTag();
-                properties.put(parser.nextText(), value);
+                namesAndValues.add(parser.nextText());
+                namesAndValues.add(value);
             }
             parser.nextTag();
         }
-        return properties;
+        return converter -> {
+            final Properties properties = (Properties) newImplementation(clazz);
+            for (int i = 0, size = namesAndValues.size(); i < size; i += 2) {
+                properties.put(namesAndValues.get(i), namesAndValues.get(i + 1));
+            }
+            return properties;
+        };
     }
 
     /**
-     * Parses a sequence of XML elements and converts them to the appropriate {@link Map} type.
+     * Parses a sequence of XML elements and compiles a builder of the appropriate {@link Map} type.
      *
      * @param parser The XML parser
-     * @return Converted Map instance
+     * @return Builder of Map instances
      */
-    private Map<String, Object> parseMap(final MXParser parser, final TypeLiteral<?> toType) throws Exception {
-        @SuppressWarnings("unchecked")
-        final Map<String, Object> map = newImplementation(parser, HashMap.class);
+    @SuppressWarnings("unchecked")
+    private static ValueBuilder compileMap(
+            final MXParser parser, final TypeLiteral<?> toType, final boolean[] cacheable) throws Exception {
+        final Class<?> clazz = implementation(parser, HashMap.class, cacheable);
+        final List<String> keys = new ArrayList<>();
+        final List<ValueBuilder> values = new ArrayList<>();
         while (parser.nextTag() == XmlPullParser.START_TAG) {
-            map.put(parser.getName(), parse(parser, toType));
+            keys.add(parser.getName());
+            values.add(compile(parser, toType, cacheable));
         }
-        return map;
+        return converter -> {
+            final Map<String, Object> map = (Map<String, Object>) newImplementation(clazz);
+            for (int i = 0, size = keys.size(); i < size; i++) {
+                map.put(keys.get(i), values.get(i).build(converter));
+            }
+            return map;
+        };
     }
 
     /**
-     * Parses a sequence of XML elements and converts them to the appropriate {@link Collection} type.
+     * Parses a sequence of XML elements and compiles a builder of the appropriate {@link Collection} type.
      *
      * @param parser The XML parser
-     * @return Converted Collection instance
+     * @return Builder of Collection instances
      */
-    private Collection<Object> parseCollection(final MXParser parser, final TypeLiteral<?> toType) throws Exception {
-        @SuppressWarnings("unchecked")
-        final Collection<Object> collection = newImplementation(parser, ArrayList.class);
-        while (parser.nextTag() == XmlPullParser.START_TAG) {
-            collection.add(parse(parser, toType));
-        }
-        return collection;
+    @SuppressWarnings("unchecked")
+    private static ValueBuilder compileCollection(
+            final MXParser parser, final TypeLiteral<?> toType, final boolean[] cacheable) throws Exception {
+        final Class<?> clazz = implementation(parser, ArrayList.class, cacheable);
+        final List<ValueBuilder> elements = compileElements(parser, toType, cacheable);
+        return converter -> {
+            final Collection<Object> collection = (Collection<Object>) newImplementation(clazz);
+            for (final ValueBuilder element : elements) {
+                collection.add(element.build(converter));
+            }
+            return collection;
+        };
     }
 
     /**
-     * Parses a sequence of XML elements and converts them to the appropriate array type.
+     * Parses a sequence of XML elements and compiles a builder of the appropriate array type.
      *
      * @param parser The XML parser
-     * @return Converted array instance
+     * @return Builder of array instances
      */
-    private Object parseArray(final MXParser parser, final TypeLiteral<?> toType) throws Exception {
-        // convert to a collection first then convert that into an array
-        final Collection<?> collection = parseCollection(parser, toType);
-        final Object array = Array.newInstance(toType.getRawType(), collection.size());
-
-        int i = 0;
-        for (final Object element : collection) {
-            Array.set(array, i++, element);
-        }
+    private static ValueBuilder compileArray(
+            final MXParser parser, final TypeLiteral<?> toType, final boolean[] cacheable) throws Exception {
+        // like collections, arrays may name a custom implementation even though it's not used
+        implementation(parser, ArrayList.class, cacheable);
+        final List<ValueBuilder> elements = compileElements(parser, toType, cacheable);
+        final Class<?> componentType = toType.getRawType();
+        return converter -> {
+            final Object array = Array.newInstance(componentType, elements.size());
+            for (int i = 0, size = elements.size(); i < size; i++) {
+                Array.set(array, i, elements.get(i).build(converter));
+            }
+            return array;
+        };
+    }
 
-        return array;
+    /**
+     * Parses a sequence of XML elements and compiles builders for each one.
+     *
+     * @param parser The XML parser
+     * @return Element builders
+     */
+    private static List<ValueBuilder> compileElements(
+            final MXParser parser, final TypeLiteral<?> toType, final boolean[] cacheable) throws Exception {
+        final List<ValueBuilder> elements = new ArrayList<>();
+        while (parser.nextTag() == XmlPullParser.START_TAG) {
+            elements.add(compile(parser, toType, cacheable));
+        }
+        return elements;
     }
 
     /**
-     * Parses a sequence of XML elements and converts them to the appropriate bean type.
+     * Parses a sequence of XML elements and compiles a builder of the appropriate bean type.
      *
      * @param parser The XML parser
-     * @return Converted bean instance
+     * @return Builder of bean instances
      */
-    private Object parseBean(final MXParser parser, final TypeLiteral<?> toType, final Class<?> rawType)
+    private static ValueBuilder compileBean(
+            final MXParser parser, final TypeLiteral<?> toType, final Class<?> rawType, final boolean[] cacheable)
             throws Exception {
-        final Class<?> clazz = loadImplementation(parseImplementation(parser), rawType);
+        final Class<?> clazz = implementation(parser, rawType, cacheable);
 
         // simple bean? assumes string constructor
         if (parser.next() == XmlPullParser.TEXT) {
@@ -219,7 +373,12 @@ public final class PlexusXmlBeanConverter implements PlexusBeanConverter {
 
             // confirm element doesn't contain nested XML
             if (parser.next() != XmlPullParser.START_TAG) {
-                return convertText(text, clazz == rawType ? toType : TypeLiteral.get(clazz));
+                final TypeLiteral<?> textType = clazz == rawType ? toType : TypeLiteral.get(clazz);
+                if (clazz.isAssignableFrom(String.class)) {
+                    final String trimmed = text.trim();
+                    return converter -> trimmed; // strings are immutable, so can be shared
+                }
+                return converter -> converter.convertText(text, textType);
             }
         }
 
@@ -231,11 +390,9 @@ public final class PlexusXmlBeanConverter implements PlexusBeanConverter {
                 parser.skipSubTree();
                 parser.nextTag();
             }
-            return "";
+            return converter -> "";
         }
 
-        final Object bean = newImplementation(clazz);
-
         // build map of all known bean properties belonging to the chosen implementation
         final Map<String, BeanProperty<Object>> propertyMap = new HashMap<>();
         for (final BeanProperty<Object> property : new BeanProperties(clazz)) {
@@ -245,18 +402,44 @@ public final class PlexusXmlBeanConverter implements PlexusBeanConverter {
             }
         }
 
+        final List<BeanProperty<Object>> properties = new ArrayList<>();
+        final List<ValueBuilder> values = new ArrayList<>();
         while (parser.getEventType() == XmlPullParser.START_TAG) {
-            // update properties inside the bean, guided by the cached property map
+            // compile properties inside the bean, guided by the cached property map
             final BeanProperty<Object> property = propertyMap.get(Roles.camelizeName(parser.getName()));
             if (property != null) {
-                property.set(bean, parse(parser, property.getType()));
+                properties.add(property);
+                values.add(compile(parser, property.getType(), cacheable));
                 parser.nextTag();
             } else {
                 throw new XmlPullParserException("Unknown bean property: " + parser.getName(), parser, null);
             }
         }
 
-        return bean;
+        return converter -> {
+            final Object bean = newImplementation(clazz);
+            for (int i = 0, size = properties.size(); i < size; i++) {
+                properties.get(i).set(bean, values.get(i).build(converter));
+            }
+            return bean;
+        };
+    }
+
+    /**
+     * Determines the implementation named in the current XML element, or the default if no name is given.
+     *
+     * @param parser The XML parser
+     * @param defaultClazz The default implementation type
+     * @param cacheable Set to {@code false} if a custom implementation was named
+     * @return Custom implementation type if one was given; otherwise default implementation type
+     */
+    private static Class<?> implementation(
+            final XmlPullParser parser, final Class<?> defaultClazz, final boolean[] cacheable) {
+        final String name = parseImplementation(parser);
+        if (null != name) {
+            cacheable[0] = false; // custom implementations are loaded from the calling context
+        }
+        return loadImplementation(name, defaultClazz);
     }
 
     /**
@@ -339,18 +522,6 @@ public final class PlexusXmlBeanConverter implements PlexusBeanConverter {
         }
     }
 
-    /**
-     * Creates an instance of the implementation named in the current XML element, or the default if no name is given.
-     *
-     * @param parser The XML parser
-     * @param defaultClazz The default implementation type
-     * @return Instance of custom implementation if one was given; otherwise instance of default type
-     */
-    @SuppressWarnings("unchecked")
-    private static <T> T newImplementation(final XmlPullParser parser, final Class<T> defaultClazz) {
-        return (T) newImplementation(loadImplementation(parseImplementation(parser), defaultClazz));
-    }
-
     /**
      * Converts the given string to the target type, using {@link TypeConverter}s registered with the {@link Injector}.
      *
@@ -379,4 +550,16 @@ public final class PlexusXmlBeanConverter implements PlexusBeanConverter {
         // last chance => attempt to create an instance of the expected type: use the string if non-empty
         return text.length() == 0 ? newImplementation(rawType) : newImplementation(rawType, text);
     }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Compiled XML conversion; each call builds a new instance without re-parsing the XML. Text values are converted
+     * by the calling converter, so compilations can be shared between converters with different type converters.
+     */
+    private interface ValueBuilder {
+        Object build(PlexusXmlBeanConverter converter);
+    }
 }
@@ -0,0 +1,545 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.plexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import org.codehaus.plexus.util.IOUtil;
+import org.codehaus.plexus.util.ReaderFactory;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.eclipse.sisu.inject.Logs;
+import org.eclipse.sisu.inject.Soft;
+import org.eclipse.sisu.space.Streams;
+
+/**
+ * Parsed {@code components.xml} records; cached by content digest, independent of any filter variables.
+ * <p>
+ * Records may also be precompiled at build time into a sibling {@code components.xml.sisu} resource, which is used
+ * instead of parsing when its recorded digest still matches the XML.
+ */
+final class PlexusXmlDescriptors {
+    // ----------------------------------------------------------------------
+    // Static initialization
+    // ----------------------------------------------------------------------
+
+    static {
+        File cacheDir;
+        try {
+            final String path = System.getProperty("sisu.plexus.descriptor.cache");
+            cacheDir = null != path && path.length() > 0 ? new File(path) : null;
+        } catch (final RuntimeException e) {
+            cacheDir = null;
+        }
+        CACHE_DIR = cacheDir;
+    }
+
+    // ----------------------------------------------------------------------
+    // Constants
+    // ----------------------------------------------------------------------
+
+    private static final File CACHE_DIR;
+
+    static final int FORMAT = 0x53495355 + 1; // "SISU" + version; bump when the record layout changes
+
+    static final String PRECOMPILED_SUFFIX = ".sisu";
+
+    private static final ConcurrentMap<String, PlexusXmlDescriptors> CACHE = Soft.concurrentValues();
+
+    // ----------------------------------------------------------------------
+    // Implementation fields
+    // ----------------------------------------------------------------------
+
+    final List<ComponentRecord> components;
+
+    final String problem;
+
+    // ----------------------------------------------------------------------
+    // Constructors
+    // ----------------------------------------------------------------------
+
+    PlexusXmlDescriptors(final List<ComponentRecord> components, final String problem) {
+        this.components = components;
+        this.problem = problem;
+    }
+
+    // ----------------------------------------------------------------------
+    // Locally-shared methods
+    // ----------------------------------------------------------------------
+
+    /**
+     * Returns the parsed records for the given {@code components.xml}; reuses earlier results when the resource has
+     * the same content as before. Otherwise prefers an up-to-date precompiled descriptor, falling back to parsing the
+     * XML.
+     *
+     * @param url The components.xml URL
+     * @return Parsed records
+     */
+    static PlexusXmlDescriptors load(final URL url) throws IOException {
+        final byte[] content = read(url);
+        final String digest = digestOf(content);
+        PlexusXmlDescriptors descriptors = lookup(digest);
+        if (null == descriptors) {
+            descriptors = precompiled(url, digest);
+            if (null == descriptors) {
+                descriptors = parse(content);
+            }
+            CACHE.put(digest, descriptors);
+            if (null != CACHE_DIR) {
+                store(CACHE_DIR, digest, descriptors);
+            }
+        }
+        return descriptors;
+    }
+
+    /**
+     * Parses a &lt;component&gt; XML stanza into a record; values are left uninterpolated.
+     *
+     * @param parser The XML parser
+     * @return Component record
+     */
+    static ComponentRecord parseComponent(final MXParser parser) throws XmlPullParserException, IOException {
+        String role = null;
+        String hint = "";
+        String instantiationStrategy = Strategies.SINGLETON;
+        String description = "";
+
+        String implementation = null;
+
+        final List<RequirementRecord> requirements = new ArrayList<>();
+        final List<ConfigurationRecord> configurations = new ArrayList<>();
+
+        parser.require(XmlPullParser.START_TAG, null, "component");
+
+        while (parser.nextTag() == XmlPullParser.START_TAG) {
+            final String name = parser.getName();
+            if ("requirements".equals(name)) {
+                while (parser.nextTag() == XmlPullParser.START_TAG) {
+                    requirements.add(parseRequirement(parser));
+                }
+            } else if ("configuration".equals(name)) {
+                while (parser.nextTag() == XmlPullParser.START_TAG) {
+                    configurations.add(parseConfiguration(parser));
+                }
+            } else if ("role".equals(name)) {
+                role = TEXT(parser);
+            } else if ("role-hint".equals(name)) {
+                hint = TEXT(parser);
+            } else if ("instantiation-strategy".equals(name)) {
+                instantiationStrategy = TEXT(parser);
+            } else if ("description".equals(name)) {
+                description = TEXT(parser);
+            } else if ("implementation".equals(name)) {
+                implementation = TEXT(parser);
+            } else {
+                parser.skipSubTree();
+            }
+        }
+
+        if (null == implementation) {
+            throw new XmlPullParserException("Missing <implementation> element.", parser, null);
+        }
+
+        return new ComponentRecord(
+                role, hint, instantiationStrategy, description, implementation, requirements, configurations);
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation methods
+    // ----------------------------------------------------------------------
+
+    static PlexusXmlDescriptors parse(final byte[] content) {
+        final List<ComponentRecord> components = new ArrayList<>();
+        String problem = null;
+        try {
+            final MXParser parser = new MXParser();
+            parser.setInput(ReaderFactory.newXmlReader(new ByteArrayInputStream(content)));
+
+            parser.nextTag();
+            parser.require(XmlPullParser.START_TAG, null, null); // this may be <component-set> or <plexus>
+            parser.nextTag();
+            parser.require(XmlPullParser.START_TAG, null, "components");
+
+            while (parser.nextTag() == XmlPullParser.START_TAG) {
+                components.add(parseComponent(parser));
+            }
+        } catch (final Exception e) {
+            problem = String.valueOf(e); // components parsed so far are still used, as before
+        }
+        return new PlexusXmlDescriptors(Collections.unmodifiableList(components), problem);
+    }
+
+    private static RequirementRecord parseRequirement(final MXParser parser)
+            throws XmlPullParserException, IOException {
+        String role = null;
+        final List<String> hints = new ArrayList<>();
+        String fieldName = null;
+        String optional = "false";
+
+        parser.require(XmlPullParser.START_TAG, null, "requirement");
+
+        while (parser.nextTag() == XmlPullParser.START_TAG) {
+            final String name = parser.getName();
+            if ("role".equals(name)) {
+                role = TEXT(parser);
+            } else if ("role-hint".equals(name)) {
+                hints.add(TEXT(parser));
+            } else if ("role-hints".equals(name)) {
+                while (parser.nextTag() == XmlPullParser.START_TAG) {
+                    hints.add(TEXT(parser));
+                }
+            } else if ("field-name".equals(name)) {
+                fieldName = TEXT(parser);
+            } else if ("optional".equals(name)) {
+                optional = TEXT(parser);
+            } else {
+                parser.skipSubTree();
+            }
+        }
+
+        if (null == role) {
+            throw new XmlPullParserException("Missing <role> element.", parser, null);
+        }
+
+        return new RequirementRecord(role, hints, fieldName, optional);
+    }
+
+    private static ConfigurationRecord parseConfiguration(final MXParser parser)
+            throws XmlPullParserException, IOException {
+        final String name = parser.getName();
+        final StringBuilder buf = new StringBuilder();
+
+        final String header = parser.getText().trim();
+        final int depth = parser.getDepth();
+
+        while (parser.next() != XmlPullParser.END_TAG || parser.getDepth() > depth) {
+            // combine children into single string
+            buf.append(parser.getText().trim());
+        }
+
+        // add header+footer when there's nested XML or attributes
+        if (buf.indexOf("<") == 0 || header.indexOf('=') > 0) {
+            buf.insert(0, header);
+            if (!header.endsWith("/>")) {
+                // follow up with basic footer
+                buf.append("</" + name + '>');
+            }
+        }
+
+        return new ConfigurationRecord(name, buf.toString());
+    }
+
+    private static String TEXT(final XmlPullParser parser) throws XmlPullParserException, IOException {
+        return parser.nextText().trim();
+    }
+
+    private static PlexusXmlDescriptors lookup(final String key) {
+        PlexusXmlDescriptors descriptors = CACHE.get(key);
+        if (null == descriptors && null != CACHE_DIR) {
+            descriptors = restore(CACHE_DIR, key);
+            if (null != descriptors) {
+                CACHE.putIfAbsent(key, descriptors);
+            }
+        }
+        return descriptors;
+    }
+
+    private static byte[] read(final URL url) throws IOException {
+        try (InputStream in = Streams.open(url)) {
+            return IOUtil.toByteArray(in);
+        }
+    }
+
+    static String digestOf(final byte[] content) {
+        try {
+            final StringBuilder buf = new StringBuilder("sha-256:");
+            for (final byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+                buf.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return buf.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            return new String(content, StandardCharsets.UTF_8);
+        }
+    }
+
+    static File cacheFile(final File cacheDir, final String key) {
+        final String digest = digestOf(key.getBytes(StandardCharsets.UTF_8));
+        return new File(cacheDir, digest.substring(digest.indexOf(':') + 1) + ".cache");
+    }
+
+    static void store(final File cacheDir, final String key, final PlexusXmlDescriptors descriptors) {
+        try {
+            Files.createDirectories(cacheDir.toPath());
+            final File tempFile = File.createTempFile("descriptors", ".tmp", cacheDir);
+            try {
+                Files.write(tempFile.toPath(), encode(key, descriptors));
+                Files.move(tempFile.toPath(), cacheFile(cacheDir, key).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile.toPath()); // only left behind when the move failed
+            }
+        } catch (final IOException | RuntimeException e) {
+            Logs.trace("Problem caching: {}", key, e);
+        }
+    }
+
+    static PlexusXmlDescriptors restore(final File cacheDir, final String key) {
+        final File cacheFile = cacheFile(cacheDir, key);
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try {
+            return decode(key, Files.readAllBytes(cacheFile.toPath())); // null for different format or collision
+        } catch (final IOException | RuntimeException e) {
+            Logs.trace("Problem restoring: {}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * Loads the precompiled descriptor alongside the given {@code components.xml}, as long as it's up-to-date.
+     *
+     * @param url The components.xml URL
+     * @param digest The components.xml digest
+     * @return Precompiled records; {@code null} if there are none or they're stale
+     */
+    private static PlexusXmlDescriptors precompiled(final URL url, final String digest) {
+        final URL precompiledURL;
+        final byte[] data;
+        try {
+            precompiledURL = new URL(url.toExternalForm() + PRECOMPILED_SUFFIX);
+            data = read(precompiledURL);
+        } catch (final IOException e) { // NOPMD
+            return null; // no precompiled descriptor
+        }
+        try {
+            final PlexusXmlDescriptors descriptors = decode(digest, data);
+            if (null == descriptors) {
+                Logs.trace("Ignoring stale descriptor: {}", precompiledURL, null);
+            }
+            return descriptors;
+        } catch (final IOException | RuntimeException e) {
+            Logs.trace("Problem reading: {}", precompiledURL, e);
+            return null;
+        }
+    }
+
+    /**
+     * Encodes the given records; the key identifies the source they were parsed from.
+     *
+     * @param key The source key
+     * @param descriptors The parsed records
+     * @return Encoded records
+     */
+    static byte[] encode(final String key, final PlexusXmlDescriptors descriptors) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(FORMAT);
+        writeString(out, key);
+        writeString(out, descriptors.problem);
+        out.writeInt(descriptors.components.size());
+        for (final ComponentRecord component : descriptors.components) {
+            component.writeTo(out);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes records previously encoded with the same key.
+     *
+     * @param key The expected source key
+     * @param data The encoded records
+     * @return Decoded records; {@code null} if the format or key doesn't match
+     */
+    static PlexusXmlDescriptors decode(final String key, final byte[] data) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (FORMAT != in.readInt() || !key.equals(readString(in))) {
+            return null;
+        }
+        final String problem = readString(in);
+        final int size = in.readInt();
+        final List<ComponentRecord> components = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            components.add(ComponentRecord.readFrom(in));
+        }
+        return new PlexusXmlDescriptors(Collections.unmodifiableList(components), problem);
+    }
+
+    static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (null == value) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    static String readString(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeStrings(final DataOutputStream out, final List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (final String v : values) {
+            writeString(out, v);
+        }
+    }
+
+    static List<String> readStrings(final DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        final List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    // ----------------------------------------------------------------------
+    // Implementation types
+    // ----------------------------------------------------------------------
+
+    /**
+     * Uninterpolated &lt;component&gt; record.
+     */
+    static final class ComponentRecord {
+        final String role;
+
+        final String hint;
+
+        final String instantiationStrategy;
+
+        final String description;
+
+        final String implementation;
+
+        final List<RequirementRecord> requirements;
+
+        final List<ConfigurationRecord> configurations;
+
+        ComponentRecord(
+                final String role,
+                final String hint,
+                final String instantiationStrategy,
+                final String description,
+                final String implementation,
+                final List<RequirementRecord> requirements,
+                final List<ConfigurationRecord> configurations) {
+            this.role = role;
+            this.hint = hint;
+            this.instantiationStrategy = instantiationStrategy;
+            this.description = description;
+            this.implementation = implementation;
+            this.requirements = requirements;
+            this.configurations = configurations;
+        }
+
+        void writeTo(final DataOutputStream out) throws IOException {
+            writeString(out, role);
+            writeString(out, hint);
+            writeString(out, instantiationStrategy);
+            writeString(out, description);
+            writeString(out, implementation);
+            out.writeInt(requirements.size());
+            for (final RequirementRecord r : requirements) {
+                writeString(out, r.role);
+                writeStrings(out, r.hints);
+                writeString(out, r.fieldName);
+                writeString(out, r.optional);
+            }
+            out.writeInt(configurations.size());
+            for (final ConfigurationRecord c : configurations) {
+                writeString(out, c.name);
+                writeString(out, c.value);
+            }
+        }
+
+        static ComponentRecord readFrom(final DataInputStream in) throws IOException {
+            final String role = readString(in);
+            final String hint = readString(in);
+            final String instantiationStrategy = readString(in);
+            final String description = readString(in);
+            final String implementation = readString(in);
+            final int numRequirements = in.readInt();
+            final List<RequirementRecord> requirements = new ArrayList<>(numRequirements);
+            for (int i = 0; i < numRequirements; i++) {
+                final String requirementRole = readString(in);
+                final List<String> hints = readStrings(in);
+                requirements.add(new RequirementRecord(requirementRole, hints, readString(in), readString(in)));
+            }
+            final int numConfigurations = in.readInt();
+            final List<ConfigurationRecord> configurations = new ArrayList<>(numConfigurations);
+            for (int i = 0; i < numConfigurations; i++) {
+                configurations.add(new ConfigurationRecord(readString(in), readString(in)));
+            }
+            return new ComponentRecord(
+                    role, hint, instantiationStrategy, description, implementation, requirements, configurations);
+        }
+    }
+
+    /**
+     * Uninterpolated &lt;requirement&gt; record.
+     */
+    static final class RequirementRecord {
+        final String role;
+
+        final List<String> hints;
+
+        final String fieldName;
+
+        final String optional;
+
+        RequirementRecord(final String role, final List<String> hints, final String fieldName, final String optional) {
+            this.role = role;
+            this.hints = hints;
+            this.fieldName = fieldName;
+            this.optional = optional;
+        }
+    }
+
+    /**
+     * Uninterpolated &lt;configuration&gt; record.
+     */
+    static final class ConfigurationRecord {
+        final String name;
+
+        final String value;
+
+        ConfigurationRecord(final String name, final String value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+}
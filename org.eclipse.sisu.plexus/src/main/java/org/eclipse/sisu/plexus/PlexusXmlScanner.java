@@ -32,6 +32,9 @@ import org.codehaus.plexus.util.xml.pull.XmlPullParser;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.eclipse.sisu.inject.DeferredClass;
 import org.eclipse.sisu.inject.Logs;
+import org.eclipse.sisu.plexus.PlexusXmlDescriptors.ComponentRecord;
+import org.eclipse.sisu.plexus.PlexusXmlDescriptors.ConfigurationRecord;
+import org.eclipse.sisu.plexus.PlexusXmlDescriptors.RequirementRecord;
 import org.eclipse.sisu.space.ClassSpace;
 import org.eclipse.sisu.space.Streams;
 
@@ -148,28 +151,19 @@ final class PlexusXmlScanner {
     }
 
     /**
-     * Parses a {@code components.xml} resource into a series of Plexus bean metadata.
+     * Applies the (possibly cached) records from a {@code components.xml} resource as Plexus bean metadata.
      *
      * @param url The components.xml URL
      * @param registry The parsed components
      */
     private void parseComponentsXml(final URL url, final PlexusTypeRegistry registry) {
         try {
-            final InputStream in = Streams.open(url);
-            try {
-                final MXParser parser = new MXParser();
-                parser.setInput(filteredXmlReader(in, variables));
-
-                parser.nextTag();
-                parser.require(XmlPullParser.START_TAG, null, null); // this may be <component-set> or <plexus>
-                parser.nextTag();
-                parser.require(XmlPullParser.START_TAG, null, "components");
-
-                while (parser.nextTag() == XmlPullParser.START_TAG) {
-                    parseComponent(parser, registry);
-                }
-            } finally {
-                IOUtil.close(in);
+            final PlexusXmlDescriptors descriptors = PlexusXmlDescriptors.load(url);
+            for (final ComponentRecord component : descriptors.components) {
+                addComponent(component, registry, variables);
+            }
+            if (null != descriptors.problem) {
+                Logs.trace("Problem parsing: {}", url, descriptors.problem);
             }
         } catch (final Exception e) {
             Logs.trace("Problem parsing: {}", url, e);
@@ -216,52 +210,56 @@ final class PlexusXmlScanner {
      */
     private void parseComponent(final MXParser parser, final PlexusTypeRegistry registry)
             throws XmlPullParserException, IOException {
-        String role = null;
-        String hint = "";
-        String instantiationStrategy = Strategies.SINGLETON;
-        String description = "";
-
-        String implementation = null;
+        addComponent(PlexusXmlDescriptors.parseComponent(parser), registry, null /* already interpolated */);
+    }
 
+    /**
+     * Interpolates the given component record and adds it as a deferred implementation, configuration, and
+     * requirements.
+     *
+     * @param component The component record
+     * @param registry The parsed components
+     * @param variables The filter variables
+     */
+    private void addComponent(
+            final ComponentRecord component, final PlexusTypeRegistry registry, final Map<?, ?> variables) {
         final Map<String, Requirement> requirementMap = new HashMap<>();
         final Map<String, Configuration> configurationMap = new HashMap<>();
         final ClassSpace space = registry.getSpace();
 
-        parser.require(XmlPullParser.START_TAG, null, "component");
-
-        while (parser.nextTag() == XmlPullParser.START_TAG) {
-            final String name = parser.getName();
-            if ("requirements".equals(name)) {
-                while (parser.nextTag() == XmlPullParser.START_TAG) {
-                    parseRequirement(parser, space, requirementMap);
-                }
-            } else if ("configuration".equals(name)) {
-                while (parser.nextTag() == XmlPullParser.START_TAG) {
-                    parseConfiguration(parser, configurationMap);
-                }
-            } else if ("role".equals(name)) {
-                role = TEXT(parser).intern();
-            } else if ("role-hint".equals(name)) {
-                hint = TEXT(parser);
-            } else if ("instantiation-strategy".equals(name)) {
-                instantiationStrategy = TEXT(parser).intern();
-            } else if ("description".equals(name)) {
-                description = TEXT(parser);
-            } else if ("implementation".equals(name)) {
-                implementation = TEXT(parser).intern();
-            } else {
-                parser.skipSubTree();
+        for (final RequirementRecord requirement : component.requirements) {
+            final String role = interpolate(requirement.role, variables).intern();
+            final List<String> hintList = new ArrayList<>(requirement.hints.size());
+            for (final String h : requirement.hints) {
+                hintList.add(interpolate(h, variables));
+            }
+            String fieldName = interpolate(requirement.fieldName, variables);
+            if (null == fieldName) {
+                fieldName = role; // use fully-qualified role as the field name (see PlexusXmlMetadata)
             }
+            final boolean optional = Boolean.parseBoolean(interpolate(requirement.optional, variables));
+            requirementMap.put(
+                    fieldName,
+                    new RequirementImpl(space.deferLoadClass(role), optional, Hints.canonicalHints(hintList)));
         }
 
-        if (null == implementation) {
-            throw new XmlPullParserException("Missing <implementation> element.", parser, null);
-        }
-        if (null == role) {
-            role = implementation;
+        for (final ConfigurationRecord configuration : component.configurations) {
+            // make sure we have a valid Java identifier
+            final String fieldName = Roles.camelizeName(configuration.name);
+            final String value = interpolate(configuration.value, variables);
+            configurationMap.put(fieldName, new ConfigurationImpl(fieldName, value));
         }
 
-        implementation = registry.addComponent(role, hint, instantiationStrategy, description, implementation);
+        String implementation = interpolate(component.implementation, variables).intern();
+        final String role =
+                null != component.role ? interpolate(component.role, variables).intern() : implementation;
+
+        implementation = registry.addComponent(
+                role,
+                interpolate(component.hint, variables),
+                interpolate(component.instantiationStrategy, variables).intern(),
+                interpolate(component.description, variables),
+                implementation);
         if (null != implementation) {
             updatePlexusBeanMetadata(implementation, configurationMap, requirementMap);
         }
@@ -289,85 +287,89 @@ final class PlexusXmlScanner {
     }
 
     /**
-     * Parses a &lt;requirement&gt; XML stanza into a mapping from a field name to a @{@link Requirement}.
+     * Replaces <code>${name}</code> expressions in the given text with the matching filter variables; values are
+     * decoded and the result trimmed, as if they'd been filtered into the XML before it was parsed.
      *
-     * @param parser The XML parser
-     * @param space The class space
-     * @param requirementMap The field -> @{@link Requirement} map
+     * @param text The text
+     * @param variables The filter variables
+     * @return Interpolated text
      */
-    private static void parseRequirement(
-            final MXParser parser, final ClassSpace space, final Map<String, Requirement> requirementMap)
-            throws XmlPullParserException, IOException {
-        String role = null;
-        final List<String> hintList = new ArrayList<>();
-        String fieldName = null;
-        boolean optional = false;
-
-        parser.require(XmlPullParser.START_TAG, null, "requirement");
-
-        while (parser.nextTag() == XmlPullParser.START_TAG) {
-            final String name = parser.getName();
-            if ("role".equals(name)) {
-                role = TEXT(parser).intern();
-            } else if ("role-hint".equals(name)) {
-                hintList.add(TEXT(parser));
-            } else if ("role-hints".equals(name)) {
-                while (parser.nextTag() == XmlPullParser.START_TAG) {
-                    hintList.add(TEXT(parser));
-                }
-            } else if ("field-name".equals(name)) {
-                fieldName = TEXT(parser);
-            } else if ("optional".equals(name)) {
-                optional = Boolean.parseBoolean(TEXT(parser));
+    private static String interpolate(final String text, final Map<?, ?> variables) {
+        if (null == variables || null == text || text.indexOf("${") < 0) {
+            return text;
+        }
+        final StringBuilder buf = new StringBuilder(text.length());
+        int i = 0;
+        for (int start; (start = text.indexOf("${", i)) >= 0; ) {
+            final int end = text.indexOf('}', start + 2);
+            if (end < 0) {
+                break;
+            }
+            final Object value = variables.get(text.substring(start + 2, end));
+            if (null != value) {
+                buf.append(text, i, start).append(decodeEntities(value.toString()));
             } else {
-                parser.skipSubTree();
+                buf.append(text, i, end + 1);
             }
+            i = end + 1;
         }
-
-        if (null == role) {
-            throw new XmlPullParserException("Missing <role> element.", parser, null);
-        }
-
-        if (null == fieldName) {
-            fieldName = role; // use fully-qualified role as the field name (see PlexusXmlMetadata)
-        }
-
-        requirementMap.put(
-                fieldName, new RequirementImpl(space.deferLoadClass(role), optional, Hints.canonicalHints(hintList)));
+        return buf.append(text, i, text.length()).toString().trim();
     }
 
     /**
-     * Parses a &lt;configuration&gt; XML stanza into a mapping from a field name to a @{@link Configuration}.
+     * Decodes predefined XML entities and character references in the given value.
      *
-     * @param parser The XML parser
-     * @param configurationMap The field -> @{@link Configuration} map
+     * @param value The value
+     * @return Decoded value
      */
-    private static void parseConfiguration(final MXParser parser, final Map<String, Configuration> configurationMap)
-            throws XmlPullParserException, IOException {
-        final String name = parser.getName();
-
-        // make sure we have a valid Java identifier
-        final String fieldName = Roles.camelizeName(name);
-        final StringBuilder buf = new StringBuilder();
-
-        final String header = parser.getText().trim();
-        final int depth = parser.getDepth();
-
-        while (parser.next() != XmlPullParser.END_TAG || parser.getDepth() > depth) {
-            // combine children into single string
-            buf.append(parser.getText().trim());
+    private static String decodeEntities(final String value) {
+        int amp = value.indexOf('&');
+        if (amp < 0) {
+            return value;
         }
-
-        // add header+footer when there's nested XML or attributes
-        if (buf.indexOf("<") == 0 || header.indexOf('=') > 0) {
-            buf.insert(0, header);
-            if (!header.endsWith("/>")) {
-                // follow up with basic footer
-                buf.append("</" + name + '>');
+        final StringBuilder buf = new StringBuilder(value.length());
+        int i = 0;
+        for (; amp >= 0; amp = value.indexOf('&', i)) {
+            final int semi = value.indexOf(';', amp + 1);
+            if (semi < 0) {
+                break;
+            }
+            final String entity = value.substring(amp + 1, semi);
+            final String decoded;
+            if ("amp".equals(entity)) {
+                decoded = "&";
+            } else if ("lt".equals(entity)) {
+                decoded = "<";
+            } else if ("gt".equals(entity)) {
+                decoded = ">";
+            } else if ("quot".equals(entity)) {
+                decoded = "\"";
+            } else if ("apos".equals(entity)) {
+                decoded = "'";
+            } else {
+                decoded = decodeCharRef(entity);
+            }
+            if (null != decoded) {
+                buf.append(value, i, amp).append(decoded);
+            } else {
+                buf.append(value, i, semi + 1);
             }
+            i = semi + 1;
         }
+        return buf.append(value, i, value.length()).toString();
+    }
 
-        configurationMap.put(fieldName, new ConfigurationImpl(fieldName, buf.toString()));
+    private static String decodeCharRef(final String entity) {
+        if (entity.length() > 1 && entity.charAt(0) == '#') {
+            try {
+                final boolean hex = entity.charAt(1) == 'x';
+                final int codePoint = Integer.parseInt(entity.substring(hex ? 2 : 1), hex ? 16 : 10);
+                return new String(Character.toChars(codePoint));
+            } catch (final IllegalArgumentException e) { // NOPMD
+                // leave as-is
+            }
+        }
+        return null;
     }
 
     /**
@@ -20,10 +20,12 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import org.codehaus.plexus.classworlds.ClassWorldListener;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.eclipse.sisu.BeanEntry;
+import org.eclipse.sisu.inject.BindingPublisher;
 import org.eclipse.sisu.inject.InjectorBindings;
 import org.eclipse.sisu.inject.MutableBeanLocator;
 
@@ -58,10 +60,15 @@ public final class RealmManager implements ClassWorldListener {
 
     private final ConcurrentMap<ClassRealm, Set<String>> visibility = new ConcurrentHashMap<>(16, 0.75f, 1);
 
-    private final ConcurrentMap<ClassRealm, Injector> injectors = new ConcurrentHashMap<>(16, 0.75f, 1);
+    private final ConcurrentMap<ClassRealm, Predicate<BeanEntry<?, ?>>> predicates =
+            new ConcurrentHashMap<>(16, 0.75f, 1);
+
+    private final ConcurrentMap<ClassRealm, BindingPublisher> publishers = new ConcurrentHashMap<>(16, 0.75f, 1);
 
     private final MutableBeanLocator beanLocator;
 
+    private final AtomicLong realmGeneration = new AtomicLong();
+
     // ----------------------------------------------------------------------
     // Constructors
     // ----------------------------------------------------------------------
@@ -87,17 +94,48 @@ public final class RealmManager implements ClassWorldListener {
     }
 
     /**
-     * Returns {@link Predicate} for realm visibility filtering, or {@code null} if not applicable.
+     * Returns {@link Predicate} for realm visibility filtering, or {@code null} if not applicable. The same predicate
+     * is returned for the same context realm, so results filtered by it can be cached.
      */
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public <Q extends Annotation, T> Predicate<BeanEntry<Q, T>> visibilityPredicate() {
-        final Set<String> realmNames = visibleRealmNames(contextRealm());
-        if (null != realmNames && !realmNames.isEmpty()) {
-            return beanEntry -> {
-                final String source = String.valueOf(beanEntry.getSource());
-                return !source.startsWith("ClassRealm") || realmNames.contains(source);
-            };
+        final ClassRealm contextRealm = contextRealm();
+        Predicate predicate = null != contextRealm ? predicates.get(contextRealm) : null;
+        if (null == predicate) {
+            final Set<String> realmNames = visibleRealmNames(contextRealm);
+            if (null != realmNames && !realmNames.isEmpty()) {
+                predicate = (Predicate<BeanEntry<?, ?>>) beanEntry -> {
+                    final Object partition = realmPartition(beanEntry.getSource());
+                    return null == partition || realmNames.contains(partition);
+                };
+                final Predicate oldPredicate = predicates.putIfAbsent(contextRealm, predicate);
+                if (null != oldPredicate) {
+                    predicate = oldPredicate;
+                }
+            }
         }
-        return null;
+        return predicate;
+    }
+
+    /**
+     * Returns the realm partitions visible from the current context realm, or {@code null} if not applicable.
+     *
+     * @see #realmPartition(Object)
+     */
+    public Set<String> visibleRealmPartitions() {
+        final Set<String> realmNames = visibleRealmNames(contextRealm());
+        return null != realmNames && !realmNames.isEmpty() ? realmNames : null;
+    }
+
+    /**
+     * Maps a binding source to its realm partition, which is the name of the originating {@link ClassRealm}.
+     *
+     * @param source The binding source
+     * @return Realm partition; {@code null} if the source didn't come from a realm
+     */
+    public static Object realmPartition(final Object source) {
+        final String name = String.valueOf(source);
+        return name.startsWith("ClassRealm") ? name : null;
     }
 
     /**
@@ -121,7 +159,7 @@ public final class RealmManager implements ClassWorldListener {
      * @return {@code true} if the realm is already managed, otherwise {@code false}
      */
     public boolean isManaged(final ClassRealm realm) {
-        return injectors.containsKey(realm);
+        return publishers.containsKey(realm);
     }
 
     /**
@@ -131,20 +169,42 @@ public final class RealmManager implements ClassWorldListener {
      * @param injector The injector
      */
     public void manage(final ClassRealm realm, final Injector injector) {
-        injectors.putIfAbsent(realm, injector);
+        manage(realm, new InjectorBindings(injector, null /* unused */));
+    }
+
+    /**
+     * Manages the association between the given realm and its publisher, which may create its injector later on.
+     *
+     * @param realm The realm
+     * @param publisher The publisher
+     */
+    public void manage(final ClassRealm realm, final BindingPublisher publisher) {
+        publishers.putIfAbsent(realm, publisher);
+        realmGeneration.incrementAndGet(); // realm should now be fully populated
+    }
+
+    /**
+     * Returns the current realm generation; this changes whenever realms are created, disposed, or newly managed.
+     *
+     * @return Current realm generation
+     */
+    public long realmGeneration() {
+        return realmGeneration.get();
     }
 
     @Override
     public void realmCreated(final ClassRealm realm) {
-        // nothing to do
+        realmGeneration.incrementAndGet();
     }
 
     @Override
     public void realmDisposed(final ClassRealm realm) {
+        realmGeneration.incrementAndGet();
         visibility.remove(realm);
-        final Injector injector = injectors.remove(realm);
-        if (null != injector) {
-            beanLocator.remove(new InjectorBindings(injector, null /* unused */));
+        predicates.remove(realm);
+        final BindingPublisher publisher = publishers.remove(realm);
+        if (null != publisher) {
+            beanLocator.remove(publisher);
         }
     }
 
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.codehaus.plexus.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
+import org.codehaus.plexus.configuration.xml.Xpp3DomPlexusConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.jupiter.api.Test;
+
+class CompactPlexusConfigurationTest {
+    @Test
+    void testDomView() {
+        final Xpp3Dom dom = sampleDom();
+        final PlexusConfiguration view = new Xpp3DomPlexusConfiguration(dom);
+
+        checkSample(view);
+
+        // view is live and shares the underlying DOM
+        dom.getChild("name").setValue("updated");
+        assertEquals("updated", view.getChild("name").getValue());
+
+        assertThrows(UnsupportedOperationException.class, () -> view.addChild("extra", "value"));
+        assertNull(view.getChild("missing", false));
+        assertEquals(2, view.getChildCount());
+
+        // children are captured on first use, so the count always agrees with them
+        dom.addChild(new Xpp3Dom("late"));
+        assertEquals(2, view.getChildCount());
+        assertEquals(view.getChildren().length, view.getChildCount());
+        assertNull(view.getChild("late", false));
+    }
+
+    @Test
+    void testCompactCopy() {
+        final PlexusConfiguration compact = CompactPlexusConfiguration.copyOf(new XmlPlexusConfiguration(sampleDom()));
+
+        checkSample(compact);
+
+        assertSame(compact, CompactPlexusConfiguration.copyOf(compact));
+        assertEquals(new XmlPlexusConfiguration(sampleDom()).toString(), compact.toString());
+
+        assertThrows(UnsupportedOperationException.class, () -> compact.setValue("value"));
+        assertThrows(UnsupportedOperationException.class, () -> compact.setAttribute("key", "value"));
+        assertNull(compact.getChild("missing", false));
+        assertEquals("missing", compact.getChild("missing").getName());
+        assertEquals(2, compact.getChildCount());
+
+        final PlexusConfiguration[] items = compact.getChild("items").getChildren("item");
+        assertEquals(3, items.length);
+        assertArrayEquals(items[0].getAttributeNames(), items[2].getAttributeNames());
+    }
+
+    private static void checkSample(final PlexusConfiguration configuration) {
+        assertEquals("configuration", configuration.getName());
+        assertEquals("bar", configuration.getAttribute("foo"));
+        assertEquals("default", configuration.getAttribute("missing", "default"));
+        assertArrayEquals(new String[] {"foo"}, configuration.getAttributeNames());
+
+        assertEquals("sample", configuration.getChild("name").getValue());
+        assertEquals("sample", configuration.getChild(0).getValue());
+
+        final PlexusConfiguration items = configuration.getChild("items");
+        assertEquals(3, items.getChildCount());
+        assertEquals(3, items.getChildren("item").length);
+        assertEquals(0, items.getChildren("other").length);
+        for (int i = 0; i < 3; i++) {
+            assertEquals("item" + i, items.getChild(i).getValue());
+            assertEquals(Integer.toString(i), items.getChild(i).getAttribute("index"));
+        }
+    }
+
+    private static Xpp3Dom sampleDom() {
+        final Xpp3Dom dom = new Xpp3Dom("configuration");
+        dom.setAttribute("foo", "bar");
+
+        final Xpp3Dom name = new Xpp3Dom("name");
+        name.setValue("sample");
+        dom.addChild(name);
+
+        final Xpp3Dom items = new Xpp3Dom("items");
+        for (int i = 0; i < 3; i++) {
+            final Xpp3Dom item = new Xpp3Dom("item");
+            item.setAttribute("index", Integer.toString(i));
+            item.setValue("item" + i);
+            items.addChild(item);
+        }
+        dom.addChild(items);
+        return dom;
+    }
+}
@@ -7,11 +7,14 @@
 package org.eclipse.sisu.plexus;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
+import java.lang.ref.WeakReference;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -24,6 +27,7 @@ import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -33,9 +37,13 @@ import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.codehaus.plexus.component.configurator.BasicComponentConfigurator;
 import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
 import org.codehaus.plexus.component.configurator.ComponentConfigurator;
+import org.codehaus.plexus.component.configurator.converters.basic.StringConverter;
+import org.codehaus.plexus.component.configurator.converters.lookup.DefaultConverterLookup;
 import org.codehaus.plexus.component.configurator.expression.DefaultExpressionEvaluator;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.codehaus.plexus.component.configurator.expression.ExpressionTemplate;
+import org.codehaus.plexus.component.configurator.expression.TemplateExpressionEvaluator;
 import org.codehaus.plexus.component.configurator.expression.TypeAwareExpressionEvaluator;
 import org.codehaus.plexus.configuration.DefaultPlexusConfiguration;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
@@ -108,6 +116,71 @@ class BasicComponentConfiguratorTest {
         assertEquals("hello world", component.custom.toString());
     }
 
+    @Test
+    void testBasicConvertersPassNullTypeToTypeAwareEvaluator() throws ComponentConfigurationException {
+        List<Class<?>> types = new ArrayList<>();
+        ExpressionEvaluator evaluator = new TypeAwareExpressionEvaluator() {
+            @Override
+            public Object evaluate(String expression, Class<?> type) throws ExpressionEvaluationException {
+                types.add(type);
+                return expression;
+            }
+
+            @Override
+            public Object evaluate(String expression) throws ExpressionEvaluationException {
+                fail("Wrong evaluate method being called (without type)");
+                return expression; // unreachable
+            }
+
+            @Override
+            public File alignToBaseDirectory(File path) {
+                return path;
+            }
+        };
+        DefaultPlexusConfiguration config = new DefaultPlexusConfiguration("name", "${value}");
+        Object result = new StringConverter()
+                .fromConfiguration(new DefaultConverterLookup(), config, null, null, null, evaluator, null);
+        assertEquals("${value}", result);
+        assertEquals(Arrays.asList((Class<?>) null), types);
+    }
+
+    @Test
+    void testTemplatesPassedToExpressionEvaluator() throws ComponentConfigurationException {
+        List<String> evaluated = new ArrayList<>();
+        ExpressionEvaluator evaluator = new TemplateExpressionEvaluator() {
+            @Override
+            public Object evaluate(ExpressionTemplate template, Class<?> type) throws ExpressionEvaluationException {
+                evaluated.add(template.toString());
+                assertTrue(template.isSinglePlaceholder());
+                assertEquals("who", template.getSegment(1));
+                return "world";
+            }
+
+            @Override
+            public Object evaluate(String expression, Class<?> type) throws ExpressionEvaluationException {
+                fail("Wrong evaluate method being called (without template)");
+                return expression; // unreachable
+            }
+
+            @Override
+            public Object evaluate(String expression) throws ExpressionEvaluationException {
+                fail("Wrong evaluate method being called (without template)");
+                return expression; // unreachable
+            }
+
+            @Override
+            public File alignToBaseDirectory(File path) {
+                return path;
+            }
+        };
+        SetterComponent component = new SetterComponent();
+        configure(evaluator, component, "name", "${who}", "count", "3");
+        assertEquals("WORLD", component.name);
+        assertEquals(3, component.count);
+        assertEquals(Arrays.asList("${who}"), evaluated);
+        assertSame(ExpressionTemplate.parse("${who}"), ExpressionTemplate.parse("${who}"));
+    }
+
     @Test
     void testTemporalConvertersWithoutMillisecondsAndOffset() throws ComponentConfigurationException {
         TemporalComponent component = new TemporalComponent();
@@ -215,6 +288,55 @@ class BasicComponentConfiguratorTest {
         assertTrue(complexBean.resources.contains(Resource.newResource("bar")), complexBean.resources.toString());
     }
 
+    @Test
+    void testRepeatedConfigurationOfSameType() throws ComponentConfigurationException {
+        SetterComponent first = new SetterComponent();
+        configure(first, "name", "first", "count", "1");
+        SetterComponent second = new SetterComponent();
+        configure(second, "count", "2", "name", "second");
+        SetterComponent third = new SetterComponent();
+        configure(third, "name", "third");
+
+        assertEquals("FIRST", first.name);
+        assertEquals(1, first.count);
+        assertEquals("SECOND", second.name);
+        assertEquals(2, second.count);
+        assertEquals("THIRD", third.name);
+        assertEquals(0, third.count);
+
+        assertThrows(ComponentConfigurationException.class, () -> configure(new SetterComponent(), "missing", "x"));
+    }
+
+    @Test
+    void testValueTypesFromOtherLoadersAreNotPinned() throws Exception {
+        final WeakReference<ClassLoader> realmRef = configureFromIsolatedRealm();
+
+        configurator = null; // clear so the realm can be collected
+        for (int i = 0; i < 20 && null != realmRef.get(); i++) {
+            System.gc();
+        }
+
+        assertNull(realmRef.get());
+    }
+
+    private WeakReference<ClassLoader> configureFromIsolatedRealm() throws Exception {
+        final ClassWorld world = new ClassWorld("isolated", null);
+        final ClassRealm realm = world.getClassRealm("isolated");
+        realm.addURL(IsolatedValue.class.getProtectionDomain().getCodeSource().getLocation());
+
+        final HolderComponent component = new HolderComponent();
+        final DefaultPlexusConfiguration config = new DefaultPlexusConfiguration("testConfig");
+        final DefaultPlexusConfiguration child = new DefaultPlexusConfiguration("value");
+        child.setAttribute("implementation", IsolatedValue.class.getName());
+        config.addChild(child);
+        configure(null, component, config, realm);
+
+        assertSame(realm, component.value.getClass().getClassLoader());
+
+        world.disposeRealm("isolated");
+        return new WeakReference<>(realm);
+    }
+
     private void configure(Object component, String... keysAndValues) throws ComponentConfigurationException {
         configure(null, component, keysAndValues);
     }
@@ -264,6 +386,26 @@ class BasicComponentConfiguratorTest {
         File absoluteFile;
     }
 
+    public static final class HolderComponent {
+        Object value;
+
+        public void setValue(Object value) {
+            this.value = value;
+        }
+    }
+
+    public static final class IsolatedValue {}
+
+    public static final class SetterComponent {
+        String name;
+
+        int count;
+
+        public void setName(String name) {
+            this.name = name.toUpperCase();
+        }
+    }
+
     public static final class CustomType {
         private final String input;
 
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import java.io.File;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.inject.Named;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.eclipse.sisu.BeanEntry;
+import org.eclipse.sisu.Mediator;
+import org.eclipse.sisu.inject.DefaultBeanLocator;
+import org.eclipse.sisu.inject.DefaultRankingFunction;
+import org.eclipse.sisu.inject.InjectorBindings;
+import org.eclipse.sisu.inject.MutableBeanLocator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Soak test that keeps creating and disposing class realms and child injectors while other threads look up and
+ * watch beans; reports lookup throughput and cache sizes over time, then checks disposed realms and injectors can be
+ * collected. Not part of the normal build, run it with:
+ *
+ * <pre>
+ * mvn -Psoak verify -pl org.eclipse.sisu.plexus -Dsoak.duration=600
+ * </pre>
+ *
+ * Other settings are <i>soak.threads</i>, <i>soak.report</i> (seconds between reports), and <i>soak.maxRetained</i>
+ * (disposed realms or injectors allowed to survive the final garbage collection).
+ */
+class ChurnSoakIT {
+    private static final long DURATION = Long.getLong("soak.duration", 60);
+
+    private static final long REPORT = Long.getLong("soak.report", 10);
+
+    private static final int THREADS = Integer.getInteger("soak.threads", 8);
+
+    private static final int MAX_RETAINED = Integer.getInteger("soak.maxRetained", 0);
+
+    private static final String ROLE = "org.eclipse.sisu.plexus.tests.SomeComponent";
+
+    private static final Key<Churned> CHURNED_KEY = Key.get(Churned.class, Named.class);
+
+    interface Churned {}
+
+    static class ChurnedImpl implements Churned {}
+
+    static class CountingMediator implements Mediator<Named, Churned, AtomicLong> {
+        @Override
+        public void add(final BeanEntry<Named, Churned> entry, final AtomicLong watcher) {
+            watcher.incrementAndGet();
+        }
+
+        @Override
+        public void remove(final BeanEntry<Named, Churned> entry, final AtomicLong watcher) {
+            watcher.decrementAndGet();
+        }
+    }
+
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private final AtomicLong lookups = new AtomicLong();
+
+    private final AtomicLong realms = new AtomicLong();
+
+    private final AtomicLong injectors = new AtomicLong();
+
+    private final Queue<Reference<ClassRealm>> disposedRealms = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Reference<Injector>> disposedInjectors = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void testChurn() throws Exception {
+        final DefaultPlexusContainer plexus = new DefaultPlexusContainer();
+        final MutableBeanLocator locator = plexus.lookup(MutableBeanLocator.class);
+        final URL componentJar = new File("target/test-classes/component-jar/component-jar-0.1.jar")
+                .getCanonicalFile()
+                .toURI()
+                .toURL();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS + 2);
+        executor.execute(guard(() -> churnRealms(plexus, componentJar)));
+        executor.execute(guard(() -> churnInjectors(locator)));
+        for (int i = 0; i < THREADS; i++) {
+            executor.execute(guard(() -> lookupAndWatch(plexus, locator)));
+        }
+
+        System.out.printf(
+                "%8s %12s %8s %10s %9s %9s%n", "seconds", "lookups/s", "realms", "injectors", "bindings", "watchers");
+        final long start = System.nanoTime();
+        long lastLookups = 0;
+        for (long elapsed = 0; elapsed < DURATION && null == failure.get(); ) {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(Math.min(REPORT, DURATION - elapsed)));
+            final long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+            final long currentLookups = lookups.get();
+            System.out.printf(
+                    "%8d %12d %8d %10d %9d %9d%n",
+                    now,
+                    (currentLookups - lastLookups) / Math.max(1, now - elapsed),
+                    realms.get(),
+                    injectors.get(),
+                    cacheSize(locator, "cachedBindings"),
+                    cacheSize(locator, "cachedWatchers"));
+            lastLookups = currentLookups;
+            elapsed = now;
+        }
+
+        running.set(false);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertNull(failure.get());
+
+        final int retainedRealms = retained(disposedRealms);
+        final int retainedInjectors = retained(disposedInjectors);
+        System.out.printf(
+                "retained after GC: %d of %d realms, %d of %d injectors%n",
+                retainedRealms, disposedRealms.size(), retainedInjectors, disposedInjectors.size());
+
+        plexus.dispose();
+
+        assertTrue(retainedRealms <= MAX_RETAINED, "Disposed realms were not collected");
+        assertTrue(retainedInjectors <= MAX_RETAINED, "Disposed injectors were not collected");
+    }
+
+    private void churnRealms(final DefaultPlexusContainer plexus, final URL componentJar) throws Exception {
+        final ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        for (long i = 0; running.get(); i++) {
+            final ClassRealm realm = plexus.createChildRealm("soak-realm-" + i);
+            realm.addURL(componentJar);
+            plexus.discoverComponents(realm);
+
+            Thread.currentThread().setContextClassLoader(realm);
+            try {
+                plexus.lookup(ROLE);
+            } finally {
+                Thread.currentThread().setContextClassLoader(tccl);
+            }
+
+            realm.getWorld().disposeRealm(realm.getId());
+            disposedRealms.add(new WeakReference<>(realm));
+            realms.incrementAndGet();
+        }
+    }
+
+    private void churnInjectors(final MutableBeanLocator locator) {
+        for (int i = 0; running.get(); i++) {
+            final String name = "churned-" + i % 16;
+            final Injector injector = Guice.createInjector(new AbstractModule() {
+                @Override
+                protected void configure() {
+                    bind(Churned.class).annotatedWith(Names.named(name)).to(ChurnedImpl.class);
+                }
+            });
+            final InjectorBindings bindings = new InjectorBindings(injector, new DefaultRankingFunction(i % 3));
+            locator.add(bindings);
+            Thread.yield(); // give lookups a chance to see the new bindings
+            locator.remove(bindings);
+
+            disposedInjectors.add(new WeakReference<>(injector));
+            injectors.incrementAndGet();
+        }
+    }
+
+    private void lookupAndWatch(final DefaultPlexusContainer plexus, final MutableBeanLocator locator) {
+        for (int i = 0; running.get(); i++) {
+            for (final BeanEntry<?, Churned> entry : locator.locate(CHURNED_KEY)) {
+                entry.getValue();
+            }
+            plexus.hasComponent(ROLE);
+            if (i % 64 == 0) {
+                // short-lived watcher, left for the garbage collector to clean up
+                locator.watch(CHURNED_KEY, new CountingMediator(), new AtomicLong());
+            }
+            lookups.incrementAndGet();
+        }
+    }
+
+    private Runnable guard(final Task task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (final Throwable e) {
+                failure.compareAndSet(null, e);
+                running.set(false);
+            }
+        };
+    }
+
+    interface Task {
+        void run() throws Exception;
+    }
+
+    private static int cacheSize(final MutableBeanLocator locator, final String name) throws Exception {
+        final Field field = DefaultBeanLocator.class.getDeclaredField(name);
+        field.setAccessible(true);
+        final Map<?, ?> cache = (Map<?, ?>) field.get(locator);
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static int retained(final Queue<? extends Reference<?>> references) {
+        int retained = references.size();
+        for (int gcCount = 0; retained > 0 && gcCount < 32; gcCount++) {
+            try {
+                final List<byte[]> buf = new ArrayList<>();
+                while (true) {
+                    // keep allocating until memory runs out, which also clears soft references
+                    buf.add(new byte[1024 * 1024]);
+                }
+            } catch (final OutOfMemoryError e) {
+                // ignore...
+            }
+            System.gc();
+
+            retained = 0;
+            for (final Reference<?> ref : references) {
+                if (null != ref.get()) {
+                    retained++;
+                }
+            }
+        }
+        return retained;
+    }
+}
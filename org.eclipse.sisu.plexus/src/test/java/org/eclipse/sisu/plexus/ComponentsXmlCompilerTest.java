@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ */
+package org.eclipse.sisu.plexus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.eclipse.sisu.plexus.PlexusXmlDescriptors.ComponentRecord;
+import org.eclipse.sisu.plexus.PlexusXmlDescriptors.RequirementRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ComponentsXmlCompilerTest {
+    private static final String COMPONENTS_XML = "<component-set><components>"
+            + "<component><role>SomeRole</role><role-hint>some-hint</role-hint>"
+            + "<instantiation-strategy>per-lookup</instantiation-strategy><description>Some &amp; other</description>"
+            + "<implementation>SomeImpl</implementation><requirements>"
+            + "<requirement><role>OtherRole</role><role-hints><role-hint>a</role-hint><role-hint>b</role-hint>"
+            + "</role-hints><field-name>others</field-name><optional>true</optional></requirement>"
+            + "<requirement><role>${some.role}</role></requirement></requirements><configuration>"
+            + "<simple>  ${some.value}  </simple><nested><child>value</child></nested><attrs key='value'/>"
+            + "</configuration></component>"
+            + "<component><implementation>${some.impl}</implementation></component>"
+            + "<component><role>MissingImpl</role></component>"
+            + "</components></component-set>";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testCompiledDescriptorIsLoadedInsteadOfParsing() throws Exception {
+        final byte[] content = COMPONENTS_XML.getBytes(StandardCharsets.UTF_8);
+
+        final ComponentsXmlCompiler.Result result = ComponentsXmlCompiler.compile(content);
+        assertEquals(2, result.getCount());
+        assertNotNull(result.getProblem());
+
+        final String digest = PlexusXmlDescriptors.digestOf(content);
+        final PlexusXmlDescriptors decoded = PlexusXmlDescriptors.decode(digest, result.getData());
+        assertNotNull(decoded);
+        assertEquals(result.getProblem(), decoded.problem);
+        assertEquals(2, decoded.components.size());
+
+        final ComponentRecord component = decoded.components.get(0);
+        assertEquals("SomeRole", component.role);
+        assertEquals("some-hint", component.hint);
+        assertEquals("per-lookup", component.instantiationStrategy);
+        assertEquals("Some & other", component.description);
+        assertEquals("SomeImpl", component.implementation);
+
+        final RequirementRecord requirement = component.requirements.get(0);
+        assertEquals("OtherRole", requirement.role);
+        assertEquals("[a, b]", requirement.hints.toString());
+        assertEquals("others", requirement.fieldName);
+        assertEquals("true", requirement.optional);
+        assertEquals("${some.role}", component.requirements.get(1).role);
+
+        assertEquals("${some.value}", component.configurations.get(0).value);
+        assertEquals("<nested><child>value</child></nested>", component.configurations.get(1).value);
+        assertEquals("<attrs key='value'/>", component.configurations.get(2).value);
+
+        assertEquals("${some.impl}", decoded.components.get(1).implementation);
+
+        // stale descriptors are ignored
+        assertNull(PlexusXmlDescriptors.decode("sha-256:stale", result.getData()));
+
+        // the runtime picks up the compiled descriptor alongside the XML
+        final File componentsXml = new File(tempDir, "components.xml");
+        Files.write(componentsXml.toPath(), content);
+        Files.write(
+                new File(componentsXml.getPath() + ComponentsXmlCompiler.PRECOMPILED_SUFFIX).toPath(),
+                result.getData());
+        final PlexusXmlDescriptors loaded =
+                PlexusXmlDescriptors.load(componentsXml.toURI().toURL());
+        assertEquals(2, loaded.components.size());
+        assertEquals(result.getProblem(), loaded.problem);
+    }
+}
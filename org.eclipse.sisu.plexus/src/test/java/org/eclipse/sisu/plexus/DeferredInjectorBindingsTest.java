@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import com.google.inject.spi.Elements;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.sisu.inject.BindingSubscriber;
+import org.eclipse.sisu.inject.DefaultRankingFunction;
+import org.eclipse.sisu.inject.RankingFunction;
+import org.junit.jupiter.api.Test;
+
+class DeferredInjectorBindingsTest {
+    static class Bean {}
+
+    static class BeanModule extends AbstractModule {
+        @Override
+        protected void configure() {
+            bind(RankingFunction.class).toInstance(new DefaultRankingFunction(7));
+            bind(Bean.class).annotatedWith(Names.named("A")).to(Bean.class);
+        }
+    }
+
+    static class RecordingSubscriber<T> implements BindingSubscriber<T> {
+        final List<Binding<T>> bindings = new ArrayList<>();
+
+        private final TypeLiteral<T> type;
+
+        RecordingSubscriber(final Class<T> clazz) {
+            type = TypeLiteral.get(clazz);
+        }
+
+        @Override
+        public TypeLiteral<T> type() {
+            return type;
+        }
+
+        @Override
+        public void add(final Binding<T> binding, final int rank) {
+            bindings.add(binding);
+        }
+
+        @Override
+        public void remove(final Binding<T> binding) {
+            bindings.remove(binding);
+        }
+
+        @Override
+        public Iterable<Binding<T>> bindings() {
+            return new ArrayList<>(bindings);
+        }
+    }
+
+    @Test
+    void testInjectorIsCreatedOnDemand() {
+        final DeferredInjectorBindings publisher =
+                DeferredInjectorBindings.defer("test", Elements.getElements(new BeanModule()));
+
+        assertNotNull(publisher);
+        assertEquals(new DefaultRankingFunction(7).maxRank(), publisher.maxBindingRank());
+
+        final RecordingSubscriber<String> strings = new RecordingSubscriber<>(String.class);
+        publisher.subscribe(strings);
+        assertTrue(strings.bindings.isEmpty());
+        assertFalse(publisher.isCreated());
+        assertNull(publisher.adapt(Injector.class));
+
+        final RecordingSubscriber<Bean> beans = new RecordingSubscriber<>(Bean.class);
+        publisher.subscribe(beans);
+        assertFalse(beans.bindings.isEmpty());
+        assertTrue(publisher.isCreated());
+        assertNotNull(publisher.adapt(Injector.class));
+
+        publisher.unsubscribe(beans);
+        assertTrue(beans.bindings.isEmpty());
+    }
+
+    @Test
+    void testPublisherAdvertisesRecordedNames() {
+        final DeferredInjectorBindings publisher =
+                DeferredInjectorBindings.defer("test", Elements.getElements(new BeanModule() {
+                    @Override
+                    protected void configure() {
+                        super.configure();
+                        bind(Runnable.class).to(Thread.class);
+                        bind(Thread.class);
+                    }
+                }));
+
+        assertNotNull(publisher);
+
+        assertTrue(publisher.mayPublish(TypeLiteral.get(Bean.class), "A"));
+        assertFalse(publisher.mayPublish(TypeLiteral.get(Bean.class), "B"));
+        assertFalse(publisher.mayPublish(TypeLiteral.get(String.class), "A"));
+        assertTrue(publisher.mayPublish(TypeLiteral.get(Runnable.class), "default"));
+        assertFalse(publisher.mayPublish(TypeLiteral.get(Runnable.class), "A"));
+
+        // implementation bindings could also be found under an alias
+        assertTrue(publisher.mayPublish(TypeLiteral.get(Thread.class), "A"));
+        assertFalse(publisher.isCreated());
+
+        publisher.create();
+        assertTrue(publisher.mayPublish(TypeLiteral.get(Bean.class), "B"));
+    }
+
+    @Test
+    void testEagerBindingsAreNotDeferred() {
+        assertNull(DeferredInjectorBindings.defer("test", Elements.getElements(new BeanModule() {
+            @Override
+            protected void configure() {
+                super.configure();
+                bind(Bean.class).asEagerSingleton();
+            }
+        })));
+    }
+
+    @Test
+    void testUnknownRankIsNotDeferred() {
+        assertNull(DeferredInjectorBindings.defer("test", Elements.getElements(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Bean.class).annotatedWith(Names.named("A")).to(Bean.class);
+            }
+        })));
+    }
+}
@@ -284,6 +284,56 @@ class PlexusBeanLocatorTest {
         assertNull(m3.getValue());
     }
 
+    @Test
+    void testRepeatedHintLookup() {
+        final MutableBeanLocator locator = new DefaultBeanLocator();
+
+        final Iterable<? extends Entry<String, Bean>> roles =
+                new DefaultPlexusBeanLocator(locator).locate(TypeLiteral.get(Bean.class), "M1", "?", "M1", "?", "N3");
+
+        publishInjector(locator, child1, 1);
+
+        Iterator<? extends Entry<String, Bean>> i;
+
+        i = roles.iterator();
+        final Entry<String, Bean> m1a = i.next();
+        final Entry<String, Bean> missing1 = i.next();
+        final Entry<String, Bean> m1b = i.next();
+        final Entry<String, Bean> missing2 = i.next();
+        final Entry<String, Bean> n3 = i.next();
+        assertFalse(i.hasNext());
+
+        assertEquals("M1", m1a.getKey());
+        assertEquals("M1", m1b.getKey());
+        assertSame(m1a.getValue(), m1b.getValue());
+        assertEquals("?=<missing>", missing1.toString());
+        assertEquals("?=<missing>", missing2.toString());
+        assertEquals("N3=<missing>", n3.toString());
+
+        publishInjector(locator, child3, 3);
+
+        // each hint lookup follows later injectors and their ranking
+        i = roles.iterator();
+        assertSame(m1a.getValue(), i.next().getValue());
+        assertEquals("?=<missing>", i.next().toString());
+        assertSame(m1a.getValue(), i.next().getValue());
+        assertEquals("?=<missing>", i.next().toString());
+        final Entry<String, Bean> n3Found = i.next();
+        assertEquals("N3", n3Found.getKey());
+        assertEquals(BeanImpl.class, n3Found.getValue().getClass());
+        assertFalse(i.hasNext());
+
+        unpublishInjector(locator, child1);
+
+        i = roles.iterator();
+        assertEquals("M1=<missing>", i.next().toString());
+        assertEquals("?=<missing>", i.next().toString());
+        assertEquals("M1=<missing>", i.next().toString());
+        assertEquals("?=<missing>", i.next().toString());
+        assertSame(n3Found.getValue(), i.next().getValue());
+        assertFalse(i.hasNext());
+    }
+
     @Test
     void testInjectorVisibility() throws NoSuchRealmException {
         final MutableBeanLocator locator = new DefaultBeanLocator();
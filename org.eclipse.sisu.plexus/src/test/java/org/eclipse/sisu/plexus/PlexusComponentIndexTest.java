@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Scopes;
+import com.google.inject.name.Names;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import org.eclipse.sisu.plexus.ComponentAnnotationTest.A;
+import org.eclipse.sisu.space.BeanScanning;
+import org.eclipse.sisu.space.ClassSpace;
+import org.eclipse.sisu.space.URLClassSpace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PlexusComponentIndexTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testIndexedComponents() throws IOException {
+        final String prefix = ComponentAnnotationTest.class.getName() + '$';
+        final String role = prefix + "A";
+
+        final File index = new File(tempDir, "META-INF/sisu/org.codehaus.plexus.component.annotations.Component");
+        index.getParentFile().mkdirs();
+        Files.write(
+                index.toPath(),
+                Arrays.asList(
+                        "# comment",
+                        prefix + "DefaultA " + role + " singleton default",
+                        prefix + "NamedPrototypeA " + role + " per-lookup Named",
+                        prefix + "DescribedA " + role + " singleton described Some+thing",
+                        prefix + "MissingA " + role + " singleton missing",
+                        "malformed"),
+                StandardCharsets.UTF_8);
+
+        final URL[] path = {tempDir.toURI().toURL()};
+        final ClassSpace space =
+                new URLClassSpace(new URLClassLoader(path, getClass().getClassLoader()), path);
+
+        final Injector injector = Guice.createInjector(new PlexusBindingModule(
+                null, new PlexusAnnotatedBeanModule(space, Collections.emptyMap(), BeanScanning.INDEX, false)));
+
+        assertTrue(Scopes.isSingleton(injector.getBinding(A.class)));
+        assertFalse(Scopes.isSingleton(injector.getBinding(Key.get(A.class, Names.named("Named")))));
+        assertNotNull(injector.getExistingBinding(Key.get(A.class, Names.named("described"))));
+        assertNull(injector.getExistingBinding(Key.get(A.class, Names.named("missing"))));
+    }
+}
@@ -14,12 +14,20 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.ProvisionException;
+import com.google.inject.TypeLiteral;
+import com.google.inject.util.Types;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -164,10 +172,51 @@ class PlexusConfigurationTest {
         assertEquals(Double.valueOf(4.0), jitComponent.d);
         assertEquals(5.0, jitComponent.e, 0);
 
+        // repeated XML conversions must still produce fresh instances
+        assertEquals(expectedMap, jitComponent.map);
+        assertNotSame(component.map, jitComponent.map);
+        assertNotSame(component.map.get("key1"), jitComponent.map.get("key1"));
+        assertNotSame(component.xmlContainer, jitComponent.xmlContainer);
+        assertNotSame(component.xmlContainer.xml, jitComponent.xmlContainer.xml);
+        assertEquals(component.xmlContainer.xml, jitComponent.xmlContainer.xml);
+
         assertEquals(2, ComponentManager.SEEN);
 
         assertThrows(ProvisionException.class, () -> injector.getInstance(MisconfiguredComponent.class));
 
         assertEquals(2, ComponentManager.SEEN);
     }
+
+    @Test
+    void testConvertedTypesAreNotPinned() throws Exception {
+        final PlexusBeanConverter converter = injector.getInstance(PlexusBeanConverter.class);
+        final WeakReference<ClassLoader> loaderRef = convertIsolatedBeans(converter);
+
+        for (int i = 0; i < 20 && null != loaderRef.get(); i++) {
+            System.gc();
+        }
+
+        assertNull(loaderRef.get());
+    }
+
+    private static WeakReference<ClassLoader> convertIsolatedBeans(final PlexusBeanConverter converter)
+            throws Exception {
+        final URL[] path = {
+            IsolatedBean.class.getProtectionDomain().getCodeSource().getLocation()
+        };
+        try (URLClassLoader loader = new URLClassLoader(path, null)) {
+            final Class<?> beanType = loader.loadClass(IsolatedBean.class.getName());
+            final String xml = "<beans><bean><name>A</name></bean><bean><name>B</name></bean></beans>";
+            for (int i = 0; i < 2; i++) {
+                final List<?> beans = (List<?>) converter.convert(TypeLiteral.get(Types.listOf(beanType)), xml);
+                assertEquals(2, beans.size());
+                assertSame(beanType, beans.get(0).getClass());
+            }
+            return new WeakReference<>(loader);
+        }
+    }
+
+    public static class IsolatedBean {
+        String name;
+    }
 }
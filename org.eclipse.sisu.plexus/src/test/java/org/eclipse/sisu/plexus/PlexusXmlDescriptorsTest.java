@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2010-present Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Stuart McCulloch (Sonatype, Inc.) - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sisu.plexus;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import org.eclipse.sisu.plexus.PlexusXmlDescriptors.ComponentRecord;
+import org.eclipse.sisu.plexus.PlexusXmlDescriptors.ConfigurationRecord;
+import org.eclipse.sisu.plexus.PlexusXmlDescriptors.RequirementRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PlexusXmlDescriptorsTest {
+    private static final String COMPONENTS_XML = "<component-set><components><component>"
+            + "<role>SomeRole</role><implementation>SomeImpl</implementation>"
+            + "</component></components></component-set>";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testPrecompiledDescriptor() throws IOException {
+        final byte[] content = COMPONENTS_XML.getBytes(StandardCharsets.UTF_8);
+
+        final File upToDate = new File(tempDir, "up-to-date/components.xml");
+        upToDate.getParentFile().mkdirs();
+        Files.write(upToDate.toPath(), content);
+        writePrecompiled(upToDate, PlexusXmlDescriptors.digestOf(content));
+
+        // precompiled record should be used instead of parsing the XML
+        final PlexusXmlDescriptors precompiled =
+                PlexusXmlDescriptors.load(upToDate.toURI().toURL());
+        assertEquals(1, precompiled.components.size());
+        assertEquals("PrecompiledImpl", precompiled.components.get(0).implementation);
+        assertNull(precompiled.problem);
+
+        final byte[] otherContent =
+                COMPONENTS_XML.replace("<components>", "<components> ").getBytes(StandardCharsets.UTF_8);
+
+        final File stale = new File(tempDir, "stale/components.xml");
+        stale.getParentFile().mkdirs();
+        Files.write(stale.toPath(), otherContent);
+        writePrecompiled(stale, PlexusXmlDescriptors.digestOf(content));
+
+        // stale precompiled record should be ignored
+        final PlexusXmlDescriptors parsed =
+                PlexusXmlDescriptors.load(stale.toURI().toURL());
+        assertEquals(1, parsed.components.size());
+        assertEquals("SomeImpl", parsed.components.get(0).implementation);
+        assertNull(parsed.problem);
+    }
+
+    @Test
+    void testRecordsAreSharedByContent() throws IOException {
+        final byte[] content = COMPONENTS_XML.replace("SomeImpl", "SharedImpl").getBytes(StandardCharsets.UTF_8);
+
+        final File first = new File(tempDir, "first/components.xml");
+        first.getParentFile().mkdirs();
+        Files.write(first.toPath(), content);
+
+        final File second = new File(tempDir, "second/components.xml");
+        second.getParentFile().mkdirs();
+        Files.write(second.toPath(), content);
+
+        final PlexusXmlDescriptors descriptors =
+                PlexusXmlDescriptors.load(first.toURI().toURL());
+        assertSame(descriptors, PlexusXmlDescriptors.load(second.toURI().toURL()));
+
+        // same location, size, and timestamp but different content must not reuse the old records
+        final long lastModified = first.lastModified();
+        Files.write(
+                first.toPath(),
+                COMPONENTS_XML.replace("SomeImpl", "ChangedImpl").getBytes(StandardCharsets.UTF_8));
+        first.setLastModified(lastModified);
+        assertEquals(
+                "ChangedImpl",
+                PlexusXmlDescriptors.load(first.toURI().toURL()).components.get(0).implementation);
+    }
+
+    @Test
+    void testDiskCache() throws IOException {
+        final File cacheDir = new File(tempDir, "cache");
+        final PlexusXmlDescriptors descriptors =
+                PlexusXmlDescriptors.parse(COMPONENTS_XML.getBytes(StandardCharsets.UTF_8));
+
+        assertNull(PlexusXmlDescriptors.restore(cacheDir, "some-key"));
+
+        PlexusXmlDescriptors.store(cacheDir, "some-key", descriptors);
+
+        final PlexusXmlDescriptors restored = PlexusXmlDescriptors.restore(cacheDir, "some-key");
+        assertEquals(1, restored.components.size());
+        assertEquals("SomeRole", restored.components.get(0).role);
+        assertEquals("SomeImpl", restored.components.get(0).implementation);
+        assertNull(restored.problem);
+
+        assertNull(PlexusXmlDescriptors.restore(cacheDir, "other-key"));
+        assertArrayEquals(
+                new String[] {
+                    PlexusXmlDescriptors.cacheFile(cacheDir, "some-key").getName()
+                },
+                cacheDir.list());
+    }
+
+    @Test
+    void testStoreCleansUpAfterFailedMove() throws IOException {
+        final File cacheDir = new File(tempDir, "cache");
+        final PlexusXmlDescriptors descriptors =
+                PlexusXmlDescriptors.parse(COMPONENTS_XML.getBytes(StandardCharsets.UTF_8));
+
+        // a non-empty directory in place of the cache file can't be replaced
+        final File blocker = PlexusXmlDescriptors.cacheFile(cacheDir, "some-key");
+        new File(blocker, "child").mkdirs();
+
+        PlexusXmlDescriptors.store(cacheDir, "some-key", descriptors);
+
+        assertArrayEquals(new String[] {blocker.getName()}, cacheDir.list());
+        assertNull(PlexusXmlDescriptors.restore(cacheDir, "some-key"));
+    }
+
+    private static void writePrecompiled(final File componentsXml, final String digest) throws IOException {
+        final ComponentRecord record = new ComponentRecord(
+                "SomeRole",
+                "",
+                Strategies.SINGLETON,
+                "",
+                "PrecompiledImpl",
+                Collections.<RequirementRecord>emptyList(),
+                Collections.<ConfigurationRecord>emptyList());
+        final PlexusXmlDescriptors descriptors = new PlexusXmlDescriptors(Collections.singletonList(record), null);
+        Files.write(
+                new File(componentsXml.getPath() + PlexusXmlDescriptors.PRECOMPILED_SUFFIX).toPath(),
+                PlexusXmlDescriptors.encode(digest, descriptors));
+    }
+}
@@ -313,6 +313,24 @@ class PlexusXmlScannerTest {
                         .value());
     }
 
+    @Test
+    void testInterpolatedValuesAreDecodedAndTrimmed() {
+        final ClassSpace space = new FixedClassSpace("/META-INF/plexus/variable_components.xml");
+
+        final Map<String, PlexusBeanMetadata> metadata = new HashMap<>();
+
+        // values are applied to cached records, but should read as if they'd been filtered into the XML
+        final Map<?, ?> variables = Collections.singletonMap("some.value", "  a &amp; &lt;b&gt; &#65;&#x42;  ");
+
+        new PlexusXmlScanner(variables, null, metadata).scan(space, true);
+
+        assertEquals(
+                "a & <b> AB",
+                metadata.get(DefaultBean.class.getName())
+                        .getConfiguration(new NamedProperty("variable"))
+                        .value());
+    }
+
     @Test
     void testLocalizedXmlScanning() {
         final ClassSpace space = new URLClassSpace(PlexusXmlScannerTest.class.getClassLoader(), null);
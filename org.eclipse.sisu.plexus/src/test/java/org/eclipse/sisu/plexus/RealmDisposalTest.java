@@ -10,9 +10,21 @@
  *******************************************************************************/
 package org.eclipse.sisu.plexus;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.codehaus.plexus.DefaultContainerConfiguration;
 import org.codehaus.plexus.DefaultPlexusContainer;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.junit.jupiter.api.AfterEach;
@@ -59,6 +71,71 @@ class RealmDisposalTest {
         assertNotNull(plexus.lookup("org.eclipse.sisu.plexus.tests.SomeComponent"));
     }
 
+    @Test
+    void testRoleLookupFollowsRealmChanges() throws Exception {
+        final String realmId = "role-realm";
+        final String role = "org.eclipse.sisu.plexus.tests.SomeComponent";
+
+        final DefaultPlexusContainer plexus = new DefaultPlexusContainer();
+
+        ClassRealm realm = plexus.createChildRealm(realmId);
+        Thread.currentThread().setContextClassLoader(realm);
+
+        // cached miss must not survive the realm being populated
+        assertFalse(plexus.hasComponent(role));
+        realm.addURL(new File("target/test-classes/component-jar/component-jar-0.1.jar")
+                .getCanonicalFile()
+                .toURI()
+                .toURL());
+        plexus.discoverComponents(realm);
+        final Object component = plexus.lookup(role);
+        assertNotNull(component);
+        assertTrue(plexus.hasComponent(role));
+
+        realm.getWorld().disposeRealm(realm.getId());
+        Thread.currentThread().setContextClassLoader(origCL);
+        assertFalse(plexus.hasComponent(role));
+
+        realm = plexus.createChildRealm(realmId);
+        realm.addURL(new File("target/test-classes/component-jar/component-jar-0.1.jar")
+                .getCanonicalFile()
+                .toURI()
+                .toURL());
+        Thread.currentThread().setContextClassLoader(realm);
+        plexus.discoverComponents(realm);
+        assertNotSame(component.getClass(), plexus.lookup(role).getClass());
+    }
+
+    @Test
+    void testDeferredRealmInjectors() throws Exception {
+        final String realmId = "deferred-realm";
+        final String role = "org.eclipse.sisu.plexus.tests.SomeComponent";
+
+        final DefaultPlexusContainer plexus =
+                new DefaultPlexusContainer(new DefaultContainerConfiguration().setDeferInjectors(true));
+
+        ClassRealm realm = plexus.createChildRealm(realmId);
+        realm.addURL(new File("target/test-classes/component-jar/component-jar-0.1.jar")
+                .getCanonicalFile()
+                .toURI()
+                .toURL());
+        Thread.currentThread().setContextClassLoader(realm);
+        plexus.discoverComponents(realm);
+        final Object component = plexus.lookup(role);
+        assertNotNull(component);
+
+        realm.getWorld().disposeRealm(realm.getId());
+
+        realm = plexus.createChildRealm(realmId);
+        realm.addURL(new File("target/test-classes/component-jar/component-jar-0.1.jar")
+                .getCanonicalFile()
+                .toURI()
+                .toURL());
+        Thread.currentThread().setContextClassLoader(realm);
+        plexus.discoverComponents(realm);
+        assertNotSame(component.getClass(), plexus.lookup(role).getClass());
+    }
+
     // the point of this disabled test is to manually assert all references to the disposed realms are cleared
     // the test runs create/dispose the same realm 100k times and prints 1k iterations how long it took
     // each 1k are expected to take about the same time to execute (as opposed to always increasing time)
@@ -99,4 +176,56 @@ class RealmDisposalTest {
 
         System.in.read();
     }
+
+    @Test
+    void testBatchDiscovery() throws Exception {
+        final DefaultPlexusContainer plexus = new DefaultPlexusContainer();
+
+        final ClassRealm emptyRealm = plexus.createChildRealm("empty-realm");
+        final ClassRealm realm = plexus.createChildRealm("batch-realm");
+        realm.addURL(new File("target/test-classes/component-jar/component-jar-0.1.jar")
+                .getCanonicalFile()
+                .toURI()
+                .toURL());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            plexus.discoverComponents(Arrays.asList(emptyRealm, realm), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        Thread.currentThread().setContextClassLoader(realm);
+        assertNotNull(plexus.lookup("org.eclipse.sisu.plexus.tests.SomeComponent"));
+    }
+
+    @Test
+    void testBatchDiscoveryPublishesRealmsBeforeFailing() throws Exception {
+        final DefaultPlexusContainer plexus =
+                new DefaultPlexusContainer(new DefaultContainerConfiguration().setStrictClassPathScanning(true));
+
+        final ClassRealm failedRealm = plexus.createChildRealm("failed-realm");
+        final ClassRealm realm = plexus.createChildRealm("published-realm");
+        realm.addURL(new File("target/test-classes/component-jar/component-jar-0.1.jar")
+                .getCanonicalFile()
+                .toURI()
+                .toURL());
+
+        // the first realm's task never runs, so waiting on it fails
+        final AtomicInteger count = new AtomicInteger();
+        final Executor executor = task -> {
+            if (count.getAndIncrement() == 0) {
+                ((Future<?>) task).cancel(false);
+            } else {
+                task.run();
+            }
+        };
+
+        assertThrows(
+                CancellationException.class,
+                () -> plexus.discoverComponents(Arrays.asList(failedRealm, realm), executor));
+
+        Thread.currentThread().setContextClassLoader(realm);
+        assertNotNull(plexus.lookup("org.eclipse.sisu.plexus.tests.SomeComponent"));
+    }
 }